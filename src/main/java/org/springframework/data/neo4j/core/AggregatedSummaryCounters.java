@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.neo4j.driver.summary.SummaryCounters;
+
+/**
+ * Adds up the counters of several statements, for example all chunks of a batch.
+ *
+ * @since 6.2
+ */
+final class AggregatedSummaryCounters implements SummaryCounters {
+
+	private int nodesCreated;
+	private int nodesDeleted;
+	private int relationshipsCreated;
+	private int relationshipsDeleted;
+	private int propertiesSet;
+	private int labelsAdded;
+	private int labelsRemoved;
+	private int indexesAdded;
+	private int indexesRemoved;
+	private int constraintsAdded;
+	private int constraintsRemoved;
+	private int systemUpdates;
+
+	void add(SummaryCounters counters) {
+
+		this.nodesCreated += counters.nodesCreated();
+		this.nodesDeleted += counters.nodesDeleted();
+		this.relationshipsCreated += counters.relationshipsCreated();
+		this.relationshipsDeleted += counters.relationshipsDeleted();
+		this.propertiesSet += counters.propertiesSet();
+		this.labelsAdded += counters.labelsAdded();
+		this.labelsRemoved += counters.labelsRemoved();
+		this.indexesAdded += counters.indexesAdded();
+		this.indexesRemoved += counters.indexesRemoved();
+		this.constraintsAdded += counters.constraintsAdded();
+		this.constraintsRemoved += counters.constraintsRemoved();
+		this.systemUpdates += counters.systemUpdates();
+	}
+
+	@Override
+	public boolean containsUpdates() {
+		return nodesCreated > 0 || nodesDeleted > 0 || relationshipsCreated > 0 || relationshipsDeleted > 0
+				|| propertiesSet > 0 || labelsAdded > 0 || labelsRemoved > 0 || indexesAdded > 0 || indexesRemoved > 0
+				|| constraintsAdded > 0 || constraintsRemoved > 0;
+	}
+
+	@Override
+	public int nodesCreated() {
+		return nodesCreated;
+	}
+
+	@Override
+	public int nodesDeleted() {
+		return nodesDeleted;
+	}
+
+	@Override
+	public int relationshipsCreated() {
+		return relationshipsCreated;
+	}
+
+	@Override
+	public int relationshipsDeleted() {
+		return relationshipsDeleted;
+	}
+
+	@Override
+	public int propertiesSet() {
+		return propertiesSet;
+	}
+
+	@Override
+	public int labelsAdded() {
+		return labelsAdded;
+	}
+
+	@Override
+	public int labelsRemoved() {
+		return labelsRemoved;
+	}
+
+	@Override
+	public int indexesAdded() {
+		return indexesAdded;
+	}
+
+	@Override
+	public int indexesRemoved() {
+		return indexesRemoved;
+	}
+
+	@Override
+	public int constraintsAdded() {
+		return constraintsAdded;
+	}
+
+	@Override
+	public int constraintsRemoved() {
+		return constraintsRemoved;
+	}
+
+	@Override
+	public boolean containsSystemUpdates() {
+		return systemUpdates > 0;
+	}
+
+	@Override
+	public int systemUpdates() {
+		return systemUpdates;
+	}
+
+	@Override
+	public String toString() {
+		return "AggregatedSummaryCounters{" +
+				"nodesCreated=" + nodesCreated +
+				", nodesDeleted=" + nodesDeleted +
+				", relationshipsCreated=" + relationshipsCreated +
+				", relationshipsDeleted=" + relationshipsDeleted +
+				", propertiesSet=" + propertiesSet +
+				", labelsAdded=" + labelsAdded +
+				", labelsRemoved=" + labelsRemoved +
+				", indexesAdded=" + indexesAdded +
+				", indexesRemoved=" + indexesRemoved +
+				", constraintsAdded=" + constraintsAdded +
+				", constraintsRemoved=" + constraintsRemoved +
+				", systemUpdates=" + systemUpdates +
+				'}';
+	}
+}
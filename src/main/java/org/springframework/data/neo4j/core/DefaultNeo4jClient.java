@@ -15,24 +15,36 @@
  */
 package org.springframework.data.neo4j.core;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.ConverterRegistry;
@@ -40,6 +52,7 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionUtils;
 import org.springframework.lang.Nullable;
@@ -60,12 +73,26 @@ class DefaultNeo4jClient implements Neo4jClient {
 	private final DatabaseSelectionProvider databaseSelectionProvider;
 	private final ConversionService conversionService;
 	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+	private final ThreadLocal<SharedSession> sharedSession = new ThreadLocal<>();
+	private final boolean routeReadOnlyStatementsToReaders;
+	/**
+	 * Keeps the bookmarks of the sessions opened by this client and, when shared with a transaction manager, of the
+	 * managed transactions, too. Only present when read only statements are routed to readers.
+	 */
+	@Nullable private final Neo4jBookmarkManager bookmarkManager;
 
 	DefaultNeo4jClient(Driver driver, DatabaseSelectionProvider databaseSelectionProvider) {
+		this(driver, databaseSelectionProvider, null);
+	}
+
+	DefaultNeo4jClient(Driver driver, DatabaseSelectionProvider databaseSelectionProvider,
+			@Nullable Neo4jBookmarkManager bookmarkManager) {
 
 		this.driver = driver;
 		this.typeSystem = driver.defaultTypeSystem();
 		this.databaseSelectionProvider = databaseSelectionProvider;
+		this.routeReadOnlyStatementsToReaders = bookmarkManager != null;
+		this.bookmarkManager = bookmarkManager;
 
 		this.conversionService = new DefaultConversionService();
 		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
@@ -73,13 +100,70 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 	AutoCloseableQueryRunner getQueryRunner(@Nullable final String targetDatabase) {
 
+		return getQueryRunner(targetDatabase, AccessMode.WRITE);
+	}
+
+	/**
+	 * Retrieves the query runner of the ongoing Spring managed transaction, the session shared via
+	 * {@link #inSession(SessionCallback)} or opens a new session.
+	 *
+	 * @param targetDatabase The database to run the statements in
+	 * @param accessMode     The access mode of a new session, ignored when a transaction or a shared session is ongoing
+	 * @return A query runner that needs to be closed after use
+	 */
+	AutoCloseableQueryRunner getQueryRunner(@Nullable final String targetDatabase, AccessMode accessMode) {
+
 		QueryRunner queryRunner = Neo4jTransactionManager.retrieveTransaction(driver, targetDatabase);
-		if (queryRunner == null) {
-			queryRunner = driver.session(Neo4jTransactionUtils.defaultSessionConfig(targetDatabase));
+		if (queryRunner != null) {
+			return new DelegatingQueryRunner(queryRunner, false);
 		}
 
-		return (AutoCloseableQueryRunner) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				new Class<?>[] { AutoCloseableQueryRunner.class }, new AutoCloseableQueryRunnerHandler(queryRunner));
+		SharedSession currentSharedSession = this.sharedSession.get();
+		if (currentSharedSession != null && currentSharedSession.isFor(targetDatabase)) {
+			return new DelegatingQueryRunner(currentSharedSession.session, false);
+		}
+
+		return openSession(targetDatabase, accessMode);
+	}
+
+	/**
+	 * Opens a new session that is closed together with the returned query runner. When read only statements are routed
+	 * to readers, the session starts with the current bookmarks and its last bookmark replaces them after closing it.
+	 *
+	 * @param targetDatabase The database to run the statements in
+	 * @param accessMode     The access mode of the new session
+	 * @return A query runner delegating to the new session
+	 */
+	private DelegatingQueryRunner openSession(@Nullable String targetDatabase, AccessMode accessMode) {
+
+		Collection<Bookmark> usedBookmarks = getBookmarks();
+		return new DelegatingQueryRunner(driver.session(sessionConfig(targetDatabase, accessMode, usedBookmarks)), true,
+				bookmarkManager == null ? null : lastBookmark -> updateBookmarks(usedBookmarks, lastBookmark));
+	}
+
+	/**
+	 * When read only statements are routed to readers, all new sessions start with the bookmarks of the sessions
+	 * closed by this client and of the transactions committed by a transaction manager sharing the bookmark manager,
+	 * so that readers can't return data older than the writes done before.
+	 *
+	 * @return The bookmarks to start a new session with
+	 */
+	private Collection<Bookmark> getBookmarks() {
+
+		return bookmarkManager == null ? Collections.emptyList() : bookmarkManager.getBookmarks();
+	}
+
+	private SessionConfig sessionConfig(@Nullable String targetDatabase, AccessMode accessMode,
+			Collection<Bookmark> bookmarks) {
+
+		return Neo4jTransactionUtils.sessionConfig(accessMode == AccessMode.READ, bookmarks, targetDatabase);
+	}
+
+	private void updateBookmarks(Collection<Bookmark> usedBookmarks, @Nullable Bookmark lastBookmark) {
+
+		if (bookmarkManager != null && lastBookmark != null) {
+			bookmarkManager.updateBookmarks(usedBookmarks, lastBookmark);
+		}
 	}
 
 	/**
@@ -91,32 +175,85 @@ class DefaultNeo4jClient implements Neo4jClient {
 		void close();
 	}
 
-	static class AutoCloseableQueryRunnerHandler implements InvocationHandler {
+	/**
+	 * Delegates all calls to a query runner and closes it only when it is a session that has been opened for the
+	 * caller alone.
+	 */
+	static final class DelegatingQueryRunner implements AutoCloseableQueryRunner {
+
+		private final QueryRunner delegate;
 
-		private final QueryRunner target;
+		private final boolean closeDelegate;
 
-		AutoCloseableQueryRunnerHandler(QueryRunner target) {
-			this.target = target;
+		@Nullable private final Consumer<Bookmark> lastBookmarkConsumer;
+
+		DelegatingQueryRunner(QueryRunner delegate, boolean closeDelegate) {
+			this(delegate, closeDelegate, null);
+		}
+
+		DelegatingQueryRunner(QueryRunner delegate, boolean closeDelegate,
+				@Nullable Consumer<Bookmark> lastBookmarkConsumer) {
+			this.delegate = delegate;
+			this.closeDelegate = closeDelegate;
+			this.lastBookmarkConsumer = lastBookmarkConsumer;
 		}
 
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		public Result run(String query, Value parameters) {
+			return delegate.run(query, parameters);
+		}
 
-			if ("close".equals(method.getName())) {
-				if (this.target instanceof Session) {
-					((Session) this.target).close();
-				}
-				return null;
-			} else {
-				try {
-					return method.invoke(target, args);
-				} catch (InvocationTargetException ite) {
-					throw ite.getCause();
+		@Override
+		public Result run(String query, Map<String, Object> parameters) {
+			return delegate.run(query, parameters);
+		}
+
+		@Override
+		public Result run(String query, Record parameters) {
+			return delegate.run(query, parameters);
+		}
+
+		@Override
+		public Result run(String query) {
+			return delegate.run(query);
+		}
+
+		@Override
+		public Result run(Query query) {
+			return delegate.run(query);
+		}
+
+		@Override
+		public void close() {
+			if (this.closeDelegate && this.delegate instanceof Session) {
+				Session session = (Session) this.delegate;
+				session.close();
+				if (this.lastBookmarkConsumer != null) {
+					this.lastBookmarkConsumer.accept(session.lastBookmark());
 				}
 			}
 		}
 	}
 
+	/**
+	 * A session bound to the current thread by {@link #inSession(SessionCallback)}.
+	 */
+	private static final class SharedSession {
+
+		@Nullable private final String targetDatabase;
+
+		private final Session session;
+
+		SharedSession(@Nullable String targetDatabase, Session session) {
+			this.targetDatabase = targetDatabase;
+			this.session = session;
+		}
+
+		boolean isFor(@Nullable String otherTargetDatabase) {
+			return Objects.equals(this.targetDatabase, otherTargetDatabase);
+		}
+	}
+
 	// Below are all the implementations (methods and classes) as defined by the contracts of Neo4jClient
 
 	@Override
@@ -129,6 +266,11 @@ class DefaultNeo4jClient implements Neo4jClient {
 		return new DefaultRunnableSpec(cypherSupplier);
 	}
 
+	@Override
+	public BatchSpec batch(String cypher) {
+		return new DefaultBatchSpec(cypher);
+	}
+
 	@Override
 	public <T> OngoingDelegation<T> delegateTo(Function<QueryRunner, Optional<T>> callback) {
 		return new DefaultRunnableDelegation<>(callback);
@@ -139,6 +281,42 @@ class DefaultNeo4jClient implements Neo4jClient {
 		return databaseSelectionProvider;
 	}
 
+	@Override
+	@Nullable
+	public <T> T inSession(SessionCallback<T> callback) {
+
+		String targetDatabase = Neo4jClient.verifyDatabaseName(resolveTargetDatabaseName(null));
+		SharedSession ongoingSharedSession = this.sharedSession.get();
+		if (ongoingSharedSession != null && ongoingSharedSession.isFor(targetDatabase)) {
+			return callback.doInSession(this);
+		}
+
+		try (DelegatingQueryRunner closeableSession = openSession(targetDatabase, AccessMode.WRITE)) {
+			this.sharedSession.set(new SharedSession(targetDatabase, (Session) closeableSession.delegate));
+			return callback.doInSession(this);
+		} finally {
+			if (ongoingSharedSession == null) {
+				this.sharedSession.remove();
+			} else {
+				this.sharedSession.set(ongoingSharedSession);
+			}
+		}
+	}
+
+	@Nullable
+	private String resolveTargetDatabaseName(@Nullable String parameterTargetDatabase) {
+		if (parameterTargetDatabase != null) {
+			return parameterTargetDatabase;
+		}
+		if (databaseSelectionProvider != null) {
+			String databaseSelectionProviderValue = databaseSelectionProvider.getDatabaseSelection().getValue();
+			if (databaseSelectionProviderValue != null) {
+				return databaseSelectionProviderValue;
+			}
+		}
+		return DatabaseSelectionProvider.getDefaultSelectionProvider().getDatabaseSelection().getValue();
+	}
+
 	/**
 	 * Basically a holder of a cypher template supplier and a set of named parameters. It's main purpose is to orchestrate
 	 * the running of things with a bit of logging.
@@ -158,8 +336,42 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 		private final NamedParameters parameters;
 
+		@Nullable private String cypher;
+
+		/**
+		 * @return The Cypher statement, the supplier is only called once
+		 */
+		String getCypher() {
+			if (this.cypher == null) {
+				this.cypher = this.cypherSupplier.get();
+			}
+			return this.cypher;
+		}
+
+		/**
+		 * @return The access mode for fetching the records of this statement outside a transaction
+		 */
+		AccessMode getAccessModeForFetching() {
+			return routeReadOnlyStatementsToReaders ?
+					ReadOnlyStatements.accessModeForFetching(getCypher()) :
+					AccessMode.WRITE;
+		}
+
 		protected final Result runWith(AutoCloseableQueryRunner statementRunner) {
-			String statementTemplate = cypherSupplier.get();
+			String statementTemplate = getCypher();
+			log(statementTemplate);
+
+			return statementRunner.run(statementTemplate, parameters.get());
+		}
+
+		protected final CompletionStage<ResultCursor> runWith(AsyncSession asyncSession) {
+			String statementTemplate = getCypher();
+			log(statementTemplate);
+
+			return asyncSession.runAsync(statementTemplate, parameters.get());
+		}
+
+		private void log(String statementTemplate) {
 
 			if (cypherLog.isDebugEnabled()) {
 				cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), statementTemplate));
@@ -168,8 +380,6 @@ class DefaultNeo4jClient implements Neo4jClient {
 					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
 				}
 			}
-
-			return statementRunner.run(statementTemplate, parameters.get());
 		}
 	}
 
@@ -187,6 +397,63 @@ class DefaultNeo4jClient implements Neo4jClient {
 		return resolved == null ? ex : resolved;
 	}
 
+	/**
+	 * Runs the callback in a new asynchronous session that is closed after the stage returned by the callback completes.
+	 * Asynchronous sessions cannot participate in Spring managed transactions, so the blocking fallback is used when such
+	 * a transaction is ongoing.
+	 *
+	 * @param targetDatabase   The database to run the statements in
+	 * @param accessMode       The access mode of the new session
+	 * @param blockingFallback Used inside Spring managed transactions
+	 * @param callback         The callback working with the asynchronous session
+	 * @param <T>              The type of the result
+	 * @return A stage completing with the result of the callback or the translated exception
+	 */
+	private <T> CompletionStage<T> doInAsyncSession(@Nullable String targetDatabase, AccessMode accessMode,
+			Supplier<T> blockingFallback, Function<AsyncSession, CompletionStage<T>> callback) {
+
+		if (Neo4jTransactionManager.retrieveTransaction(driver, targetDatabase) != null) {
+			CompletableFuture<T> result = new CompletableFuture<>();
+			try {
+				result.complete(blockingFallback.get());
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+			return result;
+		}
+
+		Collection<Bookmark> usedBookmarks = getBookmarks();
+		AsyncSession asyncSession = driver.asyncSession(sessionConfig(targetDatabase, accessMode, usedBookmarks));
+
+		CompletionStage<T> stage;
+		try {
+			stage = callback.apply(asyncSession);
+		} catch (RuntimeException e) {
+			CompletableFuture<T> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			stage = failed;
+		}
+
+		return stage
+				.handle((result, error) -> asyncSession.closeAsync().thenApply(ignored -> {
+					updateBookmarks(usedBookmarks, asyncSession.lastBookmark());
+					if (error != null) {
+						throw new CompletionException(potentiallyConvertAsyncException(error));
+					}
+					return result;
+				}))
+				.thenCompose(Function.identity());
+	}
+
+	private Throwable potentiallyConvertAsyncException(Throwable error) {
+
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		if (cause instanceof RuntimeException) {
+			return potentiallyConvertRuntimeException((RuntimeException) cause, persistenceExceptionTranslator);
+		}
+		return cause;
+	}
+
 	class DefaultRunnableSpec implements RunnableSpec {
 
 		private RunnableStatement runnableStatement;
@@ -264,17 +531,13 @@ class DefaultNeo4jClient implements Neo4jClient {
 			}
 		}
 
-		private String resolveTargetDatabaseName(@Nullable String parameterTargetDatabase) {
-			if (parameterTargetDatabase != null) {
-				return parameterTargetDatabase;
-			}
-			if (databaseSelectionProvider != null) {
-				String databaseSelectionProviderValue = databaseSelectionProvider.getDatabaseSelection().getValue();
-				if (databaseSelectionProviderValue != null) {
-					return databaseSelectionProviderValue;
-				}
-			}
-			return DatabaseSelectionProvider.getDefaultSelectionProvider().getDatabaseSelection().getValue();
+		@Override
+		public CompletionStage<ResultSummary> runAsync() {
+
+			return doInAsyncSession(this.targetDatabase, AccessMode.WRITE, this::run,
+					asyncSession -> runnableStatement.runWith(asyncSession)
+							.thenCompose(ResultCursor::consumeAsync)
+							.thenApply(ResultSummaries::process));
 		}
 	}
 
@@ -305,7 +568,8 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public Optional<T> one() {
 
-			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase,
+					runnableStatement.getAccessModeForFetching())) {
 				Result result = runnableStatement.runWith(statementRunner);
 				Optional<T> optionalValue = result.hasNext() ?
 						Optional.ofNullable(mappingFunction.apply(typeSystem, result.single())) :
@@ -320,7 +584,8 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public Optional<T> first() {
 
-			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase,
+					runnableStatement.getAccessModeForFetching())) {
 				Result result = runnableStatement.runWith(statementRunner);
 				Optional<T> optionalValue = result.stream().map(partialMappingFunction(typeSystem)).findFirst();
 				ResultSummaries.process(result.consume());
@@ -333,7 +598,8 @@ class DefaultNeo4jClient implements Neo4jClient {
 		@Override
 		public Collection<T> all() {
 
-			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
+			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase,
+					runnableStatement.getAccessModeForFetching())) {
 				Result result = runnableStatement.runWith(statementRunner);
 				Collection<T> values = result.stream().map(partialMappingFunction(typeSystem)).collect(Collectors.toList());
 				ResultSummaries.process(result.consume());
@@ -343,6 +609,11 @@ class DefaultNeo4jClient implements Neo4jClient {
 			}
 		}
 
+		@Override
+		public AsyncRecordFetchSpec<T> async() {
+			return new DefaultAsyncRecordFetchSpec();
+		}
+
 		/**
 		 * @param typeSystem The actual type system
 		 * @return The partially evaluated mapping function
@@ -350,6 +621,187 @@ class DefaultNeo4jClient implements Neo4jClient {
 		private Function<Record, T> partialMappingFunction(TypeSystem typeSystem) {
 			return r -> mappingFunction.apply(typeSystem, r);
 		}
+
+		class DefaultAsyncRecordFetchSpec implements AsyncRecordFetchSpec<T> {
+
+			@Override
+			public CompletionStage<Optional<T>> one() {
+
+				return doInAsyncSession(targetDatabase, runnableStatement.getAccessModeForFetching(),
+						DefaultRecordFetchSpec.this::one,
+						asyncSession -> runnableStatement.runWith(asyncSession)
+								.thenCompose(cursor -> cursor.peekAsync()
+										.thenCompose(record -> mapSingle(cursor, record))
+										.thenCompose(value -> consume(cursor, value))));
+			}
+
+			@Override
+			public CompletionStage<Optional<T>> first() {
+
+				return doInAsyncSession(targetDatabase, runnableStatement.getAccessModeForFetching(),
+						DefaultRecordFetchSpec.this::first,
+						asyncSession -> runnableStatement.runWith(asyncSession)
+								.thenCompose(cursor -> cursor.nextAsync()
+										.thenApply(this::map)
+										.thenCompose(value -> consume(cursor, value))));
+			}
+
+			@Override
+			public CompletionStage<Collection<T>> all() {
+
+				return doInAsyncSession(targetDatabase, runnableStatement.getAccessModeForFetching(),
+						DefaultRecordFetchSpec.this::all,
+						asyncSession -> runnableStatement.runWith(asyncSession)
+								.thenCompose(cursor -> cursor.listAsync(partialMappingFunction(typeSystem))
+										.thenCompose(values -> this.<Collection<T>> consume(cursor, values))));
+			}
+
+			private Optional<T> map(@Nullable Record record) {
+				return record == null ? Optional.empty() : Optional.ofNullable(mappingFunction.apply(typeSystem, record));
+			}
+
+			/**
+			 * Fails like the blocking variant if there is more than one record.
+			 */
+			private CompletionStage<Optional<T>> mapSingle(ResultCursor cursor, @Nullable Record peekedRecord) {
+				if (peekedRecord == null) {
+					return CompletableFuture.completedFuture(Optional.empty());
+				}
+				return cursor.singleAsync().thenApply(this::map);
+			}
+
+			private <R> CompletionStage<R> consume(ResultCursor cursor, R value) {
+				return cursor.consumeAsync().thenApply(summary -> {
+					ResultSummaries.process(summary);
+					return value;
+				});
+			}
+		}
+	}
+
+	class DefaultBatchSpec implements BatchSpec {
+
+		private final String cypher;
+
+		@Nullable private String targetDatabase;
+
+		@Nullable private Iterable<Map<String, Object>> rows;
+
+		private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+		private boolean commitPerChunk;
+
+		private int rowsPerTransaction;
+
+		DefaultBatchSpec(String cypher) {
+			this.cypher = cypher;
+			this.targetDatabase = Neo4jClient.verifyDatabaseName(resolveTargetDatabaseName(null));
+		}
+
+		@Override
+		public BatchSpec in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+			this.targetDatabase = Neo4jClient.verifyDatabaseName(targetDatabase);
+			return this;
+		}
+
+		@Override
+		public BatchSpec withRows(@SuppressWarnings("HiddenField") Iterable<Map<String, Object>> rows) {
+
+			Assert.notNull(rows, "Rows are required.");
+			this.rows = rows;
+			return this;
+		}
+
+		@Override
+		public BatchSpec chunkSize(@SuppressWarnings("HiddenField") int chunkSize) {
+
+			Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+			this.chunkSize = chunkSize;
+			return this;
+		}
+
+		@Override
+		public BatchSpec commitPerChunk() {
+
+			this.commitPerChunk = true;
+			return this;
+		}
+
+		@Override
+		public BatchSpec inTransactionsOf(@SuppressWarnings("HiddenField") int rowsPerTransaction) {
+
+			Assert.isTrue(rowsPerTransaction > 0, "The number of rows per transaction must be greater than 0.");
+			this.rowsPerTransaction = rowsPerTransaction;
+			return this;
+		}
+
+		@Override
+		public SummaryCounters run() {
+
+			Assert.state(this.rows != null, "Rows are required to run a batch.");
+
+			String statement = DelegatingBatchSpec.createStatement(cypher, rowsPerTransaction);
+
+			QueryRunner ongoingTransaction;
+			try {
+				ongoingTransaction = Neo4jTransactionManager.retrieveTransaction(driver, targetDatabase);
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			}
+
+			// The server can only manage the inner transactions in an auto-commit transaction
+			if (ongoingTransaction != null && this.rowsPerTransaction > 0) {
+				throw new IllegalStateException(
+						"A batch cannot be run in transactions of a number of rows inside a Spring managed transaction.");
+			}
+
+			try {
+				if (ongoingTransaction != null) {
+					return runChunks(ongoingTransaction, statement);
+				}
+
+				SharedSession currentSharedSession = sharedSession.get();
+				if (currentSharedSession != null && currentSharedSession.isFor(targetDatabase)) {
+					return runInSession(currentSharedSession.session, statement);
+				}
+
+				try (DelegatingQueryRunner closeableSession = openSession(targetDatabase, AccessMode.WRITE)) {
+					return runInSession((Session) closeableSession.delegate, statement);
+				}
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			}
+		}
+
+		private SummaryCounters runInSession(Session session, String statement) {
+
+			// Each chunk is its own auto-commit transaction, the server manages the inner transactions itself
+			if (this.commitPerChunk || this.rowsPerTransaction > 0) {
+				return runChunks(session, statement);
+			}
+
+			try (Transaction transaction = session.beginTransaction()) {
+				SummaryCounters counters = runChunks(transaction, statement);
+				transaction.commit();
+				return counters;
+			}
+		}
+
+		private SummaryCounters runChunks(QueryRunner queryRunner, String statement) {
+
+			return DelegatingBatchSpec.runChunks(this.rows, this.chunkSize, chunk -> runChunk(queryRunner, statement, chunk));
+		}
+
+		private SummaryCounters runChunk(QueryRunner queryRunner, String statement, List<Map<String, Object>> chunk) {
+
+			NamedParameters parameters = new NamedParameters();
+			parameters.add(DelegatingBatchSpec.NAME_OF_ROWS, chunk);
+
+			Result result = new RunnableStatement(() -> statement, parameters)
+					.runWith(new DelegatingQueryRunner(queryRunner, false));
+			return ResultSummaries.process(result.consume()).counters();
+		}
 	}
 
 	class DefaultRunnableDelegation<T> implements RunnableDelegation<T>, OngoingDelegation<T> {
@@ -15,8 +15,11 @@
  */
 package org.springframework.data.neo4j.core;
 
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.reactive.RxQueryRunner;
 import org.neo4j.driver.reactive.RxResult;
 import org.neo4j.driver.reactive.RxSession;
@@ -28,6 +31,7 @@ import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionUtils;
 import org.springframework.data.neo4j.core.transaction.ReactiveNeo4jTransactionManager;
 import org.springframework.lang.Nullable;
@@ -36,6 +40,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -56,36 +62,127 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 	private final ReactiveDatabaseSelectionProvider databaseSelectionProvider;
 	private final ConversionService conversionService;
 	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+	private final boolean autoCommitOutsideTransactions;
+	private final boolean routeReadOnlyStatementsToReaders;
+	/**
+	 * Keeps the bookmarks of the sessions opened by this client and, when shared with a transaction manager, of the
+	 * managed transactions, too. Only present when read only statements are routed to readers.
+	 */
+	@Nullable private final Neo4jBookmarkManager bookmarkManager;
 
 	DefaultReactiveNeo4jClient(Driver driver, @Nullable ReactiveDatabaseSelectionProvider databaseSelectionProvider) {
+		this(driver, databaseSelectionProvider, false);
+	}
+
+	DefaultReactiveNeo4jClient(Driver driver, @Nullable ReactiveDatabaseSelectionProvider databaseSelectionProvider,
+			boolean autoCommitOutsideTransactions) {
+		this(driver, databaseSelectionProvider, autoCommitOutsideTransactions, null);
+	}
+
+	DefaultReactiveNeo4jClient(Driver driver, @Nullable ReactiveDatabaseSelectionProvider databaseSelectionProvider,
+			boolean autoCommitOutsideTransactions, @Nullable Neo4jBookmarkManager bookmarkManager) {
 
 		this.driver = driver;
 		this.typeSystem = driver.defaultTypeSystem();
 		this.databaseSelectionProvider = databaseSelectionProvider;
+		this.autoCommitOutsideTransactions = autoCommitOutsideTransactions;
+		this.routeReadOnlyStatementsToReaders = bookmarkManager != null;
+		this.bookmarkManager = bookmarkManager;
 		this.conversionService = new DefaultConversionService();
 		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
 	}
 
 	Mono<RxStatementRunnerHolder> retrieveRxStatementRunnerHolder(String targetDatabase) {
 
+		return retrieveRxStatementRunnerHolder(targetDatabase, AccessMode.WRITE, false);
+	}
+
+	/**
+	 * Retrieves the ongoing Spring managed transaction or begins a new transaction in a new session. In auto-commit
+	 * mode, no transaction is begun and the statements are run directly on the new session. This saves the round trips
+	 * for beginning and committing the transaction and should only be used for running single statements.
+	 *
+	 * @param targetDatabase The database to run the statements in
+	 * @param accessMode     The access mode of a new session, ignored when a transaction is ongoing
+	 * @param autoCommit     {@literal true} to run the statements in an auto-commit transaction when no transaction
+	 *                       is ongoing
+	 * @return A holder of the query runner and the callbacks to finish it
+	 */
+	Mono<RxStatementRunnerHolder> retrieveRxStatementRunnerHolder(String targetDatabase, AccessMode accessMode,
+			boolean autoCommit) {
+
 		return ReactiveNeo4jTransactionManager.retrieveReactiveTransaction(driver, targetDatabase)
 				.map(rxTransaction -> new RxStatementRunnerHolder(rxTransaction, Mono.empty(), Mono.empty())) //
-				.switchIfEmpty(Mono.using(() -> driver.rxSession(Neo4jTransactionUtils.defaultSessionConfig(targetDatabase)),
-						session -> Mono.from(session.beginTransaction())
-								.map(tx -> new RxStatementRunnerHolder(tx, tx.commit(), tx.rollback())),
-						RxSession::close));
+				.switchIfEmpty(Mono.defer(() -> {
+					Collection<Bookmark> usedBookmarks = getBookmarks();
+					Supplier<RxSession> sessionSupplier = () -> driver
+							.rxSession(sessionConfig(targetDatabase, accessMode, usedBookmarks));
+					return autoCommit
+							? Mono.fromSupplier(sessionSupplier)
+									.map(session -> new RxStatementRunnerHolder(session,
+											updateBookmarksAfter(session.close(), session, usedBookmarks), session.close()))
+							: Mono.using(sessionSupplier::get,
+									session -> Mono.from(session.beginTransaction())
+											.map(tx -> new RxStatementRunnerHolder(tx,
+													updateBookmarksAfter(tx.commit(), session, usedBookmarks), tx.rollback())),
+									RxSession::close);
+				}));
+	}
+
+	/**
+	 * When read only statements are routed to readers, all new sessions start with the bookmarks of the sessions of
+	 * this client and of the transactions committed by a transaction manager sharing the bookmark manager, so that
+	 * readers can't return data older than the writes done before.
+	 *
+	 * @return The bookmarks to start a new session with
+	 */
+	private Collection<Bookmark> getBookmarks() {
+
+		return bookmarkManager == null ? Collections.emptyList() : bookmarkManager.getBookmarks();
+	}
+
+	private SessionConfig sessionConfig(@Nullable String targetDatabase, AccessMode accessMode,
+			Collection<Bookmark> bookmarks) {
+
+		return Neo4jTransactionUtils.sessionConfig(accessMode == AccessMode.READ, bookmarks, targetDatabase);
+	}
+
+	private Publisher<Void> updateBookmarksAfter(Publisher<Void> completion, RxSession session,
+			Collection<Bookmark> usedBookmarks) {
+
+		if (bookmarkManager == null) {
+			return completion;
+		}
+		return Mono.from(completion).then(Mono.<Void>fromRunnable(() -> {
+			Bookmark lastBookmark = session.lastBookmark();
+			if (lastBookmark != null) {
+				bookmarkManager.updateBookmarks(usedBookmarks, lastBookmark);
+			}
+		}));
+	}
+
+	private AccessMode accessModeForFetching(String cypher) {
+
+		return routeReadOnlyStatementsToReaders ? ReadOnlyStatements.accessModeForFetching(cypher) : AccessMode.WRITE;
 	}
 
 	<T> Mono<T> doInQueryRunnerForMono(final String targetDatabase, Function<RxQueryRunner, Mono<T>> func) {
 
-		return Mono.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase),
+		return doInQueryRunnerForMono(targetDatabase, AccessMode.WRITE, false, func);
+	}
+
+	<T> Mono<T> doInQueryRunnerForMono(final String targetDatabase, AccessMode accessMode, boolean autoCommit,
+			Function<RxQueryRunner, Mono<T>> func) {
+
+		return Mono.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase, accessMode, autoCommit),
 				holder -> func.apply(holder.getRxQueryRunner()), RxStatementRunnerHolder::getCommit,
 				(holder, ex) -> holder.getRollback(), RxStatementRunnerHolder::getCommit);
 	}
 
-	<T> Flux<T> doInStatementRunnerForFlux(final String targetDatabase, Function<RxQueryRunner, Flux<T>> func) {
+	<T> Flux<T> doInStatementRunnerForFlux(final String targetDatabase, AccessMode accessMode, boolean autoCommit,
+			Function<RxQueryRunner, Flux<T>> func) {
 
-		return Flux.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase),
+		return Flux.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase, accessMode, autoCommit),
 				holder -> func.apply(holder.getRxQueryRunner()), RxStatementRunnerHolder::getCommit,
 				(holder, ex) -> holder.getRollback(), RxStatementRunnerHolder::getCommit);
 	}
@@ -221,15 +318,18 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		}
 
 		Mono<Tuple2<String, Map<String, Object>>> prepareStatement() {
+			return Mono.fromSupplier(cypherSupplier).flatMap(this::prepareStatement);
+		}
+
+		Mono<Tuple2<String, Map<String, Object>>> prepareStatement(String cypher) {
 			if (cypherLog.isDebugEnabled()) {
-				String cypher = cypherSupplier.get();
 				cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), cypher));
 
 				if (cypherLog.isTraceEnabled() && !parameters.isEmpty()) {
 					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
 				}
 			}
-			return Mono.fromSupplier(cypherSupplier).zipWith(Mono.just(parameters.get()));
+			return Mono.just(cypher).zipWith(Mono.just(parameters.get()));
 		}
 
 		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, RxQueryRunner runner) {
@@ -242,33 +342,41 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		@Override
 		public Mono<T> one() {
 
-			return targetDatabase.flatMap(databaseSelection -> doInQueryRunnerForMono(databaseSelection.getValue(),
-					(runner) -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).singleOrEmpty()))
-							.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return targetDatabase.flatMap(databaseSelection -> {
+				String cypher = cypherSupplier.get();
+				return doInQueryRunnerForMono(databaseSelection.getValue(), accessModeForFetching(cypher),
+						autoCommitOutsideTransactions,
+						(runner) -> prepareStatement(cypher).flatMapMany(t -> executeWith(t, runner)).singleOrEmpty());
+			}).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
 
 		@Override
 		public Mono<T> first() {
 
-			return targetDatabase.flatMap(databaseSelection -> doInQueryRunnerForMono(databaseSelection.getValue(),
-					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).next()))
-							.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return targetDatabase.flatMap(databaseSelection -> {
+				String cypher = cypherSupplier.get();
+				return doInQueryRunnerForMono(databaseSelection.getValue(), accessModeForFetching(cypher),
+						autoCommitOutsideTransactions,
+						runner -> prepareStatement(cypher).flatMapMany(t -> executeWith(t, runner)).next());
+			}).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
 
 		@Override
 		public Flux<T> all() {
 
-			return targetDatabase.flatMapMany(databaseSelection ->
-					doInStatementRunnerForFlux(databaseSelection.getValue(),
-						runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)))
-					)
-					.onErrorMap(RuntimeException.class,	DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return targetDatabase.flatMapMany(databaseSelection -> {
+				String cypher = cypherSupplier.get();
+				return doInStatementRunnerForFlux(databaseSelection.getValue(), accessModeForFetching(cypher),
+						autoCommitOutsideTransactions,
+						runner -> prepareStatement(cypher).flatMapMany(t -> executeWith(t, runner)));
+			}).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
 
 		Mono<ResultSummary> run() {
 
 			return targetDatabase.flatMap(databaseSelection ->
-					doInQueryRunnerForMono(databaseSelection.getValue(), runner -> prepareStatement().flatMap(t -> {
+					doInQueryRunnerForMono(databaseSelection.getValue(), AccessMode.WRITE, autoCommitOutsideTransactions,
+							runner -> prepareStatement().flatMap(t -> {
 						RxResult rxResult = runner.run(t.getT1(), t.getT2());
 						return Flux.from(rxResult.records()).then(Mono.from(rxResult.consume()).map(ResultSummaries::process));
 			}))).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
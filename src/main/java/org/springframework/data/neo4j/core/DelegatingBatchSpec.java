@@ -0,0 +1,191 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.summary.SummaryCounters;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * The batch specification used by the default implementation of {@link Neo4jClient#batch(String)}. All chunks are run
+ * with the query runner of one call to {@link Neo4jClient#delegateTo(Function)}, so they participate in an ongoing
+ * Spring managed transaction. When that query runner is a session, the chunks are run in one transaction of that
+ * session. Only with {@link #commitPerChunk()}, each chunk is run through its own call to
+ * {@link Neo4jClient#delegateTo(Function)}.
+ *
+ * @since 6.2
+ */
+final class DelegatingBatchSpec implements Neo4jClient.BatchSpec {
+
+	static final String NAME_OF_ROWS = "rows";
+
+	private final Neo4jClient neo4jClient;
+
+	private final String cypher;
+
+	@Nullable private String targetDatabase;
+
+	@Nullable private Iterable<Map<String, Object>> rows;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	private int rowsPerTransaction;
+
+	private boolean commitPerChunk;
+
+	DelegatingBatchSpec(Neo4jClient neo4jClient, String cypher) {
+		this.neo4jClient = neo4jClient;
+		this.cypher = cypher;
+	}
+
+	@Override
+	public Neo4jClient.BatchSpec in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+		this.targetDatabase = Neo4jClient.verifyDatabaseName(targetDatabase);
+		return this;
+	}
+
+	@Override
+	public Neo4jClient.BatchSpec withRows(@SuppressWarnings("HiddenField") Iterable<Map<String, Object>> rows) {
+
+		Assert.notNull(rows, "Rows are required.");
+		this.rows = rows;
+		return this;
+	}
+
+	@Override
+	public Neo4jClient.BatchSpec chunkSize(@SuppressWarnings("HiddenField") int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	@Override
+	public Neo4jClient.BatchSpec commitPerChunk() {
+
+		this.commitPerChunk = true;
+		return this;
+	}
+
+	@Override
+	public Neo4jClient.BatchSpec inTransactionsOf(@SuppressWarnings("HiddenField") int rowsPerTransaction) {
+
+		Assert.isTrue(rowsPerTransaction > 0, "The number of rows per transaction must be greater than 0.");
+		this.rowsPerTransaction = rowsPerTransaction;
+		return this;
+	}
+
+	@Override
+	public SummaryCounters run() {
+
+		Assert.state(this.rows != null, "Rows are required to run a batch.");
+
+		// The server can only manage the inner transactions in an auto-commit transaction
+		if (this.rowsPerTransaction > 0 && TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalStateException(
+					"A batch cannot be run in transactions of a number of rows inside a Spring managed transaction.");
+		}
+
+		Iterable<Map<String, Object>> rowsToRun = this.rows;
+		String statement = createStatement(cypher, rowsPerTransaction);
+		if (this.commitPerChunk) {
+			return runChunks(rowsToRun, chunkSize,
+					chunk -> delegate(queryRunner -> runChunk(queryRunner, statement, chunk)));
+		}
+		return delegate(queryRunner -> runAllChunks(queryRunner, statement, rowsToRun));
+	}
+
+	private SummaryCounters delegate(Function<QueryRunner, SummaryCounters> callback) {
+
+		Neo4jClient.OngoingDelegation<SummaryCounters> delegation = neo4jClient
+				.delegateTo(queryRunner -> Optional.of(callback.apply(queryRunner)));
+		return (targetDatabase == null ? delegation.run() : delegation.in(targetDatabase).run()).get();
+	}
+
+	private SummaryCounters runAllChunks(QueryRunner queryRunner, String statement,
+			Iterable<Map<String, Object>> rowsToRun) {
+
+		// A session would commit each chunk on its own, unless the server manages the inner transactions itself
+		if (queryRunner instanceof Session && this.rowsPerTransaction == 0) {
+			try (Transaction transaction = ((Session) queryRunner).beginTransaction()) {
+				SummaryCounters counters = runChunks(rowsToRun, chunkSize,
+						chunk -> runChunk(transaction, statement, chunk));
+				transaction.commit();
+				return counters;
+			}
+		}
+		return runChunks(rowsToRun, chunkSize, chunk -> runChunk(queryRunner, statement, chunk));
+	}
+
+	private static SummaryCounters runChunk(QueryRunner queryRunner, String statement,
+			List<Map<String, Object>> chunk) {
+
+		return ResultSummaries
+				.process(queryRunner.run(statement, Collections.singletonMap(NAME_OF_ROWS, chunk)).consume()).counters();
+	}
+
+	/**
+	 * @param cypher             The statement to run for each row
+	 * @param rowsPerTransaction The number of rows committed together by the server, {@literal 0} to run all rows of a
+	 *                           chunk in the same transaction
+	 * @return The statement unwinding the rows of a chunk
+	 */
+	static String createStatement(String cypher, int rowsPerTransaction) {
+
+		return rowsPerTransaction > 0 ?
+				String.format("UNWIND $%s AS row CALL { WITH row %s } IN TRANSACTIONS OF %d ROWS", NAME_OF_ROWS, cypher,
+						rowsPerTransaction) :
+				String.format("UNWIND $%s AS row %s", NAME_OF_ROWS, cypher);
+	}
+
+	/**
+	 * Splits the rows into chunks while consuming them and runs each chunk.
+	 *
+	 * @param rows        The rows to consume
+	 * @param chunkSize   The maximum number of rows of a chunk
+	 * @param chunkRunner Runs one chunk
+	 * @return The counters of all chunks added up
+	 */
+	static SummaryCounters runChunks(Iterable<Map<String, Object>> rows, int chunkSize,
+			Function<List<Map<String, Object>>, SummaryCounters> chunkRunner) {
+
+		AggregatedSummaryCounters counters = new AggregatedSummaryCounters();
+		List<Map<String, Object>> chunk = new ArrayList<>(chunkSize);
+		for (Map<String, Object> row : rows) {
+			chunk.add(row);
+			if (chunk.size() == chunkSize) {
+				counters.add(chunkRunner.apply(chunk));
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			counters.add(chunkRunner.apply(chunk));
+		}
+		return counters;
+	}
+}
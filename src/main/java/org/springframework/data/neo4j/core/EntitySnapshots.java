@@ -0,0 +1,179 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.MappingSupport;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.lang.Nullable;
+
+/**
+ * Keeps snapshots of the properties and of the ids of related nodes of entities as they have been loaded or saved.
+ * Saving such an entity again can skip properties and relationships that have not changed. Snapshots are kept per
+ * instance and go away together with the instance. Instances are identified by reference, not by {@link Object#equals(Object)},
+ * so that entities with mutable or id based equality don't share or lose their snapshots. Instances without a snapshot
+ * are always written completely.
+ * <p>
+ * Only relationships without relationship properties and without dynamic types are tracked.
+ *
+ * @since 6.2
+ */
+final class EntitySnapshots {
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final WeakIdentityMap<Snapshot> snapshots = new WeakIdentityMap<>();
+
+	EntitySnapshots(Neo4jMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Takes a snapshot of the given entity and of all entities reachable from it.
+	 *
+	 * @param root The root of the graph to snapshot, anything that is not an entity is ignored
+	 */
+	void takeSnapshotOf(@Nullable Object root) {
+
+		if (root == null || !mappingContext.hasPersistentEntityFor(root.getClass())) {
+			return;
+		}
+
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Object> entitiesToVisit = new ArrayDeque<>();
+		entitiesToVisit.push(root);
+
+		while (!entitiesToVisit.isEmpty()) {
+			Object entity = entitiesToVisit.pop();
+			if (!visited.add(entity)) {
+				continue;
+			}
+
+			Neo4jPersistentEntity<?> entityMetaData = mappingContext.getPersistentEntity(entity.getClass());
+			PersistentPropertyAccessor<Object> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
+
+			Map<String, Object> properties = (Map<String, Object>) mappingContext
+					.getRequiredBinderFunctionFor((Class<Object>) entity.getClass()).apply(entity)
+					.get(Constants.NAME_OF_PROPERTIES_PARAM);
+			Map<String, Set<Object>> idsOfRelatedNodes = new HashMap<>();
+
+			entityMetaData.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) association -> {
+
+				NestedRelationshipContext relationshipContext = NestedRelationshipContext.of(association, propertyAccessor, entityMetaData);
+				RelationshipDescription relationship = relationshipContext.getRelationship();
+				boolean isTracked = !(relationship.isDynamic() || relationship.hasRelationshipProperties());
+
+				Set<Object> ids = new HashSet<>();
+				for (Object relatedValue : MappingSupport.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue())) {
+					Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValue);
+					if (relatedNode == null || !mappingContext.hasPersistentEntityFor(relatedNode.getClass())) {
+						continue;
+					}
+					entitiesToVisit.push(relatedNode);
+
+					Object id = getId(relatedNode);
+					if (id != null) {
+						ids.add(id);
+					}
+				}
+
+				if (isTracked) {
+					idsOfRelatedNodes.put(relationship.getFieldName(), ids);
+				}
+			});
+
+			snapshots.put(entity, new Snapshot(properties, idsOfRelatedNodes));
+		}
+	}
+
+	/**
+	 * Removes all properties from a tree created by a binder function that have the same value as in the snapshot of
+	 * the given entity.
+	 *
+	 * @param entity The entity that has been bound
+	 * @param tree   The bound entity
+	 * @return The tree containing only changed properties
+	 */
+	Map<String, Object> removeUnchangedProperties(Object entity, Map<String, Object> tree) {
+
+		Snapshot snapshot = snapshots.get(entity);
+		if (snapshot != null) {
+			Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
+			properties.entrySet().removeIf(e -> snapshot.properties.containsKey(e.getKey())
+					&& Objects.equals(snapshot.properties.get(e.getKey()), e.getValue()));
+		}
+		return tree;
+	}
+
+	/**
+	 * @param entity       The entity owning the relationship
+	 * @param relationship The relationship
+	 * @return The ids of the nodes the entity has been related to when the snapshot was taken or {@literal null}, if
+	 * the entity or the relationship is not tracked.
+	 */
+	@Nullable
+	Set<Object> getIdsOfRelatedNodes(Object entity, RelationshipDescription relationship) {
+
+		Snapshot snapshot = snapshots.get(entity);
+		return snapshot == null ? null : snapshot.idsOfRelatedNodes.get(relationship.getFieldName());
+	}
+
+	/**
+	 * @param entity Any entity
+	 * @return The value of its id property, maybe {@literal null}
+	 */
+	@Nullable
+	Object getId(Object entity) {
+
+		Neo4jPersistentEntity<?> entityMetaData = mappingContext.getPersistentEntity(entity.getClass());
+		return entityMetaData.getPropertyAccessor(entity).getProperty(entityMetaData.getRequiredIdProperty());
+	}
+
+	/**
+	 * @return The number of entities currently having a snapshot
+	 */
+	int size() {
+		return snapshots.size();
+	}
+
+	private static final class Snapshot {
+
+		private final Map<String, Object> properties;
+
+		private final Map<String, Set<Object>> idsOfRelatedNodes;
+
+		Snapshot(Map<String, Object> properties, Map<String, Set<Object>> idsOfRelatedNodes) {
+			this.properties = properties;
+			this.idsOfRelatedNodes = idsOfRelatedNodes;
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.core;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -28,9 +29,12 @@ import org.neo4j.driver.Driver;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Definition of a modern Neo4j client.
@@ -56,6 +60,48 @@ public interface Neo4jClient {
 		return new DefaultNeo4jClient(driver, databaseSelectionProvider);
 	}
 
+	/**
+	 * Creates a new client that can route statements fetching records to the readers of a cluster. By default, all
+	 * sessions are opened in write mode and thus reach the leader. When routing is enabled, sessions used for fetching
+	 * the records of statements without any updating clause are opened in read mode outside Spring managed
+	 * transactions. Those sessions start with the bookmarks of the sessions closed before by this client, so that reads
+	 * see the writes done outside Spring managed transactions through this client. Use
+	 * {@link #create(Driver, DatabaseSelectionProvider, Neo4jBookmarkManager)} to see the writes of Spring managed
+	 * transactions as well.
+	 *
+	 * @param driver                           The driver to use
+	 * @param databaseSelectionProvider        The provider of the target database
+	 * @param routeReadOnlyStatementsToReaders {@literal true} to route read only statements to readers
+	 * @return A new client
+	 * @since 6.2
+	 */
+	static Neo4jClient create(Driver driver, DatabaseSelectionProvider databaseSelectionProvider,
+			boolean routeReadOnlyStatementsToReaders) {
+
+		return new DefaultNeo4jClient(driver, databaseSelectionProvider,
+				routeReadOnlyStatementsToReaders ? Neo4jBookmarkManager.create() : null);
+	}
+
+	/**
+	 * Creates a new client that routes statements fetching records to the readers of a cluster as described in
+	 * {@link #create(Driver, DatabaseSelectionProvider, boolean)}. The sessions opened by this client start with all
+	 * bookmarks of the given bookmark manager and update it when they are closed. When the same bookmark manager is
+	 * passed to the {@link org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager}, reads see the
+	 * writes of Spring managed transactions, too.
+	 *
+	 * @param driver                    The driver to use
+	 * @param databaseSelectionProvider The provider of the target database
+	 * @param bookmarkManager           The bookmark manager shared with the transaction manager
+	 * @return A new client
+	 * @since 6.2
+	 */
+	static Neo4jClient create(Driver driver, DatabaseSelectionProvider databaseSelectionProvider,
+			Neo4jBookmarkManager bookmarkManager) {
+
+		Assert.notNull(bookmarkManager, "A bookmark manager is required.");
+		return new DefaultNeo4jClient(driver, databaseSelectionProvider, bookmarkManager);
+	}
+
 	/**
 	 * Entrypoint for creating a new Cypher query. Doesn't matter at this point whether it's a match, merge, create or
 	 * removal of things.
@@ -75,6 +121,23 @@ public interface Neo4jClient {
 	 */
 	RunnableSpec query(Supplier<String> cypherSupplier);
 
+	/**
+	 * Entrypoint for running one Cypher statement for many sets of parameters. The statement is run once per chunk of
+	 * rows with all the rows of that chunk unwound as {@code row}, so it refers to the values of a row like
+	 * {@code CREATE (b:Bike {name: row.name})}.
+	 * <p>
+	 * The default implementation runs all chunks with the query runner of one call to {@link #delegateTo(Function)}, in
+	 * one transaction when that query runner is a session. Only when {@link BatchSpec#commitPerChunk()} is set, each
+	 * chunk is run through its own call to {@link #delegateTo(Function)}.
+	 *
+	 * @param cypher The cypher code that shall be executed for each row
+	 * @return A batch specification.
+	 * @since 6.2
+	 */
+	default BatchSpec batch(String cypher) {
+		return new DelegatingBatchSpec(this, cypher);
+	}
+
 	/**
 	 * Delegates interaction with the default database to the given callback.
 	 *
@@ -92,6 +155,41 @@ public interface Neo4jClient {
 	 */
 	DatabaseSelectionProvider getDatabaseSelectionProvider();
 
+	/**
+	 * Runs the given callback with one shared session for the default database: All queries and delegations issued
+	 * through this client inside the callback and outside a Spring managed transaction reuse that session instead of
+	 * acquiring a new one per statement. As all statements are run on the same session, they are causally chained. The
+	 * session is closed when the callback returns.
+	 * <p>
+	 * The default implementation doesn't share anything and just invokes the callback.
+	 *
+	 * @param callback The callback to run with a shared session
+	 * @param <T> The type of the result being produced
+	 * @return The result of the callback
+	 * @since 6.2
+	 */
+	@Nullable
+	default <T> T inSession(SessionCallback<T> callback) {
+		return callback.doInSession(this);
+	}
+
+	/**
+	 * A callback for {@link #inSession(SessionCallback)}.
+	 *
+	 * @param <T> The type of the result being produced
+	 * @since 6.2
+	 */
+	@FunctionalInterface
+	interface SessionCallback<T> {
+
+		/**
+		 * @param client The client to be used, all statements run through it share one session
+		 * @return An arbitrary result
+		 */
+		@Nullable
+		T doInSession(Neo4jClient client);
+	}
+
 	/**
 	 * Contract for a runnable query that can be either run returning it's result, run without results or be
 	 * parameterized.
@@ -140,6 +238,19 @@ public interface Neo4jClient {
 		 * @return The native summary of the query.
 		 */
 		ResultSummary run();
+
+		/**
+		 * Execute the query asynchronously and discard the results.
+		 *
+		 * @return A stage completing with the native summary of the query.
+		 * @throws UnsupportedOperationException when the implementation doesn't support asynchronous execution
+		 * @see RecordFetchSpec#async()
+		 * @since 6.2
+		 */
+		default CompletionStage<ResultSummary> runAsync() {
+			throw new UnsupportedOperationException(
+					String.format("%s doesn't support running queries asynchronously.", getClass().getName()));
+		}
 	}
 
 	/**
@@ -227,6 +338,111 @@ public interface Neo4jClient {
 		 * @return All records.
 		 */
 		Collection<T> all();
+
+		/**
+		 * Switches to asynchronous fetching. Outside a Spring managed transaction, the query runs in a new asynchronous
+		 * session of the driver and does not block the calling thread. Inside a Spring managed transaction, the query
+		 * participates in that transaction and runs on the calling thread, the returned stages are completed when
+		 * they are returned.
+		 *
+		 * @return A specification how to fetch one or more records asynchronously
+		 * @throws UnsupportedOperationException when the implementation doesn't support asynchronous fetching
+		 * @since 6.2
+		 */
+		default AsyncRecordFetchSpec<T> async() {
+			throw new UnsupportedOperationException(
+					String.format("%s doesn't support fetching records asynchronously.", getClass().getName()));
+		}
+	}
+
+	/**
+	 * The asynchronous counterpart of {@link RecordFetchSpec}.
+	 *
+	 * @param <T> The type to which the fetched records are eventually mapped
+	 * @since 6.2
+	 */
+	interface AsyncRecordFetchSpec<T> {
+
+		/**
+		 * Fetches exactly one record and fails if there are more entries.
+		 *
+		 * @return A stage completing with the one and only record.
+		 */
+		CompletionStage<Optional<T>> one();
+
+		/**
+		 * Fetches only the first record.
+		 *
+		 * @return A stage completing with the first record if any.
+		 */
+		CompletionStage<Optional<T>> first();
+
+		/**
+		 * Fetches all records.
+		 *
+		 * @return A stage completing with all records.
+		 */
+		CompletionStage<Collection<T>> all();
+	}
+
+	/**
+	 * Contract for running one statement for many rows of parameters in chunks.
+	 *
+	 * @since 6.2
+	 */
+	interface BatchSpec {
+
+		/**
+		 * Default number of rows sent to the database with one statement.
+		 */
+		int DEFAULT_CHUNK_SIZE = 1_000;
+
+		/**
+		 * Pins the batch to a specific database. A value of {@literal null} chooses the default database.
+		 *
+		 * @param targetDatabase selected database to use
+		 * @return The batch specification itself.
+		 */
+		BatchSpec in(@Nullable String targetDatabase);
+
+		/**
+		 * The rows are consumed only once and only while running, so they may be a lazily populated iterable.
+		 *
+		 * @param rows The rows, each of them is available as {@code row} inside the statement
+		 * @return The batch specification itself.
+		 */
+		BatchSpec withRows(Iterable<Map<String, Object>> rows);
+
+		/**
+		 * @param chunkSize The number of rows sent to the database with one statement
+		 * @return The batch specification itself.
+		 */
+		BatchSpec chunkSize(int chunkSize);
+
+		/**
+		 * Commits each chunk on its own instead of running all chunks in one transaction. Has no effect inside a Spring
+		 * managed transaction.
+		 *
+		 * @return The batch specification itself.
+		 */
+		BatchSpec commitPerChunk();
+
+		/**
+		 * Lets the server commit the rows of each chunk in transactions of the given size by wrapping the statement into
+		 * {@code CALL { ... } IN TRANSACTIONS}. That requires Neo4j 4.4 or higher, a statement that doesn't return
+		 * anything and must not be used inside a Spring managed transaction.
+		 *
+		 * @param rowsPerTransaction The number of rows committed together by the server
+		 * @return The batch specification itself.
+		 */
+		BatchSpec inTransactionsOf(int rowsPerTransaction);
+
+		/**
+		 * Runs the statement for all chunks.
+		 *
+		 * @return The counters of all chunks added up.
+		 */
+		SummaryCounters run();
 	}
 
 	/**
@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.core;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
@@ -25,6 +26,7 @@ import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.repository.NoResultException;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
+import org.springframework.lang.Nullable;
 
 /**
  * Specifies operations one can perform on a database, based on an <em>Domain Type</em>.
@@ -161,6 +163,19 @@ public interface Neo4jOperations {
 	 */
 	<T> Optional<T> findById(Object id, Class<T> domainType);
 
+	/**
+	 * Checks whether an entity with the given id exists. In contrast to {@link #findById(Object, Class)}, neither the
+	 * entity nor any of its relationships are loaded.
+	 *
+	 * @param id the id of the entity. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @return {@literal true} if an entity with the given id exists
+	 * @since 6.2
+	 */
+	default boolean existsById(Object id, Class<?> domainType) {
+		return findById(id, domainType).isPresent();
+	}
+
 	/**
 	 * Load all entities of a given type that are identified by the given ids.
 	 *
@@ -202,6 +217,39 @@ public interface Neo4jOperations {
 	 */
 	<T> List<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves several instances of an entity in chunks of {@code chunkSize} instances, including all the related entities
+	 * of the entity. The instances are pulled lazily from the iterable and each chunk is saved like with
+	 * {@link #saveAll(Iterable)}. The saved instances are not collected, so that the memory needed does not grow with
+	 * the number of instances.
+	 *
+	 * @param instances the instances to be saved. Must not be {@code null}.
+	 * @param chunkSize the number of instances to save together. Must be greater than 0.
+	 * @param commitBetweenChunks {@literal true} to save each chunk in a new transaction that is committed before the
+	 *                            next chunk is read. Requires a {@link org.springframework.transaction.PlatformTransactionManager}.
+	 * @param <T> the type of the entity.
+	 * @return the number of saved instances.
+	 * @since 6.2
+	 */
+	default <T> long saveAllInChunks(Iterable<T> instances, int chunkSize, boolean commitBetweenChunks) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Saves several instances of an entity in chunks like {@link #saveAllInChunks(Iterable, int, boolean)}, using the
+	 * chunk size configured on the implementation.
+	 *
+	 * @param instances the instances to be saved. Must not be {@code null}.
+	 * @param commitBetweenChunks {@literal true} to save each chunk in a new transaction that is committed before the
+	 *                            next chunk is read. Requires a {@link org.springframework.transaction.PlatformTransactionManager}.
+	 * @param <T> the type of the entity.
+	 * @return the number of saved instances.
+	 * @since 6.2
+	 */
+	default <T> long saveAllInChunks(Iterable<T> instances, boolean commitBetweenChunks) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Saves an instance of an entity, including the properties and relationship defined by the project {@code resultType}.
 	 *
@@ -263,6 +311,22 @@ public interface Neo4jOperations {
 	<T> ExecutableQuery<T> toExecutableQuery(Class<T> domainType,
 											 QueryFragmentsAndParameters queryFragmentsAndParameters);
 
+	/**
+	 * Runs the given callback with one shared session: All operations invoked on the given operations inside the callback
+	 * and outside a Spring managed transaction reuse one session instead of acquiring a new one per statement.
+	 * The default implementation doesn't share anything and just invokes the callback.
+	 *
+	 * @param callback The callback to run with a shared session
+	 * @param <T> The type of the result being produced
+	 * @return The result of the callback
+	 * @since 6.2
+	 * @see Neo4jClient#inSession(Neo4jClient.SessionCallback)
+	 */
+	@Nullable
+	default <T> T inSession(Function<Neo4jOperations, T> callback) {
+		return callback.apply(this);
+	}
+
 	/**
 	 * An interface for controlling query execution.
 	 *
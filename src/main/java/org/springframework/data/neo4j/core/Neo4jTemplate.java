@@ -15,7 +15,6 @@
  */
 package org.springframework.data.neo4j.core;
 
-import static org.neo4j.cypherdsl.core.Cypher.anyNode;
 import static org.neo4j.cypherdsl.core.Cypher.asterisk;
 import static org.neo4j.cypherdsl.core.Cypher.parameter;
 
@@ -30,8 +29,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.LogFactory;
@@ -39,12 +38,11 @@ import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.Functions;
-import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
-import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
@@ -52,6 +50,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -75,6 +74,7 @@ import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingS
 import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine.ProcessState;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.mapping.StatementCache;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
 import org.springframework.data.neo4j.repository.NoResultException;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
@@ -84,8 +84,10 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 /**
@@ -106,18 +108,32 @@ public final class Neo4jTemplate implements
 
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 
+	private static final int DEFAULT_CHUNK_SIZE = 1_000;
+
 	private final Neo4jClient neo4jClient;
 
 	private final Neo4jMappingContext neo4jMappingContext;
 
 	private final CypherGenerator cypherGenerator;
 
+	private final StatementCache statementCache;
+
+	private final PartiallyLoadedEntities partiallyLoadedEntities;
+
 	private ClassLoader beanClassLoader;
 
 	private EventSupport eventSupport;
 
 	private ProjectionFactory projectionFactory;
 
+	@Nullable
+	private EntitySnapshots entitySnapshots;
+
+	@Nullable
+	private ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
 	@Deprecated
 	public Neo4jTemplate(Neo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
 						 DatabaseSelectionProvider databaseSelectionProvider) {
@@ -159,6 +175,8 @@ public final class Neo4jTemplate implements
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
 		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.statementCache = neo4jMappingContext.getStatementCache();
+		this.partiallyLoadedEntities = new PartiallyLoadedEntities(neo4jMappingContext);
 		this.eventSupport = EventSupport.useExistingCallbacks(neo4jMappingContext, entityCallbacks);
 	}
 
@@ -291,6 +309,24 @@ public final class Neo4jTemplate implements
 				.getSingleResult();
 	}
 
+	@Override
+	public boolean existsById(Object id, Class<?> domainType) {
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+
+		String cypherQuery = statementCache.getOrRender("existsById", () -> cypherGenerator.prepareExistsOf(
+				entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(Constants.NAME_OF_ID))), entityMetaData);
+		return this.neo4jClient.query(cypherQuery)
+				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id)).to(Constants.NAME_OF_ID)
+				.fetchAs(Boolean.class).one().orElse(false);
+	}
+
+	@Override
+	@Nullable
+	public <T> T inSession(Function<Neo4jOperations, T> callback) {
+		return this.neo4jClient.inSession(client -> callback.apply(this));
+	}
+
 	@Override
 	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
@@ -349,6 +385,7 @@ public final class Neo4jTemplate implements
 
 	private <T> T saveImpl(T instance, Collection<PropertyPath> includedProperties) {
 
+		partiallyLoadedEntities.assertNotPartiallyLoaded(instance);
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
 		boolean isEntityNew = entityMetaData.isNew(instance);
 
@@ -368,8 +405,10 @@ public final class Neo4jTemplate implements
 			}
 			return tree;
 		});
+		binderFunction = withoutUnchangedProperties(instance, binderFunction);
 		Optional<Entity> newOrUpdatedNode = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels)))
+				.query(() -> statementCache.getOrRender("prepareSaveOf",
+						() -> cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels), entityMetaData, dynamicLabels))
 				.bind(entityToBeSaved)
 				.with(binderFunction)
 				.fetchAs(Entity.class)
@@ -392,6 +431,9 @@ public final class Neo4jTemplate implements
 		TemplateSupport.updateVersionPropertyIfPossible(entityMetaData, propertyAccessor, newOrUpdatedNode.get());
 		processRelations(entityMetaData, instance, internalId, propertyAccessor, isEntityNew, includeProperty);
 
+		if (includeProperty.isNotFiltering()) {
+			takeSnapshotIfTrackingChanges(propertyAccessor.getBean());
+		}
 		return propertyAccessor.getBean();
 	}
 
@@ -401,7 +443,8 @@ public final class Neo4jTemplate implements
 			PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
 			Neo4jClient.RunnableSpecTightToDatabase runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> statementCache.getOrRender("createStatementReturningDynamicLabels",
+							() -> cypherGenerator.createStatementReturningDynamicLabels(entityMetaData), entityMetaData))
 					.bind(convertIdValues(idProperty, propertyAccessor.getProperty(idProperty)))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels())
 					.to(Constants.NAME_OF_STATIC_LABELS_PARAM);
@@ -436,16 +479,10 @@ public final class Neo4jTemplate implements
 		if (entities.isEmpty()) {
 			return Collections.emptyList();
 		}
+		entities.forEach(partiallyLoadedEntities::assertNotPartiallyLoaded);
 
 		Class<T> domainClass = (Class<T>) TemplateSupport.findCommonElementType(entities);
 		Assert.notNull(domainClass, "Could not determine common domain class to save.");
-		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
-		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()
-				|| entityMetaData.getDynamicLabelsProperty().isPresent()) {
-			log.debug("Saving entities using single statements.");
-
-			return entities.stream().map(e -> saveImpl(e, includedProperties)).collect(Collectors.toList());
-		}
 
 		class Tuple3<T> {
 			final T originalInstance;
@@ -463,25 +500,105 @@ public final class Neo4jTemplate implements
 				.map(e -> new Tuple3<>(e, neo4jMappingContext.getPersistentEntity(e.getClass()).isNew(e), eventSupport.maybeCallBeforeBind(e)))
 				.collect(Collectors.toList());
 
-		// Save roots
-		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
-		List<Map<String, Object>> entityList = entitiesToBeSaved.stream().map(h -> h.modifiedInstance).map(binderFunction)
-				.collect(Collectors.toList());
-		ResultSummary resultSummary = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
-				.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM).run();
-
-		SummaryCounters counters = resultSummary.counters();
-		log.debug(() -> String.format(
-				"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
-				counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
-				counters.relationshipsDeleted(), counters.propertiesSet()));
-
-		// Save related
-		return entitiesToBeSaved.stream().map(t -> {
-			PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(t.modifiedInstance);
-			return processRelations(entityMetaData, t.originalInstance, propertyAccessor, t.wasNew, TemplateSupport.computeIncludePropertyPredicate(includedProperties, entityMetaData));
-		}).collect(Collectors.toList());
+		List<T> modifiedInstances = entitiesToBeSaved.stream().map(h -> h.modifiedInstance).collect(Collectors.toList());
+		List<T> savedEntities = new ArrayList<>(Collections.nCopies(entitiesToBeSaved.size(), null));
+		TemplateSupport.groupIndexesByType(modifiedInstances).forEach((type, indexes) -> {
+
+			Neo4jPersistentEntity<?> entityMetaDataOfType = neo4jMappingContext.getPersistentEntity(type);
+			PropertyFilter includeProperty = TemplateSupport.computeIncludePropertyPredicate(includedProperties, entityMetaDataOfType);
+
+			// Save roots
+			Function<T, Map<String, Object>> binderFunction = TemplateSupport.filterProperties(
+					neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) type), includeProperty, entityMetaDataOfType);
+			List<T> instancesOfType = indexes.stream().map(modifiedInstances::get).collect(Collectors.toList());
+			List<Map<String, Object>> entityList = TemplateSupport.createEntityList(instancesOfType, withoutUnchangedProperties(binderFunction));
+			Entity[] savedNodes = saveAllInBatch(entityMetaDataOfType, instancesOfType, entityList);
+
+			// Save related
+			for (int i = 0; i < savedNodes.length; ++i) {
+				int index = indexes.get(i);
+				Tuple3<T> t = entitiesToBeSaved.get(index);
+				Entity savedNode = savedNodes[i];
+
+				PersistentPropertyAccessor<T> propertyAccessor = entityMetaDataOfType.getPropertyAccessor(t.modifiedInstance);
+				if (entityMetaDataOfType.isUsingInternalIds()) {
+					propertyAccessor.setProperty(entityMetaDataOfType.getRequiredIdProperty(), savedNode.id());
+				}
+				TemplateSupport.updateVersionPropertyIfPossible(entityMetaDataOfType, propertyAccessor, savedNode);
+				savedEntities.set(index, processRelations(entityMetaDataOfType, t.originalInstance, savedNode.id(),
+						propertyAccessor, t.wasNew, includeProperty));
+			}
+		});
+
+		if (includedProperties.isEmpty()) {
+			savedEntities.forEach(this::takeSnapshotIfTrackingChanges);
+		}
+		return savedEntities;
+	}
+
+	/**
+	 * Saves all rows of a batch. Rows are grouped by the changes of their dynamic labels, the current labels of all rows
+	 * are retrieved with one additional statement.
+	 *
+	 * @param entityMetaData The entity to save
+	 * @param entities       The entities to save, in the order of the rows
+	 * @param entityList     The rows of the batch
+	 * @return The saved nodes, indexed by their row
+	 */
+	private Entity[] saveAllInBatch(Neo4jPersistentEntity<?> entityMetaData, List<?> entities,
+			List<Map<String, Object>> entityList) {
+
+		Collection<Map<String, Object>> currentLabels = Collections.emptyList();
+		if (entityMetaData.getDynamicLabelsProperty().isPresent()) {
+			currentLabels = neo4jClient
+					.query(() -> statementCache.getOrRender("createStatementReturningDynamicLabelsOfMultipleInstances",
+							() -> cypherGenerator.createStatementReturningDynamicLabelsOfMultipleInstances(entityMetaData), entityMetaData))
+					.bind(TemplateSupport.createIdList(entityList)).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+					.bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+					.fetch().all();
+		}
+
+		List<Map<String, Object>> records = new ArrayList<>();
+		TemplateSupport.groupRowsByDynamicLabels(entityMetaData, entities, entityList, currentLabels)
+				.forEach((dynamicLabels, rows) -> records.addAll(neo4jClient
+						.query(() -> statementCache.getOrRender("prepareSaveOfMultipleInstancesOf",
+								() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData, dynamicLabels)), entityMetaData, dynamicLabels))
+						.bind(rows).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+						.fetch().all()));
+
+		Entity[] savedNodes = TemplateSupport.getSavedNodesByRowIndex(records, entityList.size());
+		TemplateSupport.assertAllRowsSaved(entityMetaData, entityList, savedNodes);
+		log.debug(() -> String.format("Saved %d entities in one batch.", entityList.size()));
+		return savedNodes;
+	}
+
+	@Override
+	public <T> long saveAllInChunks(Iterable<T> instances, int chunkSize, boolean commitBetweenChunks) {
+
+		Assert.notNull(instances, "The instances to save must not be null.");
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+
+		TransactionTemplate transactionTemplate = commitBetweenChunks ? createTransactionTemplateForChunks() : null;
+		return TemplateSupport.saveInChunks(instances, chunkSize, transactionTemplate,
+				chunk -> saveAllImpl(chunk, Collections.emptyList()));
+	}
+
+	@Override
+	public <T> long saveAllInChunks(Iterable<T> instances, boolean commitBetweenChunks) {
+		return saveAllInChunks(instances, this.chunkSize, commitBetweenChunks);
+	}
+
+	private TransactionTemplate createTransactionTemplateForChunks() {
+
+		PlatformTransactionManager transactionManager = transactionManagerProvider == null ? null
+				: transactionManagerProvider.getIfUnique();
+		if (transactionManager == null) {
+			throw new IllegalStateException("Committing between chunks requires a unique PlatformTransactionManager.");
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return transactionTemplate;
 	}
 
 	@Override
@@ -525,12 +642,12 @@ public final class Neo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "id";
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
 		log.debug(() -> String.format("Deleting entity with id %s ", id));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+		String cypherQuery = statementCache.getOrRender("deleteById", () -> cypherGenerator.prepareDeleteOf(
+				entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))), entityMetaData);
+		ResultSummary summary = this.neo4jClient.query(cypherQuery)
 				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
 				.to(nameOfParameter).run();
 
@@ -569,12 +686,12 @@ public final class Neo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
 		log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+		String cypherQuery = statementCache.getOrRender("deleteAllById", () -> cypherGenerator.prepareDeleteOf(
+				entityMetaData, entityMetaData.getIdExpression().in(parameter(nameOfParameter))), entityMetaData);
+		ResultSummary summary = this.neo4jClient.query(cypherQuery)
 				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
 				.to(nameOfParameter).run();
 
@@ -588,8 +705,8 @@ public final class Neo4jTemplate implements
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).run();
+		String cypherQuery = statementCache.getOrRender("deleteAll", () -> cypherGenerator.prepareDeleteOf(entityMetaData), entityMetaData);
+		ResultSummary summary = this.neo4jClient.query(cypherQuery).run();
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 				summary.counters().relationshipsDeleted()));
@@ -611,12 +728,12 @@ public final class Neo4jTemplate implements
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, @Nullable Class<?> resultType,  @Nullable String cypherStatement,
 			Map<String, Object> parameters) {
 
-		BiFunction<TypeSystem, MapAccessor, ?> mappingFunction = TemplateSupport
+		Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction = TemplateSupport
 				.getAndDecorateMappingFunction(neo4jMappingContext, domainType, resultType);
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
 				.withCypherQuery(cypherStatement)
 				.withParameters(parameters)
-				.usingMappingFunction(mappingFunction)
+				.usingQueryScopedMappingFunction(mappingFunction)
 				.build();
 
 		return toExecutableQuery(preparedQuery);
@@ -633,12 +750,12 @@ public final class Neo4jTemplate implements
 	 * @param isParentObjectNew      A flag if the parent was new
 	 * @param includeProperty        A predicate telling to include a relationship property or not
 	 */
-	private <T> void processRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity, T originalInstance, Long internalId,
+	private <T> T processRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity, T originalInstance, Long internalId,
 								   PersistentPropertyAccessor<?> parentPropertyAccessor,
 								   boolean isParentObjectNew, PropertyFilter includeProperty) {
 
 		PropertyFilter.RelaxedPropertyPath startingPropertyPath = PropertyFilter.RelaxedPropertyPath.withRootType(neo4jPersistentEntity.getUnderlyingClass());
-		processNestedRelations(neo4jPersistentEntity, parentPropertyAccessor, isParentObjectNew,
+		return processNestedRelations(neo4jPersistentEntity, parentPropertyAccessor, isParentObjectNew,
 				new NestedRelationshipProcessingStateMachine(originalInstance, internalId), includeProperty, startingPropertyPath);
 	}
 
@@ -689,33 +806,50 @@ public final class Neo4jTemplate implements
 				return;
 			}
 
+			// With change tracking, the ids of the nodes related when the entity has been loaded or saved are known.
+			Set<Object> idsOfPreviouslyRelatedNodes = isParentObjectNew || entitySnapshots == null ? null
+					: entitySnapshots.getIdsOfRelatedNodes(propertyAccessor.getBean(), relationshipDescription);
+
+			// Without change tracking, simple relationships of an existing entity are synchronized with one statement
+			// that creates the missing relationships and deletes only the ones to nodes that are not related anymore.
+			boolean isExistingRelationship = !isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription);
+			boolean synchronizeRelationships = isExistingRelationship && idsOfPreviouslyRelatedNodes == null
+					&& !dynamicRelationship && !relationshipDescription.hasRelationshipProperties()
+					&& !relationshipContext.inverseValueIsEmpty();
+
 			// Remove all relationships before creating all new if the entity is not new and the relationship
 			// has not been processed before.
 			// This avoids the usage of cache but might have significant impact on overall performance
-			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
-
-				List<Long> knownRelationshipsIds = new ArrayList<>();
-				if (idProperty != null) {
-					for (Object relatedValueToStore : relatedValuesToStore) {
-						if (relatedValueToStore == null) {
-							continue;
-						}
+			if (isExistingRelationship && !synchronizeRelationships) {
 
-						Long id = (Long) relationshipContext.getRelationshipPropertiesPropertyAccessor(relatedValueToStore).getProperty(idProperty);
-						if (id != null) {
-							knownRelationshipsIds.add(id);
+				if (idsOfPreviouslyRelatedNodes != null) {
+					deleteRelationshipsToRemovedNodes(sourceEntity, relationshipContext, relatedValuesToStore, fromId,
+							idsOfPreviouslyRelatedNodes);
+				} else {
+					List<Long> knownRelationshipsIds = new ArrayList<>();
+					if (idProperty != null) {
+						for (Object relatedValueToStore : relatedValuesToStore) {
+							if (relatedValueToStore == null) {
+								continue;
+							}
+
+							Long id = (Long) relationshipContext.getRelationshipPropertiesPropertyAccessor(relatedValueToStore).getProperty(idProperty);
+							if (id != null) {
+								knownRelationshipsIds.add(id);
+							}
 						}
 					}
-				}
 
-				Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription);
+					String relationshipRemoveQuery = statementCache.getOrRender("prepareDeleteOfRelationships",
+							() -> cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription), sourceEntity, relationshipDescription);
 
-				neo4jClient.query(renderer.render(relationshipRemoveQuery))
-						.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
-							.to(Constants.FROM_ID_PARAMETER_NAME) //
-						.bind(knownRelationshipsIds) //
-							.to(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM) //
-						.run();
+					neo4jClient.query(relationshipRemoveQuery)
+							.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
+								.to(Constants.FROM_ID_PARAMETER_NAME) //
+							.bind(knownRelationshipsIds) //
+								.to(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM) //
+							.run();
+				}
 			}
 
 			// nothing to do because there is nothing to map
@@ -724,15 +858,22 @@ public final class Neo4jTemplate implements
 			}
 
 			stateMachine.markRelationshipAsProcessed(fromId, relationshipDescription);
+			saveRelatedNodes(relationshipContext, relatedValuesToStore, stateMachine, includeProperty, currentPropertyPath);
 
 			Neo4jPersistentProperty relationshipProperty = association.getInverse();
 
 			RelationshipHandler relationshipHandler = RelationshipHandler.forProperty(relationshipProperty, rawValue);
+			TemplateSupport.RelationshipBatch relationshipBatch = new TemplateSupport.RelationshipBatch();
+			String synchronizationQuery = synchronizeRelationships
+					? statementCache.getOrRender("prepareSynchronizationOfRelationships",
+							() -> cypherGenerator.prepareSynchronizationOfRelationships(sourceEntity, relationshipDescription), sourceEntity, relationshipDescription)
+					: null;
 
 			for (Object relatedValueToStore : relatedValuesToStore) {
 
 				// here a map entry is not always anymore a dynamic association
 				Object relatedObjectBeforeCallbacksApplied = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
+				partiallyLoadedEntities.assertNotPartiallyLoaded(relatedObjectBeforeCallbacksApplied);
 				Neo4jPersistentEntity<?> targetEntity = neo4jMappingContext.getPersistentEntity(relatedObjectBeforeCallbacksApplied.getClass());
 
 				boolean isEntityNew = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
@@ -779,23 +920,28 @@ public final class Neo4jTemplate implements
 
 				boolean isNewRelationship = idValue == null;
 
-				CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatement(
-						sourceEntity, relationshipContext, relatedValueToStore, isNewRelationship);
-
-				Optional<Long> relationshipInternalId = neo4jClient.query(renderer.render(statementHolder.getStatement()))
-						.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
-							.to(Constants.FROM_ID_PARAMETER_NAME) //
-						.bind(relatedInternalId) //
-							.to(Constants.TO_ID_PARAMETER_NAME) //
-						.bind(idValue) //
-							.to(Constants.NAME_OF_KNOWN_RELATIONSHIP_PARAM) //
-						.bindAll(statementHolder.getProperties())
-						.fetchAs(Long.class).one();
-
-				if (idProperty != null && isNewRelationship) {
-					relationshipContext
-							.getRelationshipPropertiesPropertyAccessor(relatedValueToStore)
-							.setProperty(idProperty, relationshipInternalId.get());
+				Map<String, Object> row = new HashMap<>();
+				row.put(Constants.FROM_ID_PARAMETER_NAME, convertIdValues(sourceEntity.getRequiredIdProperty(), fromId));
+				row.put(Constants.TO_ID_PARAMETER_NAME, relatedInternalId);
+
+				// The relationships are created after all related values have been processed,
+				// the generated ids are written back through the callback.
+				// Relationships to nodes that have been related before don't need to be created again.
+				if (synchronizationQuery != null) {
+					relationshipBatch.addWithoutResult(synchronizationQuery, row);
+				} else if (idsOfPreviouslyRelatedNodes == null || !idsOfPreviouslyRelatedNodes
+						.contains(targetPropertyAccessor.getProperty(targetEntity.getRequiredIdProperty()))) {
+
+					CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createBatchStatement(
+							sourceEntity, relationshipContext, relatedValueToStore, isNewRelationship);
+					row.putAll(statementHolder.getProperties());
+					row.put(Constants.NAME_OF_KNOWN_RELATIONSHIP_PARAM, idValue);
+
+					relationshipBatch.add(statementHolder.getCypher(), row, idProperty != null && isNewRelationship
+							? relationshipInternalId -> relationshipContext
+									.getRelationshipPropertiesPropertyAccessor(relatedValueToStore)
+									.setProperty(idProperty, relationshipInternalId)
+							: null);
 				}
 
 				if (processState != ProcessState.PROCESSED_ALL_VALUES) {
@@ -811,12 +957,94 @@ public final class Neo4jTemplate implements
 				relationshipHandler.handle(relatedValueToStore, relatedObjectBeforeCallbacksApplied, potentiallyRecreatedNewRelatedObject);
 			}
 
+			createRelationships(relationshipBatch);
 			relationshipHandler.applyFinalResultToOwner(propertyAccessor);
 		});
 
 		return (T) propertyAccessor.getBean();
 	}
 
+	/**
+	 * Deletes only the relationships to nodes that have been related when the snapshot of the source has been taken
+	 * and that are not related anymore.
+	 */
+	private void deleteRelationshipsToRemovedNodes(Neo4jPersistentEntity<?> sourceEntity,
+			NestedRelationshipContext relationshipContext, Collection<?> relatedValuesToStore, Object fromId,
+			Set<Object> idsOfPreviouslyRelatedNodes) {
+
+		Set<Object> idsOfRemovedNodes = new HashSet<>(idsOfPreviouslyRelatedNodes);
+		for (Object relatedValueToStore : relatedValuesToStore) {
+			if (relatedValueToStore != null) {
+				idsOfRemovedNodes.remove(entitySnapshots.getId(relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore)));
+			}
+		}
+
+		if (idsOfRemovedNodes.isEmpty()) {
+			return;
+		}
+
+		RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+		Neo4jPersistentEntity<?> targetEntity = (Neo4jPersistentEntity<?>) relationshipDescription.getTarget();
+		String relationshipRemoveQuery = statementCache.getOrRender("prepareDeleteOfRelationshipsTo",
+				() -> cypherGenerator.prepareDeleteOfRelationshipsTo(sourceEntity, relationshipDescription), sourceEntity, relationshipDescription);
+
+		neo4jClient.query(relationshipRemoveQuery)
+				.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
+					.to(Constants.FROM_ID_PARAMETER_NAME) //
+				.bind(convertIdValues(targetEntity.getRequiredIdProperty(), new ArrayList<>(idsOfRemovedNodes))) //
+					.to(Constants.NAME_OF_IDS) //
+				.run();
+	}
+
+	/**
+	 * Sends one statement per group of relationships sharing the same rendered statement.
+	 *
+	 * @param relationshipBatch The relationships collected for one association
+	 */
+	private void createRelationships(TemplateSupport.RelationshipBatch relationshipBatch) {
+
+		relationshipBatch.getRowsByStatement().forEach((cypherQuery, rows) -> {
+			Collection<Map<String, Object>> records = neo4jClient.query(cypherQuery)
+					.bind(rows.getValues()).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+					.fetch().all();
+			rows.applyIds(records);
+		});
+	}
+
+	/**
+	 * Saves the related nodes of one association that share the same entity with one statement per entity instead of
+	 * one statement per node. The saved nodes are marked as processed, so that the regular processing of the
+	 * association only creates the relationships and descends further.
+	 */
+	private void saveRelatedNodes(NestedRelationshipContext relationshipContext, Collection<?> relatedValuesToStore,
+			NestedRelationshipProcessingStateMachine stateMachine, PropertyFilter includeProperty,
+			PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+
+		TemplateSupport.groupRelatedNodesToSave(neo4jMappingContext, relationshipContext, relatedValuesToStore, stateMachine)
+				.forEach((targetEntity, relatedNodes) -> {
+
+					List<Object> entities = relatedNodes.stream()
+							.map(relatedNode -> eventSupport.maybeCallBeforeBind(relatedNode.getRelatedNodeBeforeCallbacksApplied()))
+							.collect(Collectors.toList());
+
+					Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+							.getRequiredBinderFunctionFor((Class<Object>) targetEntity.getType());
+					List<Map<String, Object>> entityList = TemplateSupport.createEntityList(entities, withoutUnchangedProperties(binderFunction.andThen(tree -> {
+						Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
+
+						if (!includeProperty.isNotFiltering()) {
+							properties.entrySet().removeIf(e -> !includeProperty.contains(currentPropertyPath.append(e.getKey())));
+						}
+						return tree;
+					})));
+
+					Entity[] savedNodes = saveAllInBatch(targetEntity, entities, entityList);
+					for (int i = 0; i < savedNodes.length; ++i) {
+						relatedNodes.get(i).markAsSaved(targetEntity, entities.get(i), savedNodes[i], stateMachine);
+					}
+				});
+	}
+
 	private <Y> Entity saveRelatedNode(Object entity, NodeDescription<?> targetNodeDescription, PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
 
 		DynamicLabels dynamicLabels = determineDynamicLabels(entity, (Neo4jPersistentEntity) targetNodeDescription);
@@ -830,8 +1058,10 @@ public final class Neo4jTemplate implements
 			}
 			return tree;
 		});
+		binderFunction = withoutUnchangedProperties(binderFunction);
 		Optional<Entity> optionalSavedNode = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels)))
+				.query(() -> statementCache.getOrRender("prepareSaveOf",
+						() -> cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels), targetNodeDescription, dynamicLabels))
 				.bind((Y) entity).with(binderFunction)
 				.fetchAs(Entity.class)
 				.one();
@@ -843,6 +1073,52 @@ public final class Neo4jTemplate implements
 		return optionalSavedNode.get();
 	}
 
+	/**
+	 * Enables or disables change tracking. With change tracking enabled, a snapshot is taken of every entity loaded or
+	 * saved through this template. Saving such an entity again only writes the properties that changed and only deletes
+	 * or creates relationships to nodes that have been removed from or added to the entity. Entities without a snapshot
+	 * are still written completely. Change tracking is disabled by default.
+	 *
+	 * @param changeTrackingEnabled {@literal true} to enable change tracking
+	 * @since 6.2
+	 */
+	public void setChangeTrackingEnabled(boolean changeTrackingEnabled) {
+		this.entitySnapshots = changeTrackingEnabled ? new EntitySnapshots(neo4jMappingContext) : null;
+	}
+
+	/**
+	 * Configures the number of instances saved together by {@link #saveAllInChunks(Iterable, boolean)}. Defaults to
+	 * 1000.
+	 *
+	 * @param chunkSize the number of instances to save together. Must be greater than 0.
+	 * @since 6.2
+	 */
+	public void setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+		this.chunkSize = chunkSize;
+	}
+
+	private void takeSnapshotIfTrackingChanges(@Nullable Object entity) {
+
+		if (entitySnapshots != null) {
+			entitySnapshots.takeSnapshotOf(entity);
+		}
+	}
+
+	private <T> Function<T, Map<String, Object>> withoutUnchangedProperties(Object entity,
+			Function<T, Map<String, Object>> binderFunction) {
+
+		EntitySnapshots snapshots = this.entitySnapshots;
+		return snapshots == null ? binderFunction : binderFunction.andThen(tree -> snapshots.removeUnchangedProperties(entity, tree));
+	}
+
+	private <T> Function<T, Map<String, Object>> withoutUnchangedProperties(Function<T, Map<String, Object>> binderFunction) {
+
+		EntitySnapshots snapshots = this.entitySnapshots;
+		return snapshots == null ? binderFunction : entity -> snapshots.removeUnchangedProperties(entity, binderFunction.apply(entity));
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader beanClassLoader) {
 		this.beanClassLoader = beanClassLoader == null ? org.springframework.util.ClassUtils.getDefaultClassLoader() : beanClassLoader;
@@ -852,6 +1128,7 @@ public final class Neo4jTemplate implements
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
 		this.eventSupport = EventSupport.discoverCallbacks(neo4jMappingContext, beanFactory);
+		this.transactionManagerProvider = beanFactory.getBeanProvider(PlatformTransactionManager.class);
 
 		SpelAwareProxyProjectionFactory spelAwareProxyProjectionFactory = new SpelAwareProxyProjectionFactory();
 		spelAwareProxyProjectionFactory.setBeanClassLoader(beanClassLoader);
@@ -870,11 +1147,11 @@ public final class Neo4jTemplate implements
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, Class<?> resultType,
  			QueryFragmentsAndParameters queryFragmentsAndParameters) {
 
-		BiFunction<TypeSystem, MapAccessor, ?> mappingFunction = TemplateSupport
+		Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction = TemplateSupport
 				.getAndDecorateMappingFunction(neo4jMappingContext, domainType, resultType);
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
 				.withQueryFragmentsAndParameters(queryFragmentsAndParameters)
-				.usingMappingFunction(mappingFunction)
+				.usingQueryScopedMappingFunction(mappingFunction)
 				.build();
 		return toExecutableQuery(preparedQuery);
 	}
@@ -926,18 +1203,23 @@ public final class Neo4jTemplate implements
 		@SuppressWarnings("unchecked")
 		public List<T> getResults() {
 			Collection<T> all = createFetchSpec().map(Neo4jClient.RecordFetchSpec::all).orElse(Collections.emptyList());
+			List<T> results;
 			if (preparedQuery.resultsHaveBeenAggregated()) {
-				return all.stream().flatMap(nested -> ((Collection<T>) nested).stream()).distinct().collect(Collectors.toList());
+				results = all.stream().flatMap(nested -> ((Collection<T>) nested).stream()).distinct().collect(Collectors.toList());
+			} else {
+				results = all.stream().collect(Collectors.toList());
 			}
-			return all.stream().collect(Collectors.toList());
+			afterLoad(results);
+			return results;
 		}
 
 		public Optional<T> getSingleResult() {
 			try {
 				Optional<T> one = createFetchSpec().flatMap(Neo4jClient.RecordFetchSpec::one);
 				if (preparedQuery.resultsHaveBeenAggregated()) {
-					return one.map(aggregatedResults -> (T) ((LinkedHashSet<?>) aggregatedResults).iterator().next());
+					one = one.map(aggregatedResults -> (T) ((LinkedHashSet<?>) aggregatedResults).iterator().next());
 				}
+				one.ifPresent(entity -> afterLoad(Collections.singletonList(entity)));
 				return one;
 			} catch (NoSuchRecordException e) {
 				// This exception is thrown by the driver in both cases when there are 0 or 1+n records
@@ -951,9 +1233,22 @@ public final class Neo4jTemplate implements
 			if (preparedQuery.resultsHaveBeenAggregated()) {
 				one = one.map(aggregatedResults -> (T) ((LinkedHashSet<?>) aggregatedResults).iterator().next());
 			}
+			one.ifPresent(entity -> afterLoad(Collections.singletonList(entity)));
 			return one.orElseThrow(() -> new NoResultException(1, preparedQuery.getQueryFragmentsAndParameters().getCypherQuery()));
 		}
 
+		/**
+		 * Remembers entities loaded with relationships cut off by a maximum fetch depth and takes snapshots of the
+		 * loaded entities when tracking changes.
+		 */
+		private void afterLoad(Collection<T> entities) {
+
+			if (TemplateSupport.cutsOffRelationships(preparedQuery.getQueryFragmentsAndParameters())) {
+				entities.forEach(partiallyLoadedEntities::markAsPartiallyLoaded);
+			}
+			entities.forEach(Neo4jTemplate.this::takeSnapshotIfTrackingChanges);
+		}
+
 		private Optional<Neo4jClient.RecordFetchSpec<T>> createFetchSpec() {
 			QueryFragmentsAndParameters queryFragmentsAndParameters = preparedQuery.getQueryFragmentsAndParameters();
 			String cypherQuery = queryFragmentsAndParameters.getCypherQuery();
@@ -962,7 +1257,7 @@ public final class Neo4jTemplate implements
 			QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
 			Neo4jPersistentEntity<?> entityMetaData = (Neo4jPersistentEntity<?>) queryFragmentsAndParameters.getNodeDescription();
 
-			boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments::includeField);
+			boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments.getPropertyFilter());
 			if (cypherQuery == null || containsPossibleCircles) {
 
 				if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
@@ -972,8 +1267,19 @@ public final class Neo4jTemplate implements
 					if (nodesAndRelationshipsById.hasRootNodeIds()) {
 						return Optional.empty();
 					}
-					cypherQuery = renderer.render(nodesAndRelationshipsById.toStatement());
-					finalParameters = nodesAndRelationshipsById.getParameters();
+					Map<String, Value> subgraph = neo4jClient
+							.query(renderer.render(nodesAndRelationshipsById.toSubgraphStatement()))
+							.bindAll(nodesAndRelationshipsById.getSubgraphParameters())
+							.fetchAs(Map.class)
+							.mappedBy((t, r) -> r.asMap(Function.identity()))
+							.one()
+							.orElseGet(Collections::emptyMap);
+
+					Neo4jClient.MappingSpec<T> rootNodesMappingSpec = neo4jClient
+							.query(renderer.render(nodesAndRelationshipsById.toStatement()))
+							.bindAll(nodesAndRelationshipsById.getParameters()).fetchAs(preparedQuery.getResultType());
+					return Optional.of(preparedQuery.getOptionalMappingFunction(subgraph)
+							.map(f -> rootNodesMappingSpec.mappedBy(f)).orElse(rootNodesMappingSpec));
 				} else {
 					Statement statement = queryFragments.toStatement();
 					cypherQuery = renderer.render(statement);
@@ -1009,70 +1315,26 @@ public final class Neo4jTemplate implements
 				// fast return if no matching root node(s) are found
 				return NodesAndRelationshipsByIdStatementProvider.EMPTY;
 			}
-			// load first level relationships
+
+			// explore the relationships level by level, using one statement per level
 			final Set<Long> relationshipIds = new HashSet<>();
 			final Set<Long> relatedNodeIds = new HashSet<>();
 
-			for (RelationshipDescription relationshipDescription : entityMetaData.getRelationshipsInHierarchy(fieldName -> queryFragments.includeField(fieldName))) {
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(entityMetaData, relationshipDescription, queryFragments.getMatchOn(), queryFragments.getCondition())
-						.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-
-				usedParameters = new HashMap<>(parameters);
-				usedParameters.putAll(statement.getParameters());
-				neo4jClient.query(renderer.render(statement))
-						.bindAll(parameters)
+			Map<NodeDescription<?>, Collection<Long>> frontier = Collections.singletonMap(entityMetaData, rootNodeIds);
+			for (int depth = 1; !frontier.isEmpty(); ++depth) {
+				TemplateSupport.ExplorationLevel level = TemplateSupport.ExplorationLevel.of(cypherGenerator, frontier,
+						queryFragments::includeField, depth, queryFragments.getMaxFetchDepth());
+				if (level == null) {
+					break;
+				}
+				Collection<Map<String, Object>> records = neo4jClient.query(renderer.render(level.toStatement()))
+						.bindAll(level.getParameters())
 						.fetch()
-						.one()
-						.ifPresent(iterateAndMapNextLevel(relationshipIds, relatedNodeIds, relationshipDescription));
+						.all();
+				frontier = level.nextFrontier(records, relationshipIds, relatedNodeIds);
 			}
 
 			return new NodesAndRelationshipsByIdStatementProvider(rootNodeIds, relationshipIds, relatedNodeIds, queryFragments);
 		}
-
-		private void iterateNextLevel(Collection<Long> nodeIds, Neo4jPersistentEntity<?> target, Set<Long> relationshipIds,
-									  Set<Long> relatedNodeIds) {
-
-			Collection<RelationshipDescription> relationships = target.getRelationshipsInHierarchy(preparedQuery.getQueryFragmentsAndParameters().getQueryFragments()::includeField);
-			for (RelationshipDescription relationshipDescription : relationships) {
-
-				Node node = anyNode(Constants.NAME_OF_ROOT_NODE);
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(target, relationshipDescription, null,
-								Functions.id(node).in(Cypher.parameter(Constants.NAME_OF_IDS)))
-						.returning(cypherGenerator.createGenericReturnStatement()).build();
-
-				neo4jClient.query(renderer.render(statement))
-						.bindAll(Collections.singletonMap(Constants.NAME_OF_IDS, nodeIds))
-						.fetch()
-						.one()
-						.ifPresent(iterateAndMapNextLevel(relationshipIds, relatedNodeIds, relationshipDescription));
-			}
-		}
-
-		@NonNull
-		private Consumer<Map<String, Object>> iterateAndMapNextLevel(Set<Long> relationshipIds,
-																	 Set<Long> relatedNodeIds, RelationshipDescription relationshipDescription) {
-
-			return record -> {
-				List<Long> newRelationshipIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
-				relationshipIds.addAll(newRelationshipIds);
-
-				List<Long> newRelatedNodeIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
-
-				Set<Long> relatedIds = new HashSet<>(newRelatedNodeIds);
-				// use this list to get down the road
-				// 1. remove already visited ones;
-				relatedIds.removeAll(relatedNodeIds);
-				relatedNodeIds.addAll(relatedIds);
-				// 2. for the rest start the exploration
-				if (!relatedIds.isEmpty()) {
-					iterateNextLevel(relatedIds, (Neo4jPersistentEntity<?>) relationshipDescription.getTarget(),
-							relationshipIds, relatedNodeIds);
-				}
-			};
-		}
 	}
 }
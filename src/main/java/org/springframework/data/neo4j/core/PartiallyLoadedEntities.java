@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.mapping.MappingSupport;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
+import org.springframework.lang.Nullable;
+
+/**
+ * Remembers the entities that have been loaded by a query cutting off relationships because of a maximum fetch depth.
+ * Relationships that have not been fetched are mapped as empty collections or {@literal null}, so saving such an
+ * entity would delete them. Saving a partially loaded entity is therefore refused.
+ *
+ * @since 6.2
+ */
+final class PartiallyLoadedEntities {
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final WeakIdentityMap<Boolean> entities = new WeakIdentityMap<>();
+
+	PartiallyLoadedEntities(Neo4jMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Marks the given entity and all entities reachable from it as partially loaded.
+	 *
+	 * @param root The root of the loaded graph, anything that is not an entity is ignored
+	 */
+	void markAsPartiallyLoaded(@Nullable Object root) {
+
+		if (root == null || !mappingContext.hasPersistentEntityFor(root.getClass())) {
+			return;
+		}
+
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Object> entitiesToVisit = new ArrayDeque<>();
+		entitiesToVisit.push(root);
+
+		while (!entitiesToVisit.isEmpty()) {
+			Object entity = entitiesToVisit.pop();
+			if (!visited.add(entity)) {
+				continue;
+			}
+
+			Neo4jPersistentEntity<?> entityMetaData = mappingContext.getPersistentEntity(entity.getClass());
+			PersistentPropertyAccessor<Object> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
+			entityMetaData.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) association -> {
+
+				NestedRelationshipContext relationshipContext = NestedRelationshipContext.of(association, propertyAccessor, entityMetaData);
+				for (Object relatedValue : MappingSupport.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue())) {
+					Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValue);
+					if (relatedNode != null && mappingContext.hasPersistentEntityFor(relatedNode.getClass())) {
+						entitiesToVisit.push(relatedNode);
+					}
+				}
+			});
+
+			entities.put(entity, Boolean.TRUE);
+		}
+	}
+
+	/**
+	 * @param entity The entity to save
+	 * @throws InvalidDataAccessApiUsageException if the entity has been loaded partially
+	 */
+	void assertNotPartiallyLoaded(Object entity) {
+
+		if (entities.containsKey(entity)) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"The entity of type %s has been loaded with a limited fetch depth and cannot be saved, as relationships that have not been fetched would be deleted.",
+					entity.getClass().getName()));
+		}
+	}
+}
@@ -40,6 +40,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -65,16 +66,12 @@ public final class PreparedQuery<T> {
 
 	private final Class<T> resultType;
 	private final QueryFragmentsAndParameters queryFragmentsAndParameters;
-	private final @Nullable BiFunction<TypeSystem, Record, T> mappingFunction;
+	private final @Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunctionSupplier;
+	private final AtomicBoolean aggregated = new AtomicBoolean(false);
 
 	private PreparedQuery(OptionalBuildSteps<T> optionalBuildSteps) {
 		this.resultType = optionalBuildSteps.resultType;
-		if (optionalBuildSteps.mappingFunction == null) {
-			this.mappingFunction = null;
-		} else {
-			this.mappingFunction = (BiFunction<TypeSystem, Record, T>) new AggregatingMappingFunction(
-					optionalBuildSteps.mappingFunction);
-		}
+		this.mappingFunctionSupplier = optionalBuildSteps.mappingFunctionSupplier;
 		this.queryFragmentsAndParameters = optionalBuildSteps.queryFragmentsAndParameters;
 	}
 
@@ -82,12 +79,40 @@ public final class PreparedQuery<T> {
 		return this.resultType;
 	}
 
+	/**
+	 * Creates the mapping function for one execution of this query. A new function is created on each call, so that
+	 * functions keeping track of mapped objects don't share them between executions.
+	 *
+	 * @return The mapping function, if any
+	 */
 	public Optional<BiFunction<TypeSystem, Record, T>> getOptionalMappingFunction() {
-		return Optional.ofNullable(mappingFunction);
+		return Optional.ofNullable((BiFunction<TypeSystem, Record, T>) (BiFunction) createMappingFunction());
+	}
+
+	@Nullable
+	private AggregatingMappingFunction createMappingFunction() {
+		return mappingFunctionSupplier == null ? null
+				: new AggregatingMappingFunction(mappingFunctionSupplier.get(), aggregated);
+	}
+
+	/**
+	 * Creates a mapping function that maps each record together with values shared by all records, for example a
+	 * subgraph that has been fetched only once for all root nodes of a query.
+	 *
+	 * @param sharedValues The values to be added to each record
+	 * @return The mapping function, if any
+	 */
+	Optional<BiFunction<TypeSystem, Record, T>> getOptionalMappingFunction(Map<String, Value> sharedValues) {
+		AggregatingMappingFunction aggregatingMappingFunction = createMappingFunction();
+		if (aggregatingMappingFunction == null) {
+			return Optional.empty();
+		}
+
+		return Optional.of((t, r) -> (T) aggregatingMappingFunction.applyWithSharedValues(t, r, sharedValues));
 	}
 
 	boolean resultsHaveBeenAggregated() {
-		return this.mappingFunction != null && ((AggregatingMappingFunction) this.mappingFunction).hasAggregated();
+		return this.aggregated.get();
 	}
 
 	public QueryFragmentsAndParameters getQueryFragmentsAndParameters() {
@@ -122,7 +147,7 @@ public final class PreparedQuery<T> {
 
 		final Class<CT> resultType;
 		final QueryFragmentsAndParameters queryFragmentsAndParameters;
-		@Nullable BiFunction<TypeSystem, MapAccessor, ?> mappingFunction;
+		@Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunctionSupplier;
 
 		OptionalBuildSteps(Class<CT> resultType, QueryFragmentsAndParameters queryFragmentsAndParameters) {
 			this.resultType = resultType;
@@ -142,7 +167,21 @@ public final class PreparedQuery<T> {
 
 		public OptionalBuildSteps<CT> usingMappingFunction(
 				@Nullable BiFunction<TypeSystem, MapAccessor, ?> newMappingFunction) {
-			this.mappingFunction = newMappingFunction;
+			this.mappingFunctionSupplier = newMappingFunction == null ? null : () -> newMappingFunction;
+			return this;
+		}
+
+		/**
+		 * Uses a new mapping function for each execution of the query, for example one keeping track of the objects
+		 * mapped during one execution.
+		 *
+		 * @param newMappingFunctionSupplier Supplies the mapping function for one execution
+		 * @return This builder.
+		 * @since 6.2
+		 */
+		public OptionalBuildSteps<CT> usingQueryScopedMappingFunction(
+				@Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> newMappingFunctionSupplier) {
+			this.mappingFunctionSupplier = newMappingFunctionSupplier;
 			return this;
 		}
 
@@ -154,10 +193,11 @@ public final class PreparedQuery<T> {
 	private static class AggregatingMappingFunction implements BiFunction<TypeSystem, Record, Object> {
 
 		private final BiFunction<TypeSystem, MapAccessor, ?> target;
-		private final AtomicBoolean aggregated = new AtomicBoolean(false);
+		private final AtomicBoolean aggregated;
 
-		AggregatingMappingFunction(BiFunction<TypeSystem, MapAccessor, ?> target) {
+		AggregatingMappingFunction(BiFunction<TypeSystem, MapAccessor, ?> target, AtomicBoolean aggregated) {
 			this.target = target;
+			this.aggregated = aggregated;
 		}
 
 		private Collection<?> aggregateList(TypeSystem t, Value value) {
@@ -247,8 +287,17 @@ public final class PreparedQuery<T> {
 			}
 		}
 
-		boolean hasAggregated() {
-			return aggregated.get();
+		Object applyWithSharedValues(TypeSystem t, Record r, Map<String, Value> sharedValues) {
+
+			if (sharedValues.isEmpty()) {
+				return apply(t, r);
+			}
+
+			// The shared values are passed on as they are, so that all records refer to identical values.
+			Map<String, Value> values = new HashMap<>(r.size() + sharedValues.size());
+			values.putAll(r.asMap(Function.identity()));
+			values.putAll(sharedValues);
+			return target.apply(t, Values.value(values));
 		}
 	}
 }
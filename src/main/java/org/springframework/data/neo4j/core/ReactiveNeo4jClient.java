@@ -32,6 +32,8 @@ import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.data.neo4j.core.Neo4jClient.BindSpec;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.util.Assert;
 
 /**
  * Reactive Neo4j client. The main difference to the {@link Neo4jClient imperative Neo4j client} is the fact that all
@@ -56,6 +58,73 @@ public interface ReactiveNeo4jClient {
 		return new DefaultReactiveNeo4jClient(driver, databaseSelectionProvider);
 	}
 
+	/**
+	 * Creates a new client that can run single statements outside of Spring managed transactions in auto-commit
+	 * transactions. By default, the client begins and commits an explicit transaction for each statement it runs
+	 * outside a Spring managed transaction. In auto-commit mode, the statement is run directly on a new session, which
+	 * saves two round trips to the server. Callbacks passed to {@link #delegateTo(Function)} always run in an explicit
+	 * transaction.
+	 *
+	 * @param driver                        The driver to use
+	 * @param databaseSelectionProvider     The provider of the target database
+	 * @param autoCommitOutsideTransactions {@literal true} to run single statements outside Spring managed transactions
+	 *                                      in auto-commit transactions
+	 * @return A new client
+	 * @since 6.2
+	 */
+	static ReactiveNeo4jClient create(Driver driver, ReactiveDatabaseSelectionProvider databaseSelectionProvider,
+			boolean autoCommitOutsideTransactions) {
+
+		return new DefaultReactiveNeo4jClient(driver, databaseSelectionProvider, autoCommitOutsideTransactions);
+	}
+
+	/**
+	 * Creates a new client that can also route statements fetching records to the readers of a cluster. By default, all
+	 * sessions are opened in write mode and thus reach the leader. When routing is enabled, sessions used for fetching
+	 * the records of statements without any updating clause are opened in read mode outside Spring managed
+	 * transactions. Those sessions start with the bookmarks of the sessions of this client, so that reads see the
+	 * writes done outside Spring managed transactions through this client. Use
+	 * {@link #create(Driver, ReactiveDatabaseSelectionProvider, boolean, Neo4jBookmarkManager)} to see the writes of
+	 * Spring managed transactions as well.
+	 *
+	 * @param driver                           The driver to use
+	 * @param databaseSelectionProvider        The provider of the target database
+	 * @param autoCommitOutsideTransactions    {@literal true} to run single statements outside Spring managed
+	 *                                         transactions in auto-commit transactions
+	 * @param routeReadOnlyStatementsToReaders {@literal true} to route read only statements to readers
+	 * @return A new client
+	 * @since 6.2
+	 */
+	static ReactiveNeo4jClient create(Driver driver, ReactiveDatabaseSelectionProvider databaseSelectionProvider,
+			boolean autoCommitOutsideTransactions, boolean routeReadOnlyStatementsToReaders) {
+
+		return new DefaultReactiveNeo4jClient(driver, databaseSelectionProvider, autoCommitOutsideTransactions,
+				routeReadOnlyStatementsToReaders ? Neo4jBookmarkManager.create() : null);
+	}
+
+	/**
+	 * Creates a new client that routes statements fetching records to the readers of a cluster as described in
+	 * {@link #create(Driver, ReactiveDatabaseSelectionProvider, boolean, boolean)}. The sessions opened by this client
+	 * start with all bookmarks of the given bookmark manager and update it when they are closed. When the same bookmark
+	 * manager is passed to the {@link org.springframework.data.neo4j.core.transaction.ReactiveNeo4jTransactionManager},
+	 * reads see the writes of Spring managed transactions, too.
+	 *
+	 * @param driver                        The driver to use
+	 * @param databaseSelectionProvider     The provider of the target database
+	 * @param autoCommitOutsideTransactions {@literal true} to run single statements outside Spring managed
+	 *                                      transactions in auto-commit transactions
+	 * @param bookmarkManager               The bookmark manager shared with the transaction manager
+	 * @return A new client
+	 * @since 6.2
+	 */
+	static ReactiveNeo4jClient create(Driver driver, ReactiveDatabaseSelectionProvider databaseSelectionProvider,
+			boolean autoCommitOutsideTransactions, Neo4jBookmarkManager bookmarkManager) {
+
+		Assert.notNull(bookmarkManager, "A bookmark manager is required.");
+		return new DefaultReactiveNeo4jClient(driver, databaseSelectionProvider, autoCommitOutsideTransactions,
+				bookmarkManager);
+	}
+
 	/**
 	 * Entrypoint for creating a new Cypher query. Doesn't matter at this point whether it's a match, merge, create or
 	 * removal of things.
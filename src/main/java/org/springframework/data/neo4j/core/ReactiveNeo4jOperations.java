@@ -160,6 +160,19 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Mono<T> findById(Object id, Class<T> domainType);
 
+	/**
+	 * Checks whether an entity with the given id exists. In contrast to {@link #findById(Object, Class)}, neither the
+	 * entity nor any of its relationships are loaded.
+	 *
+	 * @param id the id of the entity. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @return {@literal true} if an entity with the given id exists
+	 * @since 6.2
+	 */
+	default Mono<Boolean> existsById(Object id, Class<?> domainType) {
+		return findById(id, domainType).hasElement();
+	}
+
 	/**
 	 * Load all entities of a given type that are identified by the given ids.
 	 *
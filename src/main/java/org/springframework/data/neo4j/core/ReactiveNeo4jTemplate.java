@@ -15,7 +15,6 @@
  */
 package org.springframework.data.neo4j.core;
 
-import static org.neo4j.cypherdsl.core.Cypher.anyNode;
 import static org.neo4j.cypherdsl.core.Cypher.asterisk;
 import static org.neo4j.cypherdsl.core.Cypher.parameter;
 
@@ -25,19 +24,22 @@ import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
 import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.LogFactory;
@@ -45,14 +47,12 @@ import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.Functions;
-import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
-import org.neo4j.driver.summary.SummaryCounters;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
-import org.reactivestreams.Publisher;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanFactory;
@@ -78,6 +78,7 @@ import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingS
 import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine.ProcessState;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.mapping.StatementCache;
 import org.springframework.data.neo4j.core.mapping.callback.ReactiveEventSupport;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
@@ -85,7 +86,6 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -106,6 +106,7 @@ public final class ReactiveNeo4jTemplate implements
 
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 	private static final String CONTEXT_RELATIONSHIP_HANDLER = "RELATIONSHIP_HANDLER";
+	private static final String CONTEXT_RELATIONSHIP_BATCH = "RELATIONSHIP_BATCH";
 
 	private final ReactiveNeo4jClient neo4jClient;
 
@@ -113,6 +114,10 @@ public final class ReactiveNeo4jTemplate implements
 
 	private final CypherGenerator cypherGenerator;
 
+	private final StatementCache statementCache;
+
+	private final PartiallyLoadedEntities partiallyLoadedEntities;
+
 	private ClassLoader beanClassLoader;
 
 	private ReactiveEventSupport eventSupport;
@@ -137,6 +142,8 @@ public final class ReactiveNeo4jTemplate implements
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
 		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.statementCache = neo4jMappingContext.getStatementCache();
+		this.partiallyLoadedEntities = new PartiallyLoadedEntities(neo4jMappingContext);
 		this.eventSupport = ReactiveEventSupport.useExistingCallbacks(neo4jMappingContext, ReactiveEntityCallbacks.create());
 	}
 
@@ -266,6 +273,18 @@ public final class ReactiveNeo4jTemplate implements
 				.flatMap(ExecutableQuery::getSingleResult);
 	}
 
+	@Override
+	public Mono<Boolean> existsById(Object id, Class<?> domainType) {
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+
+		return Mono.defer(() -> this.neo4jClient.query(() -> statementCache.getOrRender("existsById",
+						() -> cypherGenerator.prepareExistsOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(Constants.NAME_OF_ID))),
+						entityMetaData))
+				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id)).to(Constants.NAME_OF_ID)
+				.fetchAs(Boolean.class).one().defaultIfEmpty(false));
+	}
+
 	@Override
 	public <T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
@@ -358,7 +377,9 @@ public final class ReactiveNeo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
 		boolean isNewEntity = entityMetaData.isNew(instance);
-		return Mono.just(instance).flatMap(eventSupport::maybeCallBeforeBind)
+		return Mono.just(instance)
+				.doOnNext(partiallyLoadedEntities::assertNotPartiallyLoaded)
+				.flatMap(eventSupport::maybeCallBeforeBind)
 				.flatMap(entityToBeSaved -> determineDynamicLabels(entityToBeSaved, entityMetaData)).flatMap(t -> {
 					T entityToBeSaved = t.getT1();
 
@@ -376,7 +397,8 @@ public final class ReactiveNeo4jTemplate implements
 						return tree;
 					});
 
-					Mono<Entity> idMono = this.neo4jClient.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels)))
+					Mono<Entity> idMono = this.neo4jClient.query(() -> statementCache.getOrRender("prepareSaveOf",
+							() -> cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels), entityMetaData, dynamicLabels))
 							.bind(entityToBeSaved)
 							.with(binderFunction)
 							.fetchAs(Entity.class)
@@ -408,7 +430,8 @@ public final class ReactiveNeo4jTemplate implements
 			PersistentPropertyAccessor propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
 			ReactiveNeo4jClient.RunnableSpecTightToDatabase runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> statementCache.getOrRender("createStatementReturningDynamicLabels",
+							() -> cypherGenerator.createStatementReturningDynamicLabels(entityMetaData), entityMetaData))
 					.bind(convertIdValues(idProperty, propertyAccessor.getProperty(idProperty)))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM);
 
@@ -475,43 +498,92 @@ public final class ReactiveNeo4jTemplate implements
 
 		Class<T> domainClass = (Class<T>) TemplateSupport.findCommonElementType(entities);
 		Assert.notNull(domainClass, "Could not determine common domain class to save.");
-		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
-
-		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()
-				|| entityMetaData.getDynamicLabelsProperty().isPresent()) {
-			log.debug("Saving entities using single statements.");
 
-			return Flux.fromIterable(entities).flatMap(e -> this.saveImpl(e, includedProperties));
-		}
-
-		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
 		return Flux.fromIterable(entities)
+				.doOnNext(partiallyLoadedEntities::assertNotPartiallyLoaded)
 				// Map all entities into a tuple <Original, OriginalWasNew>
-				.map(e -> Tuples.of(e, entityMetaData.isNew(e)))
+				.map(e -> Tuples.of(e, neo4jMappingContext.getPersistentEntity(e.getClass()).isNew(e)))
 				// Map that tuple into a tuple <<Original, OriginalWasNew>, PotentiallyModified>
 				.zipWith(Flux.fromIterable(entities).flatMapSequential(eventSupport::maybeCallBeforeBind))
 				// And for my own sanity, back into a flat Tuple3
 				.map(nested -> Tuples.of(nested.getT1().getT1(), nested.getT1().getT2(), nested.getT2()))
 				.collectList()
-				.flatMapMany(entitiesToBeSaved -> Mono.defer(() -> {
-					// Defer the actual save statement until the previous flux completes
-					List<Map<String, Object>> boundedEntityList = entitiesToBeSaved.stream()
+				.flatMapMany(entitiesToBeSaved -> {
+					List<T> modifiedInstances = entitiesToBeSaved.stream()
 							.map(t -> t.getT3()) // extract PotentiallyModified
-							.map(binderFunction).collect(Collectors.toList());
-					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
-							.bind(boundedEntityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM).run();
-				}).doOnNext(resultSummary -> {
-					SummaryCounters counters = resultSummary.counters();
-					log.debug(() -> String.format(
-							"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
-							counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
-							counters.relationshipsDeleted(), counters.propertiesSet()));
-				}).thenMany(Flux.fromIterable(entitiesToBeSaved)
-						.flatMap(t -> processRelations(entityMetaData, t.getT1(),
-								entityMetaData.getPropertyAccessor(t.getT3()), t.getT2(),
-								TemplateSupport.computeIncludePropertyPredicate(includedProperties, entityMetaData)))
-				));
+							.collect(Collectors.toList());
+					// Rows are saved per concrete type, so that each type keeps its own labels and properties
+					return Flux.fromIterable(TemplateSupport.groupIndexesByType(modifiedInstances).entrySet())
+							.concatMap(indexesByType -> {
+								Neo4jPersistentEntity<?> entityMetaDataOfType = neo4jMappingContext.getPersistentEntity(indexesByType.getKey());
+								PropertyFilter includeProperty = TemplateSupport.computeIncludePropertyPredicate(includedProperties, entityMetaDataOfType);
+								Function<T, Map<String, Object>> binderFunction = TemplateSupport.filterProperties(
+										neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) indexesByType.getKey()), includeProperty, entityMetaDataOfType);
+
+								List<Integer> indexes = indexesByType.getValue();
+								List<T> instancesOfType = indexes.stream().map(modifiedInstances::get).collect(Collectors.toList());
+								return Mono.defer(() -> saveAllInBatch(entityMetaDataOfType, instancesOfType,
+										TemplateSupport.createEntityList(instancesOfType, binderFunction)))
+										.flatMapMany(savedNodes -> Flux.range(0, savedNodes.length)
+												.flatMapSequential(i -> {
+													int index = indexes.get(i);
+													Tuple3<T, Boolean, T> t = entitiesToBeSaved.get(index);
+													Entity savedNode = savedNodes[i];
+
+													PersistentPropertyAccessor<T> propertyAccessor = entityMetaDataOfType.getPropertyAccessor(t.getT3());
+													if (entityMetaDataOfType.isUsingInternalIds()) {
+														propertyAccessor.setProperty(entityMetaDataOfType.getRequiredIdProperty(), savedNode.id());
+													}
+													TemplateSupport.updateVersionPropertyIfPossible(entityMetaDataOfType, propertyAccessor, savedNode);
+													return processRelations(entityMetaDataOfType, t.getT1(), savedNode.id(), propertyAccessor,
+															t.getT2(), includeProperty).map(savedEntity -> Tuples.of(index, savedEntity));
+												}));
+							})
+							// Restore the order in which the entities have been passed in
+							.collectSortedList(Comparator.comparing(Tuple2::getT1))
+							.flatMapIterable(Function.identity())
+							.map(Tuple2::getT2);
+				});
+	}
+
+	/**
+	 * Saves all rows of a batch. Rows are grouped by the changes of their dynamic labels, the current labels of all rows
+	 * are retrieved with one additional statement.
+	 *
+	 * @param entityMetaData The entity to save
+	 * @param entities       The entities to save, in the order of the rows
+	 * @param entityList     The rows of the batch
+	 * @return The saved nodes, indexed by their row
+	 */
+	private Mono<Entity[]> saveAllInBatch(Neo4jPersistentEntity<?> entityMetaData, List<?> entities,
+			List<Map<String, Object>> entityList) {
+
+		Mono<List<Map<String, Object>>> currentLabels = Mono.just(Collections.emptyList());
+		if (entityMetaData.getDynamicLabelsProperty().isPresent()) {
+			currentLabels = neo4jClient
+					.query(() -> statementCache.getOrRender("createStatementReturningDynamicLabelsOfMultipleInstances",
+							() -> cypherGenerator.createStatementReturningDynamicLabelsOfMultipleInstances(entityMetaData), entityMetaData))
+					.bind(TemplateSupport.createIdList(entityList)).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+					.bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+					.fetch().all()
+					.collectList();
+		}
+
+		return currentLabels
+				.flatMapMany(labels -> Flux.fromIterable(TemplateSupport
+						.groupRowsByDynamicLabels(entityMetaData, entities, entityList, labels).entrySet()))
+				.concatMap(rowsByDynamicLabels -> neo4jClient
+						.query(() -> statementCache.getOrRender("prepareSaveOfMultipleInstancesOf",
+								() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData, rowsByDynamicLabels.getKey())), entityMetaData, rowsByDynamicLabels.getKey()))
+						.bind(rowsByDynamicLabels.getValue()).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+						.fetch().all())
+				.collectList()
+				.map(records -> {
+					Entity[] savedNodes = TemplateSupport.getSavedNodesByRowIndex(records, entityList.size());
+					TemplateSupport.assertAllRowsSaved(entityMetaData, entityList, savedNodes);
+					log.debug(() -> String.format("Saved %d entities in one batch.", entityList.size()));
+					return savedNodes;
+				});
 	}
 
 	@Override
@@ -519,10 +591,10 @@ public final class ReactiveNeo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		return Mono.defer(() -> this.neo4jClient.query(() -> renderer.render(statement))
+		return Mono.defer(() -> this.neo4jClient.query(() -> statementCache.getOrRender("deleteAllById",
+						() -> cypherGenerator.prepareDeleteOf(entityMetaData, entityMetaData.getIdExpression().in(parameter(nameOfParameter))),
+						entityMetaData))
 				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
 				.to(nameOfParameter).run().then());
 	}
@@ -534,10 +606,10 @@ public final class ReactiveNeo4jTemplate implements
 
 		String nameOfParameter = "id";
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		return Mono.defer(() -> this.neo4jClient.query(() -> renderer.render(statement))
+		return Mono.defer(() -> this.neo4jClient.query(() -> statementCache.getOrRender("deleteById",
+						() -> cypherGenerator.prepareDeleteOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter))),
+						entityMetaData))
 				.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
 				.to(nameOfParameter).run().then());
 	}
@@ -575,8 +647,8 @@ public final class ReactiveNeo4jTemplate implements
 	public Mono<Void> deleteAll(Class<?> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		return Mono.defer(() -> this.neo4jClient.query(() -> renderer.render(statement)).run().then());
+		return Mono.defer(() -> this.neo4jClient.query(() -> statementCache.getOrRender("deleteAll",
+				() -> cypherGenerator.prepareDeleteOf(entityMetaData), entityMetaData)).run().then());
 	}
 
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
@@ -596,11 +668,11 @@ public final class ReactiveNeo4jTemplate implements
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, @Nullable Class<?> resultType, @Nullable String cypherQuery,
 			Map<String, Object> parameters) {
 
-		BiFunction<TypeSystem, MapAccessor, ?> mappingFunction = TemplateSupport
+		Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction = TemplateSupport
 				.getAndDecorateMappingFunction(neo4jMappingContext, domainType, resultType);
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType).withCypherQuery(cypherQuery)
 				.withParameters(parameters)
-				.usingMappingFunction(mappingFunction).build();
+				.usingQueryScopedMappingFunction(mappingFunction).build();
 		return this.toExecutableQuery(preparedQuery);
 	}
 
@@ -609,12 +681,15 @@ public final class ReactiveNeo4jTemplate implements
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
 
-		boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments::includeField);
+		boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments.getPropertyFilter());
 		if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
+			Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction = TemplateSupport
+					.getAndDecorateMappingFunction(neo4jMappingContext, domainType, resultType);
 			return createNodesAndRelationshipsByIdStatementProvider(entityMetaData, queryFragments, queryFragmentsAndParameters.getParameters())
-					.flatMap(finalQueryAndParameters ->
-							createExecutableQuery(domainType, resultType, renderer.render(finalQueryAndParameters.toStatement()),
-									finalQueryAndParameters.getParameters()));
+					.flatMap(nodesAndRelationshipsById -> toExecutableQuery(PreparedQuery.queryFor(domainType)
+							.withCypherQuery(renderer.render(nodesAndRelationshipsById.toStatement()))
+							.withParameters(nodesAndRelationshipsById.getParameters())
+							.usingQueryScopedMappingFunction(mappingFunction).build(), nodesAndRelationshipsById));
 		}
 
 		return createExecutableQuery(domainType, resultType, queryFragments.toStatement(), queryFragmentsAndParameters.getParameters());
@@ -623,101 +698,55 @@ public final class ReactiveNeo4jTemplate implements
 	private Mono<NodesAndRelationshipsByIdStatementProvider> createNodesAndRelationshipsByIdStatementProvider(Neo4jPersistentEntity<?> entityMetaData,
 		 	QueryFragments queryFragments, Map<String, Object> parameters) {
 
-			return Mono.deferContextual(ctx -> {
-				Set<Long> rootNodeIds = ctx.get("rootNodes");
-				Set<Long> processedRelationshipIds = ctx.get("processedRelationships");
-				Set<Long> processedNodeIds = ctx.get("processedNodes");
-				return Flux.fromIterable(entityMetaData.getRelationshipsInHierarchy(fieldName -> queryFragments.includeField(fieldName)))
-						.flatMap(relationshipDescription -> {
-
-							Statement statement = cypherGenerator.prepareMatchOf(entityMetaData, relationshipDescription,
-									queryFragments.getMatchOn(), queryFragments.getCondition())
-									.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-
-							Map<String, Object> usedParameters = new HashMap<>(parameters);
-							usedParameters.putAll(statement.getParameters());
-							return neo4jClient.query(renderer.render(statement))
-									.bindAll(usedParameters)
-									.fetch()
-									.one()
-									.map(record -> {
-										Collection<Long> rootIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE);
-										Collection<Long> newRelationshipIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
-										Collection<Long> newRelatedNodeIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
-										rootNodeIds.addAll(rootIds);
-
-										return Tuples.of(newRelationshipIds, newRelatedNodeIds);
-									})
-									.expand(iterateAndMapNextLevel(relationshipDescription, queryFragments));
-						})
-						.then(Mono.fromSupplier(() -> new NodesAndRelationshipsByIdStatementProvider(rootNodeIds, processedRelationshipIds, processedNodeIds, queryFragments)));
-			})
-			.contextWrite(ctx -> ctx
-					.put("rootNodes", ConcurrentHashMap.newKeySet())
-					.put("processedNodes", ConcurrentHashMap.newKeySet())
-					.put("processedRelationships", ConcurrentHashMap.newKeySet()));
-
-	}
-
-	private Flux<Tuple2<Collection<Long>, Collection<Long>>> iterateNextLevel(Collection<Long> relatedNodeIds,
-																			  RelationshipDescription relationshipDescription, QueryFragments queryFragments) {
-
-		NodeDescription<?> target = relationshipDescription.getTarget();
-
-		return Flux.fromIterable(target.getRelationshipsInHierarchy(queryFragments::includeField))
-			.flatMap(relDe -> {
-				Node node = anyNode(Constants.NAME_OF_ROOT_NODE);
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(target, relDe, null,
-								Functions.id(node).in(Cypher.parameter(Constants.NAME_OF_ID)))
-						.returning(cypherGenerator.createGenericReturnStatement()).build();
-
-				return neo4jClient.query(renderer.render(statement))
-						.bindAll(Collections.singletonMap(Constants.NAME_OF_ID, relatedNodeIds))
-
-						.fetch()
-						.one()
-						.map(record -> {
-							Collection<Long> newRelationshipIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
-							Collection<Long> newRelatedNodeIds = (List<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
+		// first check if the root node(s) exist(s) at all
+		Statement rootNodesStatement = cypherGenerator
+				.prepareMatchOf(entityMetaData, queryFragments.getMatchOn(), queryFragments.getCondition())
+				.returning(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).build();
+
+		Map<String, Object> usedParameters = new HashMap<>(parameters);
+		usedParameters.putAll(rootNodesStatement.getParameters());
+		return neo4jClient.query(renderer.render(rootNodesStatement))
+				.bindAll(usedParameters)
+				.fetch()
+				.one()
+				.map(record -> (Collection<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE))
+				.flatMap(rootNodeIds -> {
+					if (rootNodeIds.isEmpty()) {
+						// fast return if no matching root node(s) are found
+						return Mono.just(NodesAndRelationshipsByIdStatementProvider.EMPTY);
+					}
 
-							return Tuples.of(newRelationshipIds, newRelatedNodeIds);
-						})
-						.expand(object -> iterateAndMapNextLevel(relDe, queryFragments).apply(object));
-			});
+					// explore the relationships level by level, using one statement per level
+					Set<Long> relationshipIds = new HashSet<>();
+					Set<Long> relatedNodeIds = new HashSet<>();
 
+					Map<NodeDescription<?>, Collection<Long>> frontier = Collections.singletonMap(entityMetaData, new HashSet<>(rootNodeIds));
+					return Mono.just(Tuples.of(1, frontier))
+							.expand(depthAndFrontier -> iterateNextLevel(depthAndFrontier.getT1(), depthAndFrontier.getT2(),
+									queryFragments, relationshipIds, relatedNodeIds))
+							.then(Mono.fromSupplier(() -> new NodesAndRelationshipsByIdStatementProvider(
+									new HashSet<>(rootNodeIds), relationshipIds, relatedNodeIds, queryFragments)));
+				});
 	}
 
-	@NonNull
-	private Function<Tuple2<Collection<Long>, Collection<Long>>,
-			Publisher<Tuple2<Collection<Long>, Collection<Long>>>> iterateAndMapNextLevel(
-			RelationshipDescription relationshipDescription, QueryFragments queryFragments) {
-
-		return newRelationshipAndRelatedNodeIds -> {
-			return Flux.deferContextual(ctx -> {
-				Set<Long> relationshipIds = ctx.get("processedRelationships");
-				Set<Long> processedNodeIds = ctx.get("processedNodes");
-
-				Collection<Long> newRelationshipIds = newRelationshipAndRelatedNodeIds.getT1();
-				Set<Long> tmpProcessedRels = ConcurrentHashMap.newKeySet(newRelationshipIds.size());
-				tmpProcessedRels.addAll(newRelationshipIds);
-				tmpProcessedRels.removeAll(relationshipIds);
-				relationshipIds.addAll(newRelationshipIds);
-
-				Collection<Long> newRelatedNodeIds = newRelationshipAndRelatedNodeIds.getT2();
-				Set<Long> tmpProcessedNodes = ConcurrentHashMap.newKeySet(newRelatedNodeIds.size());
-				tmpProcessedNodes.addAll(newRelatedNodeIds);
-				tmpProcessedNodes.removeAll(processedNodeIds);
-				processedNodeIds.addAll(newRelatedNodeIds);
-
-				if (tmpProcessedRels.isEmpty() && tmpProcessedNodes.isEmpty()) {
-					return Mono.empty();
-				}
+	private Mono<Tuple2<Integer, Map<NodeDescription<?>, Collection<Long>>>> iterateNextLevel(int depth,
+			Map<NodeDescription<?>, Collection<Long>> frontier, QueryFragments queryFragments, Set<Long> relationshipIds,
+			Set<Long> relatedNodeIds) {
 
-				return iterateNextLevel(newRelatedNodeIds, relationshipDescription, queryFragments);
-			});
-		};
+		TemplateSupport.ExplorationLevel level = TemplateSupport.ExplorationLevel.of(cypherGenerator, frontier,
+				queryFragments::includeField, depth, queryFragments.getMaxFetchDepth());
+		if (level == null) {
+			return Mono.empty();
+		}
+
+		return neo4jClient.query(renderer.render(level.toStatement()))
+				.bindAll(level.getParameters())
+				.fetch()
+				.all()
+				.collectList()
+				.map(records -> level.nextFrontier(records, relationshipIds, relatedNodeIds))
+				.filter(nextFrontier -> !nextFrontier.isEmpty())
+				.map(nextFrontier -> Tuples.of(depth + 1, nextFrontier));
 	}
 
 	/**
@@ -791,10 +820,16 @@ public final class ReactiveNeo4jTemplate implements
 					return;
 				}
 
+				// Simple relationships of an existing entity are synchronized with one statement that creates the
+				// missing relationships and deletes only the ones to nodes that are not related anymore.
+				boolean isExistingRelationship = !isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription);
+				boolean synchronizeRelationships = isExistingRelationship && !dynamicRelationship
+						&& !relationshipDescription.hasRelationshipProperties() && !relationshipContext.inverseValueIsEmpty();
+
 				// Remove all relationships before creating all new if the entity is not new and the relationship
 				// has not been processed before.
 				// This avoids the usage of cache but might have significant impact on overall performance
-				if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
+				if (isExistingRelationship && !synchronizeRelationships) {
 
 				List<Long> knownRelationshipsIds = new ArrayList<>();
 				if (idProperty != null) {
@@ -812,10 +847,11 @@ public final class ReactiveNeo4jTemplate implements
 					}
 				}
 
-				Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription);
+				String relationshipRemoveQuery = statementCache.getOrRender("prepareDeleteOfRelationships",
+						() -> cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription), sourceEntity, relationshipDescription);
 
 				relationshipDeleteMonos.add(
-						neo4jClient.query(renderer.render(relationshipRemoveQuery))
+						neo4jClient.query(relationshipRemoveQuery)
 								.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
 									.to(Constants.FROM_ID_PARAMETER_NAME) //
 								.bind(knownRelationshipsIds) //
@@ -830,9 +866,15 @@ public final class ReactiveNeo4jTemplate implements
 			Neo4jPersistentProperty relationshipProperty = association.getInverse();
 
 			stateMachine.markRelationshipAsProcessed(fromId, relationshipDescription);
-			Flux<RelationshipHandler> relationshipCreation = Flux.fromIterable(relatedValuesToStore).concatMap(relatedValueToStore -> {
+			String synchronizationQuery = synchronizeRelationships
+					? statementCache.getOrRender("prepareSynchronizationOfRelationships",
+							() -> cypherGenerator.prepareSynchronizationOfRelationships(sourceEntity, relationshipDescription), sourceEntity, relationshipDescription)
+					: null;
+			Flux<RelationshipHandler> relationshipCreation = saveRelatedNodes(relationshipContext, relatedValuesToStore, stateMachine, includeProperty, currentPropertyPath)
+					.thenMany(Flux.<Object>fromIterable(relatedValuesToStore)).concatMap(relatedValueToStore -> {
 
 				Object relatedObjectBeforeCallbacksApplied = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
+				partiallyLoadedEntities.assertNotPartiallyLoaded(relatedObjectBeforeCallbacksApplied);
 				return Mono.deferContextual(ctx ->
 
 						(stateMachine.hasProcessedValue(relatedObjectBeforeCallbacksApplied)
@@ -889,41 +931,44 @@ public final class ReactiveNeo4jTemplate implements
 											: null;
 
 									boolean isNewRelationship = idValue == null;
-									CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatement(
-											sourceEntity, relationshipContext, relatedValueToStore, isNewRelationship);
-
-									// in case of no properties the bind will just return an empty map
-									return neo4jClient
-											.query(renderer.render(statementHolder.getStatement()))
-											.bind(convertIdValues(sourceEntity.getRequiredIdProperty(), fromId)) //
-												.to(Constants.FROM_ID_PARAMETER_NAME) //
-											.bind(relatedInternalId) //
-												.to(Constants.TO_ID_PARAMETER_NAME) //
-											.bind(idValue) //
-													.to(Constants.NAME_OF_KNOWN_RELATIONSHIP_PARAM) //
-											.bindAll(statementHolder.getProperties())
-											.fetchAs(Long.class).one()
-											.flatMap(relationshipInternalId -> {
-												if (idProperty != null && isNewRelationship) {
-													relationshipContext
-															.getRelationshipPropertiesPropertyAccessor(relatedValueToStore)
-															.setProperty(idProperty, relationshipInternalId);
-												}
-
-												Mono<Object> nestedRelationshipsSignal = null;
-												if (processState != ProcessState.PROCESSED_ALL_VALUES) {
-													nestedRelationshipsSignal = processNestedRelations(targetEntity, targetPropertyAccessor, targetEntity.isNew(newRelatedObject), stateMachine, dynamicRelationship ? PropertyFilter.acceptAll() : includeProperty, currentPropertyPath);
-												}
-
-												Mono<Object> getRelationshipOrRelationshipPropertiesObject = Mono.fromSupplier(() -> MappingSupport.getRelationshipOrRelationshipPropertiesObject(
-																neo4jMappingContext,
-																relationshipDescription.hasRelationshipProperties(),
-																relationshipProperty.isDynamicAssociation(),
-																relatedValueToStore,
-																targetPropertyAccessor));
-												return nestedRelationshipsSignal == null ? getRelationshipOrRelationshipPropertiesObject :
-														nestedRelationshipsSignal.then(getRelationshipOrRelationshipPropertiesObject);
-											});
+
+									Map<String, Object> row = new HashMap<>();
+									row.put(Constants.FROM_ID_PARAMETER_NAME, convertIdValues(sourceEntity.getRequiredIdProperty(), fromId));
+									row.put(Constants.TO_ID_PARAMETER_NAME, relatedInternalId);
+
+									// The relationships are created after all related values have been processed,
+									// the generated ids are written back through the callback
+									TemplateSupport.RelationshipBatch relationshipBatch = ctx.get(CONTEXT_RELATIONSHIP_BATCH);
+									if (synchronizationQuery != null) {
+										relationshipBatch.addWithoutResult(synchronizationQuery, row);
+									} else {
+										CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createBatchStatement(
+												sourceEntity, relationshipContext, relatedValueToStore, isNewRelationship);
+
+										// in case of no properties the holder will just contain an empty map
+										row.putAll(statementHolder.getProperties());
+										row.put(Constants.NAME_OF_KNOWN_RELATIONSHIP_PARAM, idValue);
+
+										relationshipBatch.add(statementHolder.getCypher(), row, idProperty != null && isNewRelationship
+												? relationshipInternalId -> relationshipContext
+														.getRelationshipPropertiesPropertyAccessor(relatedValueToStore)
+														.setProperty(idProperty, relationshipInternalId)
+												: null);
+									}
+
+									Mono<Object> nestedRelationshipsSignal = null;
+									if (processState != ProcessState.PROCESSED_ALL_VALUES) {
+										nestedRelationshipsSignal = processNestedRelations(targetEntity, targetPropertyAccessor, targetEntity.isNew(newRelatedObject), stateMachine, dynamicRelationship ? PropertyFilter.acceptAll() : includeProperty, currentPropertyPath);
+									}
+
+									Mono<Object> getRelationshipOrRelationshipPropertiesObject = Mono.fromSupplier(() -> MappingSupport.getRelationshipOrRelationshipPropertiesObject(
+													neo4jMappingContext,
+													relationshipDescription.hasRelationshipProperties(),
+													relationshipProperty.isDynamicAssociation(),
+													relatedValueToStore,
+													targetPropertyAccessor));
+									return nestedRelationshipsSignal == null ? getRelationshipOrRelationshipPropertiesObject :
+											nestedRelationshipsSignal.then(getRelationshipOrRelationshipPropertiesObject);
 								})
 								.doOnNext(potentiallyRecreatedRelatedObject -> {
 									RelationshipHandler handler = ctx.get(CONTEXT_RELATIONSHIP_HANDLER);
@@ -933,9 +978,13 @@ public final class ReactiveNeo4jTemplate implements
 						.then(Mono.fromSupplier(() -> ctx.<RelationshipHandler>get(CONTEXT_RELATIONSHIP_HANDLER))));
 
 			})
+			.concatWith(Mono.deferContextual(ctx -> createRelationships(ctx.get(CONTEXT_RELATIONSHIP_BATCH)))
+					.then(Mono.<RelationshipHandler>empty()))
 			.contextWrite(ctx -> {
+				// Created for each subscription, so that subscribing again doesn't collect the relationships twice
 				RelationshipHandler relationshipHandler = RelationshipHandler.forProperty(relationshipProperty, rawValue);
-				return ctx.put(CONTEXT_RELATIONSHIP_HANDLER, relationshipHandler);
+				return ctx.put(CONTEXT_RELATIONSHIP_HANDLER, relationshipHandler)
+						.put(CONTEXT_RELATIONSHIP_BATCH, new TemplateSupport.RelationshipBatch());
 			});
 			relationshipCreationCreations.add(relationshipCreation);
 		});
@@ -948,6 +997,66 @@ public final class ReactiveNeo4jTemplate implements
 
 	}
 
+	/**
+	 * Sends one statement per group of relationships sharing the same rendered statement.
+	 *
+	 * @param relationshipBatch The relationships collected for one association
+	 * @return A mono completing when all relationships have been created
+	 */
+	private Mono<Void> createRelationships(TemplateSupport.RelationshipBatch relationshipBatch) {
+
+		return Flux.defer(() -> Flux.fromIterable(relationshipBatch.getRowsByStatement().entrySet()))
+				.concatMap(rowsByStatement -> neo4jClient.query(rowsByStatement.getKey())
+						.bind(rowsByStatement.getValue().getValues()).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+						.fetch().all()
+						.collectList()
+						.doOnNext(records -> rowsByStatement.getValue().applyIds(records)))
+				.then();
+	}
+
+	/**
+	 * Saves the related nodes of one association that share the same entity with one statement per entity instead of
+	 * one statement per node. The saved nodes are marked as processed, so that the regular processing of the
+	 * association only creates the relationships and descends further.
+	 */
+	private Mono<Void> saveRelatedNodes(NestedRelationshipContext relationshipContext, Collection<?> relatedValuesToStore,
+			NestedRelationshipProcessingStateMachine stateMachine, PropertyFilter includeProperty,
+			PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+
+		return Flux.defer(() -> Flux.fromIterable(TemplateSupport
+						.groupRelatedNodesToSave(neo4jMappingContext, relationshipContext, relatedValuesToStore, stateMachine)
+						.entrySet()))
+				.concatMap(relatedNodesByEntity -> {
+					Neo4jPersistentEntity<?> targetEntity = relatedNodesByEntity.getKey();
+					List<TemplateSupport.RelatedNode> relatedNodes = relatedNodesByEntity.getValue();
+
+					Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+							.getRequiredBinderFunctionFor((Class<Object>) targetEntity.getType());
+					Function<Object, Map<String, Object>> filteringBinderFunction = binderFunction.andThen(tree -> {
+						Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
+
+						if (!includeProperty.isNotFiltering()) {
+							properties.entrySet().removeIf(e -> !includeProperty.contains(currentPropertyPath.append(e.getKey())));
+						}
+						return tree;
+					});
+
+					return Flux.fromIterable(relatedNodes)
+							.concatMap(relatedNode -> eventSupport.maybeCallBeforeBind(relatedNode.getRelatedNodeBeforeCallbacksApplied()))
+							.collectList()
+							.flatMap(entities -> {
+								List<Map<String, Object>> entityList = TemplateSupport.createEntityList(entities, filteringBinderFunction);
+								return saveAllInBatch(targetEntity, entities, entityList)
+										.doOnNext(savedNodes -> {
+											for (int i = 0; i < savedNodes.length; ++i) {
+												relatedNodes.get(i).markAsSaved(targetEntity, entities.get(i), savedNodes[i], stateMachine);
+											}
+										});
+							});
+				})
+				.then();
+	}
+
 	private <Y> Mono<Entity> saveRelatedNode(Object relatedNode, Neo4jPersistentEntity<?> targetNodeDescription, PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
 
 		return determineDynamicLabels((Y) relatedNode, targetNodeDescription)
@@ -965,7 +1074,8 @@ public final class ReactiveNeo4jTemplate implements
 						return tree;
 					});
 					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels)))
+							.query(() -> statementCache.getOrRender("prepareSaveOf",
+									() -> cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels), targetNodeDescription, dynamicLabels))
 							.bind(entity).with(binderFunction)
 							.fetchAs(Entity.class)
 							.one();
@@ -989,21 +1099,12 @@ public final class ReactiveNeo4jTemplate implements
 			QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
 			Neo4jPersistentEntity<?> entityMetaData = (Neo4jPersistentEntity<?>) queryFragmentsAndParameters.getNodeDescription();
 
-			boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments::includeField);
+			boolean containsPossibleCircles = entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments.getPropertyFilter());
 			if (cypherQuery == null || containsPossibleCircles) {
 
 				if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
 					return createNodesAndRelationshipsByIdStatementProvider(entityMetaData, queryFragments, finalParameters)
-							.map(nodesAndRelationshipsById -> {
-								ReactiveNeo4jClient.MappingSpec<T> mappingSpec = this.neo4jClient.query(renderer.render(
-										nodesAndRelationshipsById.toStatement()))
-										.bindAll(nodesAndRelationshipsById.getParameters()).fetchAs(resultType);
-
-								ReactiveNeo4jClient.RecordFetchSpec<T> fetchSpec = preparedQuery.getOptionalMappingFunction()
-										.map(mappingFunction -> mappingSpec.mappedBy(mappingFunction)).orElse(mappingSpec);
-
-								return new DefaultReactiveExecutableQuery<>(preparedQuery, fetchSpec);
-							});
+							.flatMap(nodesAndRelationshipsById -> toExecutableQuery(preparedQuery, nodesAndRelationshipsById));
 				}
 
 				Statement statement = queryFragments.toStatement();
@@ -1021,6 +1122,38 @@ public final class ReactiveNeo4jTemplate implements
 		});
 	}
 
+	/**
+	 * Creates an executable query for the root nodes of a query on a domain with possible circles. The related nodes and
+	 * relationships are fetched only once and shared between all root nodes.
+	 */
+	private <T> Mono<ExecutableQuery<T>> toExecutableQuery(PreparedQuery<T> preparedQuery,
+			NodesAndRelationshipsByIdStatementProvider nodesAndRelationshipsById) {
+
+		Mono<Map<String, Value>> subgraph;
+		if (nodesAndRelationshipsById.hasRootNodeIds()) {
+			subgraph = Mono.just(Collections.emptyMap());
+		} else {
+			subgraph = this.neo4jClient.query(renderer.render(nodesAndRelationshipsById.toSubgraphStatement()))
+					.bindAll(nodesAndRelationshipsById.getSubgraphParameters())
+					.fetchAs(Map.class)
+					.mappedBy((t, r) -> r.asMap(Function.identity()))
+					.one()
+					.map(values -> (Map<String, Value>) values)
+					.defaultIfEmpty(Collections.emptyMap());
+		}
+
+		return subgraph.map(sharedValues -> {
+			ReactiveNeo4jClient.MappingSpec<T> mappingSpec = this.neo4jClient.query(renderer.render(
+					nodesAndRelationshipsById.toStatement()))
+					.bindAll(nodesAndRelationshipsById.getParameters()).fetchAs(preparedQuery.getResultType());
+
+			ReactiveNeo4jClient.RecordFetchSpec<T> fetchSpec = preparedQuery.getOptionalMappingFunction(sharedValues)
+					.map(mappingFunction -> mappingSpec.mappedBy(mappingFunction)).orElse(mappingSpec);
+
+			return new DefaultReactiveExecutableQuery<>(preparedQuery, fetchSpec);
+		});
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
@@ -1058,12 +1191,13 @@ public final class ReactiveNeo4jTemplate implements
 		@SuppressWarnings("unchecked")
 		public Flux<T> getResults() {
 
-			return fetchSpec.all().switchOnFirst((signal, f) -> {
+			Flux<T> results = fetchSpec.all().switchOnFirst((signal, f) -> {
 				if (signal.hasValue() && preparedQuery.resultsHaveBeenAggregated()) {
 					return f.flatMap(nested -> Flux.fromIterable((Collection<T>) nested).distinct()).distinct();
 				}
 				return f;
 			});
+			return cutsOffRelationships() ? results.doOnNext(partiallyLoadedEntities::markAsPartiallyLoaded) : results;
 		}
 
 		/**
@@ -1071,12 +1205,20 @@ public final class ReactiveNeo4jTemplate implements
 		 * @throws IncorrectResultSizeDataAccessException if there is no or more than one result
 		 */
 		public Mono<T> getSingleResult() {
-			return fetchSpec.one().map(t -> {
+			Mono<T> result = fetchSpec.one().map(t -> {
 				if (t instanceof LinkedHashSet) {
 					return (T) ((LinkedHashSet<?>) t).iterator().next();
 				}
 				return t;
 			}).onErrorMap(IndexOutOfBoundsException.class, e -> new IncorrectResultSizeDataAccessException(e.getMessage(), 1));
+			return cutsOffRelationships() ? result.doOnNext(partiallyLoadedEntities::markAsPartiallyLoaded) : result;
+		}
+
+		/**
+		 * @return {@literal true} if the loaded entities may have relationships cut off by a maximum fetch depth
+		 */
+		private boolean cutsOffRelationships() {
+			return TemplateSupport.cutsOffRelationships(preparedQuery.getQueryFragmentsAndParameters());
 		}
 	}
 }
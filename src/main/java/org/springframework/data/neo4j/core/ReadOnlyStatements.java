@@ -0,0 +1,49 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.regex.Pattern;
+
+import org.neo4j.driver.AccessMode;
+
+/**
+ * Detects the access mode of Cypher statements that are run outside a Spring managed transaction. Statements whose
+ * records are fetched are routed to readers of a cluster unless they contain any clause that might write. The detection
+ * is conservative: A statement is only considered to be read only when none of the updating keywords appears anywhere
+ * in it, not even inside a string literal or as part of a property name.
+ *
+ * @since 6.2
+ */
+final class ReadOnlyStatements {
+
+	/**
+	 * Updating clauses, procedure calls and subqueries (which might contain updating clauses) and administrative
+	 * commands.
+	 */
+	private static final Pattern POSSIBLY_UPDATING_CLAUSES = Pattern.compile(
+			"(?i)\\b(?:CREATE|MERGE|SET|DELETE|REMOVE|DETACH|FOREACH|CALL|LOAD|DROP|ALTER|RENAME|GRANT|DENY|REVOKE|START|STOP)\\b");
+
+	/**
+	 * @param cypher The statement whose records are about to be fetched
+	 * @return The access mode for a session running the statement
+	 */
+	static AccessMode accessModeForFetching(String cypher) {
+		return POSSIBLY_UPDATING_CLAUSES.matcher(cypher).find() ? AccessMode.WRITE : AccessMode.READ;
+	}
+
+	private ReadOnlyStatements() {
+	}
+}
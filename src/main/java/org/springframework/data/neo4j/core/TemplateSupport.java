@@ -15,16 +15,24 @@
  */
 package org.springframework.data.neo4j.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -37,16 +45,24 @@ import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
+import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 /**
@@ -172,65 +188,635 @@ public final class TemplateSupport {
 			this.queryFragments = queryFragments;
 		}
 
+		/**
+		 * @return The parameters of the statement returned by {@link #toStatement()}
+		 */
 		Map<String, Object> getParameters() {
-			return Collections.unmodifiableMap(parameters);
+			return Collections.singletonMap(ROOT_NODE_IDS, parameters.get(ROOT_NODE_IDS));
+		}
+
+		/**
+		 * @return The parameters of the statement returned by {@link #toSubgraphStatement()}
+		 */
+		Map<String, Object> getSubgraphParameters() {
+			Map<String, Object> subgraphParameters = new HashMap<>(2);
+			subgraphParameters.put(RELATIONSHIP_IDS, parameters.get(RELATIONSHIP_IDS));
+			subgraphParameters.put(RELATED_NODE_IDS, parameters.get(RELATED_NODE_IDS));
+			return subgraphParameters;
 		}
 
 		boolean hasRootNodeIds() {
 			return parameters.get(ROOT_NODE_IDS).isEmpty();
 		}
 
+		/**
+		 * @return A statement returning one row per root node, ordered and sliced as requested. The rows don't contain
+		 * the related nodes and relationships, those are fetched once via {@link #toSubgraphStatement()}
+		 */
 		Statement toStatement() {
 
-			String rootNodeIds = "rootNodeIds";
-			String relationshipIds = "relationshipIds";
-			String relatedNodeIds = "relatedNodeIds";
-			Node rootNodes = Cypher.anyNode(rootNodeIds);
-			Node relatedNodes = Cypher.anyNode(relatedNodeIds);
-			Relationship relationships = Cypher.anyNode().relationshipBetween(Cypher.anyNode()).named(relationshipIds);
+			Node rootNodes = Cypher.anyNode(ROOT_NODE_IDS);
 			return Cypher.match(rootNodes)
-					.where(Functions.id(rootNodes).in(Cypher.parameter(rootNodeIds)))
-					.optionalMatch(relationships)
-					.where(Functions.id(relationships).in(Cypher.parameter(relationshipIds)))
-					.optionalMatch(relatedNodes)
-					.where(Functions.id(relatedNodes).in(Cypher.parameter(relatedNodeIds)))
-					.with(
-							rootNodes.as(Constants.NAME_OF_ROOT_NODE.getValue()),
-							Functions.collectDistinct(relationships).as(Constants.NAME_OF_SYNTHESIZED_RELATIONS),
-							Functions.collectDistinct(relatedNodes).as(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES))
+					.where(Functions.id(rootNodes).in(Cypher.parameter(ROOT_NODE_IDS)))
+					.with(rootNodes.as(Constants.NAME_OF_ROOT_NODE.getValue()))
 					.orderBy(queryFragments.getOrderBy())
-					.returning(
-							Constants.NAME_OF_ROOT_NODE.as(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE),
-							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS),
-							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)
-					)
+					.returning(Constants.NAME_OF_ROOT_NODE.as(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE))
 					.skip(queryFragments.getSkip())
 					.limit(queryFragments.getLimit()).build();
 		}
+
+		/**
+		 * @return A statement returning exactly one row containing all related nodes and relationships. That row is
+		 * shared by all root nodes returned by {@link #toStatement()}, so that the subgraph is only transferred once
+		 * and not once per root node.
+		 */
+		Statement toSubgraphStatement() {
+
+			Node relatedNodes = Cypher.anyNode(RELATED_NODE_IDS);
+			Relationship relationships = Cypher.anyNode().relationshipBetween(Cypher.anyNode()).named(RELATIONSHIP_IDS);
+			return Cypher.optionalMatch(relationships)
+					.where(Functions.id(relationships).in(Cypher.parameter(RELATIONSHIP_IDS)))
+					.with(Functions.collectDistinct(relationships).as(Constants.NAME_OF_SYNTHESIZED_RELATIONS))
+					.optionalMatch(relatedNodes)
+					.where(Functions.id(relatedNodes).in(Cypher.parameter(RELATED_NODE_IDS)))
+					.returning(
+							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS),
+							Functions.collectDistinct(relatedNodes).as(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)
+					).build();
+		}
+	}
+
+	/**
+	 * Checks whether a query for the given entity cuts off any relationship because of a maximum fetch depth, either
+	 * configured for the query, on the mapping context or on the relationships themselves. The check is done on the
+	 * schema: Entities loaded by such a query may have relationships that have not been fetched.
+	 *
+	 * @param queryFragmentsAndParameters The query to check
+	 * @return {@literal true} if relationships may be cut off
+	 */
+	static boolean cutsOffRelationships(QueryFragmentsAndParameters queryFragmentsAndParameters) {
+
+		NodeDescription<?> nodeDescription = queryFragmentsAndParameters.getNodeDescription();
+		if (nodeDescription == null) {
+			return false;
+		}
+		QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
+		return cutsOffRelationships(nodeDescription, queryFragments::includeField, queryFragments.getMaxFetchDepth());
+	}
+
+	/**
+	 * @param nodeDescription The root of the query
+	 * @param includeField    A predicate for the relationships to follow
+	 * @param maxFetchDepth   The maximum depth of all relationships, negative if there is no limit
+	 * @return {@literal true} if relationships may be cut off
+	 */
+	static boolean cutsOffRelationships(NodeDescription<?> nodeDescription,
+			Predicate<PropertyFilter.RelaxedPropertyPath> includeField, int maxFetchDepth) {
+
+		// The deepest limit of all reachable relationships, beyond that every limited relationship is cut off
+		int deepestLimit = maxFetchDepth;
+		for (RelationshipDescription relationship : getReachableRelationships(Collections.singleton(nodeDescription), includeField)) {
+			deepestLimit = Math.max(deepestLimit, relationship.getMaxFetchDepth());
+		}
+		if (deepestLimit < 0) {
+			return false;
+		}
+
+		Collection<NodeDescription<?>> frontier = Collections.singleton(nodeDescription);
+		for (int depth = 1; depth <= deepestLimit + 1 && !frontier.isEmpty(); ++depth) {
+			Set<NodeDescription<?>> nextFrontier = new LinkedHashSet<>();
+			for (NodeDescription<?> node : frontier) {
+				for (RelationshipDescription relationship : node.getRelationshipsInHierarchy(includeField)) {
+					if (!relationship.isFetchedAtDepth(depth, maxFetchDepth)) {
+						return true;
+					}
+					nextFrontier.add(relationship.getTarget());
+				}
+			}
+			frontier = nextFrontier;
+		}
+
+		// Unlimited relationships may lead to limited ones that are only reachable beyond the deepest limit
+		for (RelationshipDescription relationship : getReachableRelationships(frontier, includeField)) {
+			if (!relationship.isFetchedAtDepth(deepestLimit + 1, maxFetchDepth)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<RelationshipDescription> getReachableRelationships(Collection<NodeDescription<?>> nodeDescriptions,
+			Predicate<PropertyFilter.RelaxedPropertyPath> includeField) {
+
+		Set<RelationshipDescription> relationships = new LinkedHashSet<>();
+		Set<NodeDescription<?>> visitedNodes = new HashSet<>();
+		List<NodeDescription<?>> nodesToVisit = new ArrayList<>(nodeDescriptions);
+		while (!nodesToVisit.isEmpty()) {
+			NodeDescription<?> node = nodesToVisit.remove(nodesToVisit.size() - 1);
+			if (!visitedNodes.add(node)) {
+				continue;
+			}
+			for (RelationshipDescription relationship : node.getRelationshipsInHierarchy(includeField)) {
+				relationships.add(relationship);
+				nodesToVisit.add(relationship.getTarget());
+			}
+		}
+		return relationships;
+	}
+
+	/**
+	 * One level of the exploration of a domain with possible circles. The relationships of all nodes reached in the
+	 * previous level are matched by one statement, a union of one query per relationship description, instead of
+	 * sending one statement per relationship description.
+	 */
+	static final class ExplorationLevel {
+
+		private static final String NAME_OF_BRANCH = "branch";
+
+		/**
+		 * Creates the next level of an exploration.
+		 *
+		 * @param cypherGenerator The generator for the queries of the relationships
+		 * @param frontier        The ids of the nodes to explore, grouped by the node description as which they have been reached
+		 * @param includeField    A predicate for the relationships to follow
+		 * @param depth           The depth of the relationships to follow, starting with 1 for the relationships of the root nodes
+		 * @param maxFetchDepth   The maximum depth of all relationships, negative if there is no limit
+		 * @return The next level or {@literal null}, if there are no relationships to follow
+		 */
+		@Nullable
+		static ExplorationLevel of(CypherGenerator cypherGenerator, Map<NodeDescription<?>, Collection<Long>> frontier,
+				Predicate<PropertyFilter.RelaxedPropertyPath> includeField, int depth, int maxFetchDepth) {
+
+			List<RelationshipDescription> branches = new ArrayList<>();
+			List<Statement> statements = new ArrayList<>();
+			Map<String, Object> parameters = new HashMap<>();
+
+			Node rootNode = Cypher.anyNode(Constants.NAME_OF_ROOT_NODE);
+			frontier.forEach((nodeDescription, nodeIds) -> {
+				for (RelationshipDescription relationshipDescription : nodeDescription.getRelationshipsInHierarchy(includeField)) {
+
+					if (!relationshipDescription.isFetchedAtDepth(depth, maxFetchDepth)) {
+						continue;
+					}
+
+					int branch = branches.size();
+					String nameOfIds = Constants.NAME_OF_IDS + "_" + branch;
+					statements.add(cypherGenerator
+							.prepareMatchOf(nodeDescription, relationshipDescription, null,
+									Functions.id(rootNode).in(Cypher.parameter(nameOfIds)))
+							.returning(
+									Cypher.literalOf(branch).as(NAME_OF_BRANCH),
+									Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES),
+									Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS))
+							.build());
+					branches.add(relationshipDescription);
+					parameters.put(nameOfIds, nodeIds);
+				}
+			});
+
+			if (statements.isEmpty()) {
+				return null;
+			}
+			Statement statement = statements.size() == 1 ? statements.get(0) : Cypher.unionAll(statements.toArray(new Statement[0]));
+			return new ExplorationLevel(branches, statement, parameters);
+		}
+
+		private final List<RelationshipDescription> branches;
+		private final Statement statement;
+		private final Map<String, Object> parameters;
+
+		private ExplorationLevel(List<RelationshipDescription> branches, Statement statement, Map<String, Object> parameters) {
+			this.branches = branches;
+			this.statement = statement;
+			this.parameters = parameters;
+		}
+
+		Statement toStatement() {
+			return statement;
+		}
+
+		Map<String, Object> getParameters() {
+			return Collections.unmodifiableMap(parameters);
+		}
+
+		/**
+		 * Adds the ids of the relationships and related nodes contained in the records of this level to the given sets
+		 * and computes the next frontier from the related nodes that haven't been visited yet.
+		 *
+		 * @param records         The records returned by the statement of this level
+		 * @param relationshipIds All relationship ids found so far
+		 * @param relatedNodeIds  All related node ids found so far
+		 * @return The next frontier, empty when the exploration is finished
+		 */
+		@SuppressWarnings("unchecked")
+		Map<NodeDescription<?>, Collection<Long>> nextFrontier(Collection<Map<String, Object>> records,
+				Set<Long> relationshipIds, Set<Long> relatedNodeIds) {
+
+			Map<NodeDescription<?>, Collection<Long>> nextFrontier = new LinkedHashMap<>();
+			for (Map<String, Object> record : records) {
+				RelationshipDescription relationshipDescription = branches.get(((Number) record.get(NAME_OF_BRANCH)).intValue());
+				relationshipIds.addAll((Collection<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS));
+				for (Long relatedNodeId : (Collection<Long>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)) {
+					if (relatedNodeIds.add(relatedNodeId)) {
+						nextFrontier.computeIfAbsent(relationshipDescription.getTarget(), k -> new HashSet<>()).add(relatedNodeId);
+					}
+				}
+			}
+			return nextFrontier;
+		}
+	}
+
+	/**
+	 * Collects the relationships of one association that are created or updated while saving an entity. The rows are
+	 * grouped by their rendered statement, so that each group can be send as one {@code UNWIND} based statement instead
+	 * of one statement per related value.
+	 */
+	static final class RelationshipBatch {
+
+		private final Map<String, Rows> rowsByStatement = new LinkedHashMap<>();
+
+		/**
+		 * Adds a row to a statement returning the internal id of each relationship together with the index of its row.
+		 *
+		 * @param cypherQuery The rendered batch statement
+		 * @param row         The parameters of one relationship
+		 * @param idCallback  An optional callback that receives the internal id of the created relationship
+		 */
+		void add(String cypherQuery, Map<String, Object> row, @Nullable Consumer<Long> idCallback) {
+			rowsByStatement.computeIfAbsent(cypherQuery, k -> new Rows(true)).add(row, idCallback);
+		}
+
+		/**
+		 * Adds a row to a statement that doesn't return anything, for example the synchronization of all relationships of
+		 * a node.
+		 *
+		 * @param cypherQuery The rendered batch statement
+		 * @param row         The parameters of one relationship
+		 */
+		void addWithoutResult(String cypherQuery, Map<String, Object> row) {
+			rowsByStatement.computeIfAbsent(cypherQuery, k -> new Rows(false)).add(row, null);
+		}
+
+		Map<String, Rows> getRowsByStatement() {
+			return Collections.unmodifiableMap(rowsByStatement);
+		}
+
+		static final class Rows {
+
+			private final boolean returnsIds;
+			private final List<Map<String, Object>> values = new ArrayList<>();
+			private final List<Consumer<Long>> idCallbacks = new ArrayList<>();
+
+			private Rows(boolean returnsIds) {
+				this.returnsIds = returnsIds;
+			}
+
+			private void add(Map<String, Object> row, @Nullable Consumer<Long> idCallback) {
+				row.put(Constants.NAME_OF_ROW_INDEX, this.values.size());
+				this.values.add(row);
+				this.idCallbacks.add(idCallback);
+			}
+
+			List<Map<String, Object>> getValues() {
+				return values;
+			}
+
+			/**
+			 * Hands the internal ids of the relationships back to the registered callbacks. Each record is correlated
+			 * with its row by {@link Constants#NAME_OF_ROW_INDEX}, the order of the records doesn't matter.
+			 *
+			 * @param records The records as returned by the database
+			 * @throws IllegalStateException if the statement returns ids and no id has been returned for a row
+			 */
+			void applyIds(Collection<Map<String, Object>> records) {
+
+				if (!returnsIds) {
+					return;
+				}
+
+				Long[] relationshipIds = new Long[values.size()];
+				for (Map<String, Object> record : records) {
+					int rowIndex = ((Number) record.get(Constants.NAME_OF_ROW_INDEX)).intValue();
+					relationshipIds[rowIndex] = ((Number) record.get(Constants.NAME_OF_INTERNAL_ID)).longValue();
+				}
+
+				for (int i = 0; i < relationshipIds.length; ++i) {
+					if (relationshipIds[i] == null) {
+						throw new IllegalStateException(String.format(
+								"Could not create the relationship of row %d between the nodes %s and %s.", i,
+								values.get(i).get(Constants.FROM_ID_PARAMETER_NAME), values.get(i).get(Constants.TO_ID_PARAMETER_NAME)));
+					}
+					Consumer<Long> idCallback = idCallbacks.get(i);
+					if (idCallback != null) {
+						idCallback.accept(relationshipIds[i]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Groups all related nodes of one association that have not been processed yet by their entity, so that each group
+	 * can be saved with one statement. Nodes that are the only ones of their entity are not part of the result and
+	 * must be saved one by one.
+	 *
+	 * @param mappingContext       Needed for retrieving the entities of the related nodes
+	 * @param relationshipContext  The context of the association
+	 * @param relatedValuesToStore The unified values of the association
+	 * @param stateMachine         The state of the current save operation
+	 * @return Related nodes grouped by their entity, only groups with more than one node are included
+	 */
+	static Map<Neo4jPersistentEntity<?>, List<RelatedNode>> groupRelatedNodesToSave(Neo4jMappingContext mappingContext,
+			NestedRelationshipContext relationshipContext, Collection<?> relatedValuesToStore,
+			NestedRelationshipProcessingStateMachine stateMachine) {
+
+		Map<Neo4jPersistentEntity<?>, List<RelatedNode>> relatedNodes = new LinkedHashMap<>();
+		Set<Object> visitedNodes = new HashSet<>();
+		for (Object relatedValueToStore : relatedValuesToStore) {
+			if (relatedValueToStore == null || stateMachine.hasProcessedValue(relatedValueToStore)) {
+				continue;
+			}
+
+			Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
+			if (stateMachine.hasProcessedValue(relatedNode) || !visitedNodes.add(relatedNode)) {
+				continue;
+			}
+
+			Neo4jPersistentEntity<?> targetEntity = mappingContext.getPersistentEntity(relatedNode.getClass());
+			relatedNodes.computeIfAbsent(targetEntity, k -> new ArrayList<>())
+					.add(new RelatedNode(relatedValueToStore, relatedNode));
+		}
+		relatedNodes.values().removeIf(nodes -> nodes.size() < 2);
+		return relatedNodes;
+	}
+
+	/**
+	 * Decorates the binder function of an entity so that the properties of the created rows are restricted to the
+	 * included properties.
+	 *
+	 * @param binderFunction  The binder function to decorate
+	 * @param includeProperty The filter of the included properties
+	 * @param entityMetaData  The entity bound by the binder function
+	 * @param <T>             The type of the entity
+	 * @return A binder function only binding the included properties
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Function<T, Map<String, Object>> filterProperties(Function<T, Map<String, Object>> binderFunction,
+			PropertyFilter includeProperty, Neo4jPersistentEntity<?> entityMetaData) {
+
+		if (includeProperty.isNotFiltering()) {
+			return binderFunction;
+		}
+		return binderFunction.andThen(tree -> {
+			Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
+			properties.entrySet().removeIf(e -> !includeProperty.contains(e.getKey(), entityMetaData.getUnderlyingClass()));
+			return tree;
+		});
+	}
+
+	/**
+	 * Groups the indexes of the given entities by their concrete class. Entities of different classes have different
+	 * labels and properties and can't be saved with the same statement. The order of the entities is kept in each group.
+	 *
+	 * @param entities The entities to group
+	 * @return The indexes of the entities of each class
+	 */
+	static Map<Class<?>, List<Integer>> groupIndexesByType(List<?> entities) {
+
+		Map<Class<?>, List<Integer>> indexesByType = new LinkedHashMap<>();
+		for (int i = 0; i < entities.size(); ++i) {
+			indexesByType.computeIfAbsent(entities.get(i).getClass(), type -> new ArrayList<>()).add(i);
+		}
+		return indexesByType;
+	}
+
+	/**
+	 * Pulls the instances lazily from the iterable and hands them over in chunks, so that only one chunk is held in
+	 * memory at a time.
+	 *
+	 * @param instances           The instances to save
+	 * @param chunkSize           The maximum number of instances of a chunk
+	 * @param transactionTemplate An optional template running each chunk in its own transaction
+	 * @param chunkSaver          Saves one chunk
+	 * @param <T>                 The type of the instances
+	 * @return The number of saved instances
+	 */
+	static <T> long saveInChunks(Iterable<T> instances, int chunkSize,
+			@Nullable TransactionTemplate transactionTemplate, Consumer<List<T>> chunkSaver) {
+
+		long numberOfSavedInstances = 0;
+		List<T> chunk = new ArrayList<>(chunkSize);
+		Iterator<T> iterator = instances.iterator();
+		while (iterator.hasNext()) {
+			chunk.add(iterator.next());
+			if (chunk.size() < chunkSize && iterator.hasNext()) {
+				continue;
+			}
+
+			if (transactionTemplate == null) {
+				chunkSaver.accept(chunk);
+			} else {
+				List<T> currentChunk = chunk;
+				transactionTemplate.executeWithoutResult(tx -> chunkSaver.accept(currentChunk));
+			}
+			numberOfSavedInstances += chunk.size();
+			chunk = new ArrayList<>(chunkSize);
+		}
+		return numberOfSavedInstances;
+	}
+
+	/**
+	 * Binds all entities and adds the index of each entity to its row, as required by
+	 * {@link org.springframework.data.neo4j.core.mapping.CypherGenerator#prepareSaveOfMultipleInstancesOf(NodeDescription)}.
+	 *
+	 * @param entities       The entities to bind
+	 * @param binderFunction The binder function of the entities
+	 * @param <T>            The type of the entities
+	 * @return One row per entity
+	 */
+	static <T> List<Map<String, Object>> createEntityList(List<T> entities, Function<T, Map<String, Object>> binderFunction) {
+
+		List<Map<String, Object>> entityList = new ArrayList<>(entities.size());
+		for (int i = 0; i < entities.size(); ++i) {
+			Map<String, Object> row = binderFunction.apply(entities.get(i));
+			row.put(Constants.NAME_OF_ROW_INDEX, i);
+			entityList.add(row);
+		}
+		return entityList;
+	}
+
+	/**
+	 * Reduces the rows of a batch to their ids and row indexes, as required by
+	 * {@link org.springframework.data.neo4j.core.mapping.CypherGenerator#createStatementReturningDynamicLabelsOfMultipleInstances(NodeDescription)}.
+	 *
+	 * @param entityList The rows of a batch
+	 * @return One row per entity, containing only the id, the version if any and the index of the row
+	 */
+	static List<Map<String, Object>> createIdList(List<Map<String, Object>> entityList) {
+
+		List<Map<String, Object>> idList = new ArrayList<>(entityList.size());
+		for (Map<String, Object> row : entityList) {
+			Map<String, Object> idRow = new HashMap<>(3);
+			idRow.put(Constants.NAME_OF_ID, row.get(Constants.NAME_OF_ID));
+			idRow.put(Constants.NAME_OF_ROW_INDEX, row.get(Constants.NAME_OF_ROW_INDEX));
+			if (row.containsKey(Constants.NAME_OF_VERSION_PARAM)) {
+				idRow.put(Constants.NAME_OF_VERSION_PARAM, row.get(Constants.NAME_OF_VERSION_PARAM));
+			}
+			idList.add(idRow);
+		}
+		return idList;
+	}
+
+	/**
+	 * Groups the rows of a batch by the changes of their dynamic labels. Labels cannot be passed as parameters, so all
+	 * rows of a group are saved with one statement that adds and removes the same labels.
+	 *
+	 * @param entityMetaData The entity to save
+	 * @param entities       The entities to save, in the order of the rows
+	 * @param entityList     The rows of the batch
+	 * @param currentLabels  The current dynamic labels per row index
+	 * @return The rows grouped by the changes of their dynamic labels
+	 */
+	static Map<DynamicLabels, List<Map<String, Object>>> groupRowsByDynamicLabels(Neo4jPersistentEntity<?> entityMetaData,
+			List<?> entities, List<Map<String, Object>> entityList, Collection<Map<String, Object>> currentLabels) {
+
+		Neo4jPersistentProperty dynamicLabelsProperty = entityMetaData.getDynamicLabelsProperty().orElse(null);
+		if (dynamicLabelsProperty == null) {
+			return Collections.singletonMap(DynamicLabels.EMPTY, entityList);
+		}
+
+		List<Collection<String>> oldLabelsByRowIndex = new ArrayList<>(Collections.nCopies(entityList.size(), Collections.emptyList()));
+		for (Map<String, Object> record : currentLabels) {
+			int rowIndex = ((Number) record.get(Constants.NAME_OF_ROW_INDEX)).intValue();
+			oldLabelsByRowIndex.set(rowIndex, (Collection<String>) record.get(Constants.NAME_OF_LABELS));
+		}
+
+		Map<DynamicLabels, List<Map<String, Object>>> rowsByDynamicLabels = new LinkedHashMap<>();
+		for (int i = 0; i < entityList.size(); ++i) {
+			Collection<String> newLabels = (Collection<String>) entityMetaData.getPropertyAccessor(entities.get(i))
+					.getProperty(dynamicLabelsProperty);
+			DynamicLabels dynamicLabels = new DynamicLabels(new TreeSet<>(oldLabelsByRowIndex.get(i)),
+					newLabels == null ? Collections.emptyList() : new TreeSet<>(newLabels));
+			rowsByDynamicLabels.computeIfAbsent(dynamicLabels, k -> new ArrayList<>()).add(entityList.get(i));
+		}
+		return rowsByDynamicLabels;
+	}
+
+	/**
+	 * Puts the nodes returned from a statement generated by
+	 * {@link org.springframework.data.neo4j.core.mapping.CypherGenerator#prepareSaveOfMultipleInstancesOf(NodeDescription)}
+	 * into the order of the rows they have been created from.
+	 *
+	 * @param records      The records as returned by the database
+	 * @param numberOfRows The number of rows that have been send
+	 * @return The saved nodes, indexed by their row. Rows without a result are {@literal null}
+	 */
+	static Entity[] getSavedNodesByRowIndex(Collection<Map<String, Object>> records, int numberOfRows) {
+
+		Entity[] savedNodes = new Entity[numberOfRows];
+		for (Map<String, Object> record : records) {
+			int rowIndex = ((Number) record.get(Constants.NAME_OF_ROW_INDEX)).intValue();
+			savedNodes[rowIndex] = (Entity) record.get(Constants.NAME_OF_ROOT_NODE.getValue());
+		}
+		return savedNodes;
+	}
+
+	/**
+	 * Makes sure that a node has been returned for every row of a batch. Rows of versioned entities without a node
+	 * failed the version check, so that one {@link OptimisticLockingFailureException} naming the ids of all stale rows is
+	 * thrown.
+	 *
+	 * @param entityMetaData The entity that has been saved
+	 * @param entityList     The rows that have been send
+	 * @param savedNodes     The saved nodes, indexed by their row
+	 */
+	static void assertAllRowsSaved(Neo4jPersistentEntity<?> entityMetaData, List<Map<String, Object>> entityList,
+			Entity[] savedNodes) {
+
+		List<Object> staleIds = new ArrayList<>();
+		for (int i = 0; i < savedNodes.length; ++i) {
+			if (savedNodes[i] == null) {
+				staleIds.add(entityList.get(i).get(Constants.NAME_OF_ID));
+			}
+		}
+
+		if (staleIds.isEmpty()) {
+			return;
+		}
+
+		if (entityMetaData.hasVersionProperty()) {
+			throw new OptimisticLockingFailureException(String.format(
+					"Entities with the required versions do not exist, stale ids are %s.", staleIds));
+		}
+		// defensive exception throwing
+		throw new IllegalStateException("Could not retrieve an internal id while saving.");
+	}
+
+	/**
+	 * A related value of an association and the node it points to, prior to applying any callbacks.
+	 */
+	static final class RelatedNode {
+
+		private final Object relatedValueToStore;
+		private final Object relatedNodeBeforeCallbacksApplied;
+
+		RelatedNode(Object relatedValueToStore, Object relatedNodeBeforeCallbacksApplied) {
+			this.relatedValueToStore = relatedValueToStore;
+			this.relatedNodeBeforeCallbacksApplied = relatedNodeBeforeCallbacksApplied;
+		}
+
+		Object getRelatedNodeBeforeCallbacksApplied() {
+			return relatedNodeBeforeCallbacksApplied;
+		}
+
+		/**
+		 * Writes back the generated values of the saved node and registers the related value as processed, so that the
+		 * regular processing of the association doesn't save it again.
+		 *
+		 * @param targetEntity  The entity of the saved node
+		 * @param relatedNode   The node after callbacks have been applied
+		 * @param savedNode     The node as returned from the database
+		 * @param stateMachine  The state of the current save operation
+		 */
+		void markAsSaved(Neo4jPersistentEntity<?> targetEntity, Object relatedNode, Entity savedNode,
+				NestedRelationshipProcessingStateMachine stateMachine) {
+
+			PersistentPropertyAccessor<?> propertyAccessor = targetEntity.getPropertyAccessor(relatedNode);
+			if (targetEntity.isUsingInternalIds()) {
+				Neo4jPersistentProperty idProperty = targetEntity.getRequiredIdProperty();
+				if (propertyAccessor.getProperty(idProperty) == null) {
+					propertyAccessor.setProperty(idProperty, savedNode.id());
+				}
+			}
+			updateVersionPropertyIfPossible(targetEntity, propertyAccessor, savedNode);
+
+			stateMachine.markValueAsProcessed(relatedValueToStore, savedNode.id());
+			stateMachine.markValueAsProcessedAs(relatedNodeBeforeCallbacksApplied, propertyAccessor.getBean());
+		}
 	}
 
 	/**
 	 * Checks if the {@code domainType} is a known entity in the {@code mappingContext} and retrieves the mapping function
-	 * for it. If the {@code resultType} is not an interface, a DTO based projection further down the chain is assumed
-	 * and therefor a call to {@link EntityInstanceWithSource#decorateMappingFunction(BiFunction)} is made, so that
-	 * a {@link org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter} can be used with the query result.
+	 * for it, a new one for each query execution. If the {@code resultType} is not an interface, a DTO based projection
+	 * further down the chain is assumed and therefor a call to
+	 * {@link EntityInstanceWithSource#decorateMappingFunction(BiFunction)} is made, so that a {@link org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter} can be used with the query result.
 	 *
 	 * @param mappingContext Needed for retrieving the original mapping function
 	 * @param domainType     The actual domain type (a {@link org.springframework.data.neo4j.core.schema.Node}.
 	 * @param resultType     An optional different result type
 	 * @param <T>            The domain type
-	 * @return A mapping function
+	 * @return A supplier of a new mapping function for each query execution
 	 */
-	static <T> BiFunction<TypeSystem, MapAccessor, ?> getAndDecorateMappingFunction(
+	static <T> Supplier<BiFunction<TypeSystem, MapAccessor, ?>> getAndDecorateMappingFunction(
 			Neo4jMappingContext mappingContext, Class<T> domainType, @Nullable Class<?> resultType) {
 
 		Assert.notNull(mappingContext.getPersistentEntity(domainType), "Cannot get or create persistent entity.");
-		BiFunction<TypeSystem, MapAccessor, ?> mappingFunction = mappingContext
-				.getRequiredMappingFunctionFor(domainType);
-		if (resultType != null && domainType != resultType && !resultType.isInterface()) {
-			mappingFunction = EntityInstanceWithSource.decorateMappingFunction(mappingFunction);
-		}
-		return mappingFunction;
+		boolean decorate = resultType != null && domainType != resultType && !resultType.isInterface();
+		return () -> {
+			BiFunction<TypeSystem, MapAccessor, ?> mappingFunction = mappingContext
+					.getRequiredQueryScopedMappingFunctionFor(domainType);
+			return decorate ? EntityInstanceWithSource.decorateMappingFunction(mappingFunction) : mappingFunction;
+		};
 	}
 
 	private TemplateSupport() {
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A thread safe map holding its keys weakly and comparing them by identity, not by {@link Object#equals(Object)}. Used
+ * to attach state to entity instances without relying on their equality, which is often mutable or id based. Entries
+ * of keys that have been garbage collected are removed on the next access.
+ *
+ * @param <V> The type of the values
+ * @since 6.2
+ */
+final class WeakIdentityMap<V> {
+
+	private final Map<IdentityKey, V> values = new HashMap<>();
+
+	private final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<>();
+
+	synchronized void put(Object key, V value) {
+
+		expungeCollectedKeys();
+		values.put(new IdentityKey(key, collectedKeys), value);
+	}
+
+	@Nullable
+	synchronized V get(Object key) {
+
+		expungeCollectedKeys();
+		return values.get(new IdentityKey(key, null));
+	}
+
+	synchronized boolean containsKey(Object key) {
+
+		expungeCollectedKeys();
+		return values.containsKey(new IdentityKey(key, null));
+	}
+
+	synchronized int size() {
+
+		expungeCollectedKeys();
+		return values.size();
+	}
+
+	private void expungeCollectedKeys() {
+
+		Object collectedKey;
+		while ((collectedKey = collectedKeys.poll()) != null) {
+			values.remove(collectedKey);
+		}
+	}
+
+	/**
+	 * A weak reference that is equal to other references only if they refer to the very same instance.
+	 */
+	private static final class IdentityKey extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		IdentityKey(Object key, @Nullable ReferenceQueue<Object> queue) {
+			super(key, queue);
+			this.hashCode = System.identityHashCode(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof IdentityKey)) {
+				return false;
+			}
+			Object key = get();
+			return key != null && key == ((IdentityKey) o).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
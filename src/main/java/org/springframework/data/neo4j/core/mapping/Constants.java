@@ -52,6 +52,15 @@ public final class Constants {
 	 */
 	public static final String NAME_OF_STATIC_LABELS_PARAM = "__staticLabels__";
 	public static final String NAME_OF_ENTITY_LIST_PARAM = "__entities__";
+	/**
+	 * Indicates the list of relationships that are created or updated in one batch.
+	 */
+	public static final String NAME_OF_RELATIONSHIP_LIST_PARAM = "__relationships__";
+	/**
+	 * Indicates the index of a row inside a list of entities or relationships, used to correlate the returned values
+	 * with the input.
+	 */
+	public static final String NAME_OF_ROW_INDEX = "__row__";
 	public static final String NAME_OF_KNOWN_RELATIONSHIP_PARAM = "__knownRelationShipId__";
 	public static final String NAME_OF_KNOWN_RELATIONSHIPS_PARAM = "__knownRelationShipIds__";
 	public static final String NAME_OF_PATHS = "__paths__";
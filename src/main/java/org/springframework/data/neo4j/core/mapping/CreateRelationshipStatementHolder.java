@@ -19,13 +19,12 @@ import java.util.Collections;
 import java.util.Map;
 
 import org.apiguardian.api.API;
-import org.neo4j.cypherdsl.core.Statement;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 import org.springframework.data.neo4j.core.ReactiveNeo4jTemplate;
 import org.springframework.lang.NonNull;
 
 /**
- * The {@link CreateRelationshipStatementHolder} holds the Cypher Statement to create a relationship as well as the optional
+ * The {@link CreateRelationshipStatementHolder} holds the rendered Cypher statement to create a relationship as well as the optional
  * properties that describe the relationship in case of more then a simple relationship. By holding the relationship
  * creation cypher together with the properties, we can reuse the same logic in the {@link Neo4jTemplate} as well as in
  * the {@link ReactiveNeo4jTemplate}.
@@ -37,20 +36,24 @@ import org.springframework.lang.NonNull;
 @API(status = API.Status.INTERNAL, since = "6.0")
 public final class CreateRelationshipStatementHolder {
 
-	private final Statement statement;
+	private final String cypher;
 	private final Map<String, Object> properties;
 
-	CreateRelationshipStatementHolder(@NonNull Statement statement) {
-		this(statement, Collections.emptyMap());
+	CreateRelationshipStatementHolder(@NonNull String cypher) {
+		this(cypher, Collections.emptyMap());
 	}
 
-	CreateRelationshipStatementHolder(@NonNull Statement statement, @NonNull Map<String, Object> properties) {
-		this.statement = statement;
+	CreateRelationshipStatementHolder(@NonNull String cypher, @NonNull Map<String, Object> properties) {
+		this.cypher = cypher;
 		this.properties = properties;
 	}
 
-	public Statement getStatement() {
-		return statement;
+	/**
+	 * @return The rendered statement
+	 * @since 6.2
+	 */
+	public String getCypher() {
+		return cypher;
 	}
 
 	public Map<String, Object> getProperties() {
@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
@@ -243,6 +244,40 @@ public enum CypherGenerator {
 				.returning(Functions.collect(Cypher.name("label")).as(Constants.NAME_OF_LABELS)).build();
 	}
 
+	/**
+	 * Creates a statement returning the dynamic labels of all nodes identified by the rows passed in
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM}. The labels are returned together with the index of their row, rows
+	 * without dynamic labels, without an existing node or with a version not matching the node are not returned.
+	 *
+	 * @param nodeDescription The description of the nodes
+	 * @return A statement returning the row index and the list of dynamic labels
+	 */
+	public Statement createStatementReturningDynamicLabelsOfMultipleInstances(NodeDescription<?> nodeDescription) {
+
+		final Node rootNode = Cypher.anyNode(Constants.NAME_OF_ROOT_NODE);
+		String row = "entity";
+		SymbolicName label = Cypher.name("label");
+
+		Condition versionCondition;
+		if (((Neo4jPersistentEntity) nodeDescription).hasVersionProperty()) {
+
+			PersistentProperty versionProperty = ((Neo4jPersistentEntity) nodeDescription).getRequiredVersionProperty();
+			versionCondition = rootNode.property(versionProperty.getName())
+					.isEqualTo(coalesce(Cypher.property(row, Constants.NAME_OF_VERSION_PARAM), literalOf(0)));
+		} else {
+			versionCondition = Conditions.noCondition();
+		}
+
+		return Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+				.match(rootNode)
+				.where(nodeDescription.getIdDescription().asIdExpression().isEqualTo(Cypher.property(row, Constants.NAME_OF_ID)))
+				.and(versionCondition)
+				.unwind(rootNode.labels()).as("label").with(Cypher.name(row), label)
+				.where(label.in(parameter(Constants.NAME_OF_STATIC_LABELS_PARAM)).not())
+				.returning(Cypher.property(row, Constants.NAME_OF_ROW_INDEX).as(Constants.NAME_OF_ROW_INDEX),
+						Functions.collect(label).as(Constants.NAME_OF_LABELS)).build();
+	}
+
 	public Statement prepareDeleteOf(NodeDescription<?> nodeDescription) {
 		return prepareDeleteOf(nodeDescription, null);
 	}
@@ -263,6 +298,23 @@ public enum CypherGenerator {
 		return ongoingUpdate.build();
 	}
 
+	/**
+	 * Creates a statement that checks whether a node matching the condition exists. Neither the node nor any of its
+	 * relationships are returned, the statement returns a single boolean.
+	 *
+	 * @param nodeDescription The description of the node to check
+	 * @param condition       The condition the node has to satisfy
+	 * @return A statement returning {@literal true} if such a node exists
+	 */
+	public Statement prepareExistsOf(NodeDescription<?> nodeDescription, @Nullable Condition condition) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+				.named(Constants.NAME_OF_ROOT_NODE);
+		return match(rootNode).where(conditionOrNoCondition(condition))
+				.returning(Functions.count(rootNode).gt(literalOf(0)))
+				.build();
+	}
+
 	public Statement prepareSaveOf(NodeDescription<?> nodeDescription,
 			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
 
@@ -351,23 +403,105 @@ public enum CypherGenerator {
 		}
 	}
 
+	/**
+	 * Creates a statement that saves all instances passed as list of rows in {@link Constants#NAME_OF_ENTITY_LIST_PARAM}.
+	 * Each row is expected to contain the id and the properties as generated by the binder function of the entity and
+	 * the index of the row in {@link Constants#NAME_OF_ROW_INDEX}. Each saved node is returned together with the index of
+	 * its row, so that internal ids and versions can be written back to the instances.
+	 * <p>
+	 * For entities using internal ids or a version property, rows without an existing node are created, all others are
+	 * matched by their id. Versioned nodes are only updated when their version matches the one of the row, the version is
+	 * incremented in the same statement. Rows that fail the version check are not returned at all.
+	 *
+	 * @param nodeDescription The description of the instances to save
+	 * @return A statement returning the row index and the saved node
+	 */
 	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+		return prepareSaveOfMultipleInstancesOf(nodeDescription, UnaryOperator.identity());
+	}
 
-		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
-				"Only entities that use external IDs can be saved in a batch.");
+	/**
+	 * Creates a statement like {@link #prepareSaveOfMultipleInstancesOf(NodeDescription)}, but applies the given
+	 * decorator to every row, for example to add or remove the same dynamic labels on all saved nodes.
+	 *
+	 * @param nodeDescription The description of the instances to save
+	 * @param updateDecorator A decorator applied to the update of every row
+	 * @return A statement returning the row index and the saved node
+	 */
+	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription,
+			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
 
-		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
-				.named(Constants.NAME_OF_ROOT_NODE);
-		IdDescription idDescription = nodeDescription.getIdDescription();
+		String primaryLabel = nodeDescription.getPrimaryLabel();
+		List<String> additionalLabels = nodeDescription.getAdditionalLabels();
 
-		String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
-				.orElseThrow(() -> new MappingException("External id does not correspond to a graph property!"));
+		Node rootNode = node(primaryLabel, additionalLabels).named(Constants.NAME_OF_ROOT_NODE);
+		IdDescription idDescription = nodeDescription.getIdDescription();
+		boolean hasVersionProperty = ((Neo4jPersistentEntity) nodeDescription).hasVersionProperty();
 
 		String row = "entity";
-		return Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
-				.merge(rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID)))
-				.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM))
-				.returning(Functions.collect(rootNode.property(nameOfIdProperty)).as(Constants.NAME_OF_IDS)).build();
+		Property idProperty = Cypher.property(row, Constants.NAME_OF_ID);
+		Property properties = Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM);
+		Expression[] returnedExpressions = new Expression[] {
+				Cypher.property(row, Constants.NAME_OF_ROW_INDEX).as(Constants.NAME_OF_ROW_INDEX),
+				Constants.NAME_OF_ROOT_NODE };
+
+		Function<Node, Condition> hasMatchingId;
+		if (idDescription.isInternallyGeneratedId()) {
+			hasMatchingId = node -> node.internalId().isEqualTo(idProperty);
+		} else {
+			String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
+					.orElseThrow(() -> new MappingException("External id does not correspond to a graph property!"));
+
+			if (!hasVersionProperty) {
+				return updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+						.merge(rootNode.withProperties(nameOfIdProperty, idProperty))
+						.mutate(rootNode, properties))
+						.returning(returnedExpressions).build();
+			}
+			hasMatchingId = node -> node.property(nameOfIdProperty).isEqualTo(idProperty);
+		}
+
+		String nameOfPossibleExistingNode = "hlp";
+		Node possibleExistingNode = node(primaryLabel, additionalLabels).named(nameOfPossibleExistingNode);
+
+		Statement createIfNew;
+		Statement updateIfExists;
+
+		if (hasVersionProperty) {
+			Property versionProperty = rootNode.property(((Neo4jPersistentEntity) nodeDescription).getRequiredVersionProperty().getName());
+			Property expectedVersion = Cypher.property(row, Constants.NAME_OF_VERSION_PARAM);
+
+			createIfNew = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+					.optionalMatch(possibleExistingNode).where(hasMatchingId.apply(possibleExistingNode))
+					.with(row, nameOfPossibleExistingNode).where(possibleExistingNode.isNull())
+					.create(rootNode.withProperties(versionProperty, literalOf(0)))
+					.with(Cypher.name(row), Constants.NAME_OF_ROOT_NODE)
+					.mutate(rootNode, properties))
+					.returning(returnedExpressions).build();
+
+			updateIfExists = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+					.match(rootNode).where(hasMatchingId.apply(rootNode))
+					.and(versionProperty.isEqualTo(expectedVersion)) // Initial check
+					.set(versionProperty.to(versionProperty.add(literalOf(1)))) // Acquire lock
+					.with(Cypher.name(row), Constants.NAME_OF_ROOT_NODE)
+					.where(versionProperty.isEqualTo(coalesce(expectedVersion, literalOf(0)).add(literalOf(1))))
+					.mutate(rootNode, properties))
+					.returning(returnedExpressions).build();
+		} else {
+			createIfNew = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+					.optionalMatch(possibleExistingNode).where(hasMatchingId.apply(possibleExistingNode))
+					.with(row, nameOfPossibleExistingNode).where(possibleExistingNode.isNull())
+					.create(rootNode)
+					.set(rootNode, properties))
+					.returning(returnedExpressions).build();
+
+			updateIfExists = updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+					.match(rootNode).where(hasMatchingId.apply(rootNode))
+					.mutate(rootNode, properties))
+					.returning(returnedExpressions).build();
+		}
+
+		return Cypher.unionAll(createIfNew, updateIfExists);
 	}
 
 	@NonNull
@@ -434,6 +568,151 @@ public enum CypherGenerator {
 				.build();
 	}
 
+	/**
+	 * Creates a statement that merges a list of relationships of the same type in one go. The list is expected in a
+	 * parameter named {@link Constants#NAME_OF_RELATIONSHIP_LIST_PARAM}, each row containing the id of the start node
+	 * and the internal id of the end node and the index of the row in {@link Constants#NAME_OF_ROW_INDEX}. The internal id
+	 * of each relationship is returned as {@link Constants#NAME_OF_INTERNAL_ID} together with the index of its row, as
+	 * the order of the records is not guaranteed.
+	 *
+	 * @param neo4jPersistentEntity   The description of the start node
+	 * @param relationship            The relationship to create
+	 * @param dynamicRelationshipType The type to use in case of dynamic relationships
+	 * @return A statement returning one internal id and row index per row
+	 */
+	@NonNull
+	public Statement prepareSaveOfRelationships(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationship, @Nullable String dynamicRelationshipType) {
+		final Node startNode = neo4jPersistentEntity.isUsingInternalIds()
+				? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+						.named(START_NODE_NAME);
+
+		final Node endNode = anyNode(END_NODE_NAME);
+		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+
+		String row = "relationship";
+		Property idProperty = Cypher.property(row, Constants.FROM_ID_PARAMETER_NAME);
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
+		Relationship relationshipFragment = (relationship.isOutgoing() ?
+				startNode.relationshipTo(endNode, type) :
+				startNode.relationshipFrom(endNode, type)).named(RELATIONSHIP_NAME);
+
+		return Cypher.unwind(parameter(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)).as(row)
+				.match(startNode)
+				.where(neo4jPersistentEntity.isUsingInternalIds() ? startNode.internalId().isEqualTo(idProperty)
+						: startNode.property(idPropertyName).isEqualTo(idProperty))
+				.match(endNode).where(endNode.internalId().isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME)))
+				.merge(relationshipFragment)
+				.returning(
+						Cypher.property(row, Constants.NAME_OF_ROW_INDEX).as(Constants.NAME_OF_ROW_INDEX),
+						Functions.id(relationshipFragment).as(Constants.NAME_OF_INTERNAL_ID))
+				.build();
+	}
+
+	/**
+	 * Creates a statement that synchronizes all relationships of one start node with the rows passed in
+	 * {@link Constants#NAME_OF_RELATIONSHIP_LIST_PARAM}. All rows are expected to share the same start node. Missing
+	 * relationships are created, existing ones are kept untouched and only the relationships to nodes that are not part
+	 * of the rows anymore are deleted.
+	 *
+	 * @param neo4jPersistentEntity The description of the start node
+	 * @param relationship          The relationship to synchronize, must neither be dynamic nor have properties
+	 * @return A statement synchronizing the relationships in one go
+	 */
+	@NonNull
+	public Statement prepareSynchronizationOfRelationships(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationship) {
+
+		final Node startNode = neo4jPersistentEntity.isUsingInternalIds()
+				? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+						.named(START_NODE_NAME);
+
+		final Node endNode = anyNode(END_NODE_NAME);
+		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+
+		String row = "relationship";
+		Property idProperty = Cypher.property(row, Constants.FROM_ID_PARAMETER_NAME);
+		String type = relationship.getType();
+		Relationship relationshipFragment = (relationship.isOutgoing() ?
+				startNode.relationshipTo(endNode, type) :
+				startNode.relationshipFrom(endNode, type)).named(RELATIONSHIP_NAME);
+
+		NodeDescription<?> target = relationship.getTarget();
+		Node previousEndNode = node(target.getPrimaryLabel(), target.getAdditionalLabels());
+		Relationship previousRelationship = (relationship.isOutgoing() ?
+				startNode.relationshipTo(previousEndNode, type) :
+				startNode.relationshipFrom(previousEndNode, type)).named("rel");
+
+		SymbolicName synchronizedIds = Cypher.name("synchronizedIds");
+		return Cypher.unwind(parameter(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)).as(row)
+				.match(startNode)
+				.where(neo4jPersistentEntity.isUsingInternalIds() ? startNode.internalId().isEqualTo(idProperty)
+						: startNode.property(idPropertyName).isEqualTo(idProperty))
+				.match(endNode).where(endNode.internalId().isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME)))
+				.merge(relationshipFragment)
+				.with(START_NODE_NAME, Functions.collect(Functions.id(relationshipFragment)).as(synchronizedIds.getValue()))
+				.match(previousRelationship)
+				.where(Functions.id(previousRelationship).in(synchronizedIds).not())
+				.delete(previousRelationship.getSymbolicName().get())
+				.build();
+	}
+
+	/**
+	 * Batch variant of {@link #prepareSaveOfRelationshipWithProperties(Neo4jPersistentEntity, RelationshipDescription, boolean, String)}.
+	 * Each row of {@link Constants#NAME_OF_RELATIONSHIP_LIST_PARAM} contains the start and end node id, the properties of
+	 * the relationship, the index of the row and - for existing relationships - the known relationship id. The internal
+	 * ids are returned together with the index of their row.
+	 *
+	 * @param neo4jPersistentEntity   The description of the start node
+	 * @param relationship            The relationship to create or update
+	 * @param isNew                   Flag if the relationships are new and have to be created
+	 * @param dynamicRelationshipType The type to use in case of dynamic relationships
+	 * @return A statement returning one internal id and row index per row
+	 */
+	@NonNull
+	public Statement prepareSaveOfRelationshipsWithProperties(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationship,
+			boolean isNew,
+			@Nullable String dynamicRelationshipType) {
+
+		Assert.isTrue(relationship.hasRelationshipProperties(),
+				"Properties required to create a relationship with properties");
+
+		Node startNode = node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels()).named(START_NODE_NAME);
+		Node endNode = anyNode(END_NODE_NAME);
+		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+
+		String row = "relationship";
+		Property idProperty = Cypher.property(row, Constants.FROM_ID_PARAMETER_NAME);
+		Property relationshipProperties = Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM);
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
+
+		Relationship relationshipFragment = (
+				relationship.isOutgoing() ?
+						startNode.relationshipTo(endNode, type) :
+						startNode.relationshipFrom(endNode, type))
+				.named(RELATIONSHIP_NAME);
+
+		StatementBuilder.OngoingReadingWithWhere startAndEndNodeMatch = Cypher.unwind(parameter(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)).as(row)
+				.match(startNode)
+				.where(neo4jPersistentEntity.isUsingInternalIds() ? startNode.internalId().isEqualTo(idProperty)
+						: startNode.property(idPropertyName).isEqualTo(idProperty))
+				.match(endNode).where(endNode.internalId().isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME)));
+
+		StatementBuilder.ExposesSet createOrMatch = isNew
+				? startAndEndNodeMatch.create(relationshipFragment)
+				: startAndEndNodeMatch.match(relationshipFragment)
+					.where(Functions.id(relationshipFragment).isEqualTo(Cypher.property(row, Constants.NAME_OF_KNOWN_RELATIONSHIP_PARAM)));
+		return createOrMatch
+				.mutate(RELATIONSHIP_NAME, relationshipProperties)
+				.returning(
+						Cypher.property(row, Constants.NAME_OF_ROW_INDEX).as(Constants.NAME_OF_ROW_INDEX),
+						Functions.id(relationshipFragment).as(Constants.NAME_OF_INTERNAL_ID))
+				.build();
+	}
+
 	@NonNull
 	public Statement prepareDeleteOf(
 			Neo4jPersistentEntity<?> neo4jPersistentEntity,
@@ -465,8 +744,48 @@ public enum CypherGenerator {
 				.build();
 	}
 
+	/**
+	 * Creates a statement that deletes the relationships from the node identified by {@link Constants#FROM_ID_PARAMETER_NAME}
+	 * to all nodes whose ids are passed in {@link Constants#NAME_OF_IDS}.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationshipDescription The relationship to delete
+	 * @return A statement deleting the given relationships
+	 */
+	@NonNull
+	public Statement prepareDeleteOfRelationshipsTo(
+			Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationshipDescription
+	) {
+		final Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+						.named(START_NODE_NAME);
+
+		NodeDescription<?> target = relationshipDescription.getTarget();
+		Node endNode = node(target.getPrimaryLabel(), target.getAdditionalLabels()).named(END_NODE_NAME);
+
+		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+		boolean outgoing = relationshipDescription.isOutgoing();
+
+		String relationshipToRemoveName = "rel";
+		Relationship relationship = outgoing
+				? startNode.relationshipTo(endNode, relationshipDescription.getType()).named(relationshipToRemoveName)
+				: startNode.relationshipFrom(endNode, relationshipDescription.getType()).named(relationshipToRemoveName);
+
+		Parameter idParameter = parameter(Constants.FROM_ID_PARAMETER_NAME);
+		Parameter targetIdsParameter = parameter(Constants.NAME_OF_IDS);
+		IdDescription targetIdDescription = target.getIdDescription();
+		return match(relationship)
+				.where(neo4jPersistentEntity.isUsingInternalIds() ? startNode.internalId().isEqualTo(idParameter)
+						: startNode.property(idPropertyName).isEqualTo(idParameter))
+				.and(targetIdDescription.isInternallyGeneratedId() ? endNode.internalId().in(targetIdsParameter)
+						: endNode.property(targetIdDescription.getOptionalGraphPropertyName().get()).in(targetIdsParameter))
+				.delete(relationship.getSymbolicName().get())
+				.build();
+	}
+
 	public Collection<Expression> createReturnStatementForMatch(Neo4jPersistentEntity<?> nodeDescription) {
-		return createReturnStatementForMatch(nodeDescription, (pp -> true));
+		return createReturnStatementForMatch(nodeDescription, PropertyFilter.acceptAll());
 	}
 
 	/**
@@ -515,12 +834,38 @@ public enum CypherGenerator {
 	 */
 	public Collection<Expression> createReturnStatementForMatch(Neo4jPersistentEntity<?> nodeDescription,
 			Predicate<PropertyFilter.RelaxedPropertyPath> includeField) {
+		return createReturnStatementForMatch(nodeDescription, includeField, -1);
+	}
+
+	/**
+	 * @param nodeDescription Description of the root node
+	 * @param includeField A predicate derived from the set of included properties. This is only relevant in various forms
+	 *                     of projections which allow to exclude one or more fields.
+	 * @param maxFetchDepth The maximum depth up to which relationships are projected in addition to the maximum fetch
+	 *                      depth of the relationships themselves. A negative value if there is no additional limit.
+	 * @return An expression to be returned by a Cypher statement
+	 * @since 6.2
+	 */
+	public Collection<Expression> createReturnStatementForMatch(Neo4jPersistentEntity<?> nodeDescription,
+			Predicate<PropertyFilter.RelaxedPropertyPath> includeField, int maxFetchDepth) {
+
+		// The generated statement depends only on the entity, the filter and the depth, so it can be cached per entity.
+		if (includeField instanceof PropertyFilter && nodeDescription instanceof DefaultNeo4jPersistentEntity) {
+			return ((DefaultNeo4jPersistentEntity<?>) nodeDescription).getOrCreateReturnStatementForMatch(
+					(PropertyFilter) includeField, maxFetchDepth,
+					() -> doCreateReturnStatementForMatch(nodeDescription, includeField, maxFetchDepth));
+		}
+		return doCreateReturnStatementForMatch(nodeDescription, includeField, maxFetchDepth);
+	}
+
+	private Collection<Expression> doCreateReturnStatementForMatch(Neo4jPersistentEntity<?> nodeDescription,
+			Predicate<PropertyFilter.RelaxedPropertyPath> includeField, int maxFetchDepth) {
 
 		List<RelationshipDescription> processedRelationships = new ArrayList<>();
 		if (nodeDescription.containsPossibleCircles(includeField)) {
 			return createGenericReturnStatement();
 		} else {
-			return Collections.singleton(projectPropertiesAndRelationships(PropertyFilter.RelaxedPropertyPath.withRootType(nodeDescription.getUnderlyingClass()), nodeDescription, Constants.NAME_OF_ROOT_NODE, includeField, null, processedRelationships));
+			return Collections.singleton(projectPropertiesAndRelationships(PropertyFilter.RelaxedPropertyPath.withRootType(nodeDescription.getUnderlyingClass()), nodeDescription, Constants.NAME_OF_ROOT_NODE, includeField, null, processedRelationships, 1, maxFetchDepth));
 		}
 	}
 
@@ -532,16 +877,21 @@ public enum CypherGenerator {
 		return returnExpressions;
 	}
 
+	/**
+	 * @param depth The depth of the relationships of the given node, counted from the root of the query
+	 * @param maxFetchDepth The maximum depth of all relationships, negative if there is no limit
+	 */
 	private MapProjection projectPropertiesAndRelationships(PropertyFilter.RelaxedPropertyPath parentPath, Neo4jPersistentEntity<?> nodeDescription, SymbolicName nodeName,
-															Predicate<PropertyFilter.RelaxedPropertyPath> includedProperties, RelationshipDescription relationshipDescription, List<RelationshipDescription> processedRelationships) {
+															Predicate<PropertyFilter.RelaxedPropertyPath> includedProperties, RelationshipDescription relationshipDescription, List<RelationshipDescription> processedRelationships,
+															int depth, int maxFetchDepth) {
 
 		Collection<RelationshipDescription> relationships = ((DefaultNeo4jPersistentEntity<?>) nodeDescription).getRelationshipsInHierarchy(includedProperties, parentPath);
-		relationships.removeIf(r -> !includedProperties.test(parentPath.append(r.getFieldName())));
+		relationships.removeIf(r -> !includedProperties.test(parentPath.append(r.getFieldName())) || !r.isFetchedAtDepth(depth, maxFetchDepth));
 
 		List<Object> propertiesProjection = projectNodeProperties(parentPath, nodeDescription, nodeName, relationshipDescription, includedProperties);
 		List<Object> contentOfProjection = new ArrayList<>(propertiesProjection);
 
-		contentOfProjection.addAll(generateListsFor(parentPath, relationships, nodeName, includedProperties, processedRelationships));
+		contentOfProjection.addAll(generateListsFor(parentPath, relationships, nodeName, includedProperties, processedRelationships, depth, maxFetchDepth));
 		return Cypher.anyNode(nodeName).project(contentOfProjection);
 	}
 
@@ -603,7 +953,8 @@ public enum CypherGenerator {
 	 * @see CypherGenerator#projectNodeProperties
 	 */
 	private List<Object> generateListsFor(PropertyFilter.RelaxedPropertyPath parentPath, Collection<RelationshipDescription> relationships, SymbolicName nodeName,
-										  Predicate<PropertyFilter.RelaxedPropertyPath> includedProperties, List<RelationshipDescription> processedRelationships) {
+										  Predicate<PropertyFilter.RelaxedPropertyPath> includedProperties, List<RelationshipDescription> processedRelationships,
+										  int depth, int maxFetchDepth) {
 
 		List<Object> mapProjectionLists = new ArrayList<>();
 
@@ -618,14 +969,15 @@ public enum CypherGenerator {
 				continue;
 			}
 
-			generateListFor(parentPath, relationshipDescription, nodeName, processedRelationships, fieldName, mapProjectionLists, includedProperties);
+			generateListFor(parentPath, relationshipDescription, nodeName, processedRelationships, fieldName, mapProjectionLists, includedProperties, depth, maxFetchDepth);
 		}
 
 		return mapProjectionLists;
 	}
 
 	private void generateListFor(PropertyFilter.RelaxedPropertyPath parentPath, RelationshipDescription relationshipDescription, SymbolicName nodeName,
-								 List<RelationshipDescription> processedRelationships, String fieldName, List<Object> mapProjectionLists, Predicate<PropertyFilter.RelaxedPropertyPath> includedProperties) {
+								 List<RelationshipDescription> processedRelationships, String fieldName, List<Object> mapProjectionLists, Predicate<PropertyFilter.RelaxedPropertyPath> includedProperties,
+								 int depth, int maxFetchDepth) {
 
 		String relationshipType = relationshipDescription.getType();
 		String relationshipTargetName = relationshipDescription.generateRelatedNodesCollectionName(relationshipDescription.getSource());
@@ -649,7 +1001,7 @@ public enum CypherGenerator {
 			relationship = relationship.named(relationshipTargetName);
 
 			MapProjection mapProjection = projectPropertiesAndRelationships(newParentPath, endNodeDescription, relationshipFieldName,
-					includedProperties, relationshipDescription, new ArrayList<>(processedRelationships));
+					includedProperties, relationshipDescription, new ArrayList<>(processedRelationships), depth + 1, maxFetchDepth);
 
 			if (relationshipDescription.hasRelationshipProperties()) {
 				relationship = relationship.named(relationshipSymbolicName);
@@ -667,7 +1019,7 @@ public enum CypherGenerator {
 					: startNode.relationshipFrom(endNode, relationshipType);
 
 			MapProjection mapProjection = projectPropertiesAndRelationships(newParentPath, endNodeDescription, relationshipFieldName,
-					includedProperties, relationshipDescription, new ArrayList<>(processedRelationships));
+					includedProperties, relationshipDescription, new ArrayList<>(processedRelationships), depth + 1, maxFetchDepth);
 
 			if (relationshipDescription.hasRelationshipProperties()) {
 				relationship = relationship.named(relationshipSymbolicName);
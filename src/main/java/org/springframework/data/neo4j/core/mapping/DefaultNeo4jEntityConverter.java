@@ -19,18 +19,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.neo4j.driver.Value;
@@ -43,16 +37,12 @@ import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.Type;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.CollectionFactory;
-import org.springframework.data.annotation.ReadOnlyProperty;
-import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PreferredConstructor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
-import org.springframework.data.neo4j.core.schema.TargetNode;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -70,25 +60,38 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	private final EntityInstantiators entityInstantiators;
 	private final NodeDescriptionStore nodeDescriptionStore;
 	private final Neo4jConversionService conversionService;
+	private final Map<Class<?>, EntityWritePlan> writePlans;
+	private final Map<Neo4jPersistentEntity<?>, EntityReadPlan<?>> readPlans;
 
 	private final KnownObjects knownObjects = new KnownObjects();
 
+	/**
+	 * The index of the last record whose synthesized lists of relationships and related nodes can be shared with the
+	 * following records.
+	 */
+	private @Nullable SharedRecordIndex lastRecordIndex;
+
 	private final Type nodeType;
 	private final Type relationshipType;
 	private final Type mapType;
 	private final Type listType;
 
 	DefaultNeo4jEntityConverter(EntityInstantiators entityInstantiators, Neo4jConversionService conversionService,
-			NodeDescriptionStore nodeDescriptionStore, TypeSystem typeSystem) {
+			NodeDescriptionStore nodeDescriptionStore, Map<Class<?>, EntityWritePlan> writePlans,
+			Map<Neo4jPersistentEntity<?>, EntityReadPlan<?>> readPlans, TypeSystem typeSystem) {
 
 		Assert.notNull(entityInstantiators, "EntityInstantiators must not be null!");
 		Assert.notNull(conversionService, "Neo4jConversionService must not be null!");
 		Assert.notNull(nodeDescriptionStore, "NodeDescriptionStore must not be null!");
+		Assert.notNull(writePlans, "WritePlans must not be null!");
+		Assert.notNull(readPlans, "ReadPlans must not be null!");
 		Assert.notNull(typeSystem, "TypeSystem must not be null!");
 
 		this.entityInstantiators = entityInstantiators;
 		this.conversionService = conversionService;
 		this.nodeDescriptionStore = nodeDescriptionStore;
+		this.writePlans = writePlans;
+		this.readPlans = readPlans;
 
 		this.nodeType = typeSystem.NODE();
 		this.relationshipType = typeSystem.RELATIONSHIP();
@@ -177,42 +180,13 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	@Override
 	public void write(Object source, Map<String, Object> parameters) {
-		Map<String, Object> properties = new HashMap<>();
-
-		Neo4jPersistentEntity<?> nodeDescription = (Neo4jPersistentEntity<?>) nodeDescriptionStore
-				.getNodeDescription(source.getClass());
-
-		PersistentPropertyAccessor<Object> propertyAccessor = nodeDescription.getPropertyAccessor(source);
-		nodeDescription.doWithProperties((Neo4jPersistentProperty p) -> {
-
-			// Skip the internal properties, we don't want them to end up stored as properties
-			if (p.isInternalIdProperty() || p.isDynamicLabels() || p.isEntity() || p.isVersionProperty() || p.isAnnotationPresent(ReadOnlyProperty.class)) {
-				return;
-			}
-
-			final Value value = conversionService.writeValue(propertyAccessor.getProperty(p), p.getTypeInformation(), p.getOptionalWritingConverter());
-			if (p.isComposite()) {
-				value.keys().forEach(k -> properties.put(k, value.get(k)));
-			} else {
-				properties.put(p.getPropertyName(), value);
-			}
-		});
 
-		parameters.put(Constants.NAME_OF_PROPERTIES_PARAM, properties);
+		writePlans.computeIfAbsent(source.getClass(), this::createWritePlan).write(source, parameters);
+	}
 
-		// in case of relationship properties ignore internal id property
-		if (nodeDescription.hasIdProperty()) {
-			Neo4jPersistentProperty idProperty = nodeDescription.getRequiredIdProperty();
-			parameters.put(Constants.NAME_OF_ID,
-					conversionService.writeValue(propertyAccessor.getProperty(idProperty), idProperty.getTypeInformation(), idProperty.getOptionalWritingConverter()));
-		}
-		// in case of relationship properties ignore internal id property
-		if (nodeDescription.hasVersionProperty()) {
-			Long versionProperty = (Long) propertyAccessor.getProperty(nodeDescription.getRequiredVersionProperty());
+	private EntityWritePlan createWritePlan(Class<?> type) {
 
-			// we incremented this upfront the persist operation so the matching version would be one "before"
-			parameters.put(Constants.NAME_OF_VERSION_PARAM, versionProperty);
-		}
+		return EntityWritePlan.of((Neo4jPersistentEntity<?>) nodeDescriptionStore.getNodeDescription(type), conversionService);
 	}
 
 	/**
@@ -242,13 +216,41 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	 * @return The mapped entity
 	 */
 	private <ET> ET map(MapAccessor queryResult, MapAccessor allValues, Neo4jPersistentEntity<ET> nodeDescription) {
-		Collection<Relationship> relationshipsFromResult = extractRelationships(allValues);
-		Collection<Node> nodesFromResult = extractNodes(allValues);
-		return map(queryResult, nodeDescription, null, relationshipsFromResult, nodesFromResult);
+		return map(queryResult, nodeDescription, null, getRecordIndex(allValues));
+	}
+
+	/**
+	 * Retrieves the index of all nodes and relationships in the given values. Queries on domains with possible circles
+	 * fetch the related nodes and relationships only once and add the identical list values to all records. In that
+	 * case the index is created only once, too.
+	 *
+	 * @param allValues The original query result
+	 * @return An index of all nodes and relationships
+	 */
+	private RecordIndex getRecordIndex(MapAccessor allValues) {
+
+		Value relationships = allValues.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS);
+		Value relatedNodes = allValues.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
+		SharedRecordIndex sharedRecordIndex = lastRecordIndex;
+		if (sharedRecordIndex != null && sharedRecordIndex.isCreatedFrom(relationships, relatedNodes)) {
+			return sharedRecordIndex.recordIndex;
+		}
+
+		RecordIndex recordIndex = new RecordIndex(extractNodes(allValues), extractRelationships(allValues));
+		// Empty lists cause the extraction to fall back to the single nodes and relationships of a record, so an
+		// index based on them must not be shared.
+		if (isNonEmptyList(relationships) && isNonEmptyList(relatedNodes)) {
+			lastRecordIndex = new SharedRecordIndex(relationships, relatedNodes, recordIndex);
+		}
+		return recordIndex;
+	}
+
+	private boolean isNonEmptyList(@Nullable Value value) {
+		return value != null && listType.isTypeOf(value) && !value.isEmpty();
 	}
 
 	private <ET> ET map(MapAccessor queryResult, Neo4jPersistentEntity<ET> nodeDescription,
-			@Nullable Object lastMappedEntity, Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
+			@Nullable Object lastMappedEntity, RecordIndex recordIndex) {
 
 		// if the given result does not contain an identifier to the mapped object cannot get temporarily saved
 		Long internalId = getInternalId(queryResult);
@@ -261,27 +263,28 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			Neo4jPersistentEntity<ET> concreteNodeDescription = (Neo4jPersistentEntity<ET>) nodeDescriptionAndLabels
 					.getNodeDescription();
 
-			ET instance = instantiate(concreteNodeDescription, queryResult,
-					nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity, relationshipsFromResult, nodesFromResult);
+			EntityReadPlan<ET> readPlan = (EntityReadPlan<ET>) readPlans.computeIfAbsent(concreteNodeDescription, EntityReadPlan::of);
+
+			ET instance = instantiate(readPlan, queryResult,
+					nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity, recordIndex);
 
 			PersistentPropertyAccessor<ET> propertyAccessor = concreteNodeDescription.getPropertyAccessor(instance);
 
-			if (concreteNodeDescription.requiresPropertyPopulation()) {
+			if (readPlan.requiresPropertyPopulation()) {
 
 				// Fill simple properties
-				Predicate<Neo4jPersistentProperty> isConstructorParameter = concreteNodeDescription
-						.getPersistenceConstructor()::isConstructorParameter;
-				PropertyHandler<Neo4jPersistentProperty> handler = populateFrom(queryResult, propertyAccessor,
-						isConstructorParameter, nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity);
-				concreteNodeDescription.doWithProperties(handler);
+				populateFrom(readPlan, queryResult, propertyAccessor, nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity);
 
 				// in a cyclic graph / with bidirectional relationships, we could end up in a state in which we
 				// reference the start again. Because it is getting still constructed, it won't be in the knownObjects
 				// store unless we temporarily put it there.
 				knownObjects.storeObject(internalId, instance);
 				// Fill associations
-				concreteNodeDescription.doWithAssociations(
-						populateFrom(queryResult, propertyAccessor, isConstructorParameter, relationshipsFromResult, nodesFromResult));
+				for (EntityReadPlan.PropertyReader associationReader : readPlan.getAssociationReaders()) {
+					Neo4jPersistentProperty persistentProperty = associationReader.getProperty();
+					createInstanceOfRelationships(persistentProperty, queryResult, associationReader.getRequiredRelationship(), recordIndex)
+							.ifPresent(value -> propertyAccessor.setProperty(persistentProperty, value));
+				}
 			}
 			ET bean = propertyAccessor.getBean();
 
@@ -355,73 +358,58 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				.filter(value -> value.hasType(nodeType)).count() == 1L;
 	}
 
-	private <ET> ET instantiate(Neo4jPersistentEntity<ET> nodeDescription, MapAccessor values,
+	private <ET> ET instantiate(EntityReadPlan<ET> readPlan, MapAccessor values,
 			Collection<String> surplusLabels, @Nullable Object lastMappedEntity,
-			Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
+			RecordIndex recordIndex) {
 
 		ParameterValueProvider<Neo4jPersistentProperty> parameterValueProvider = new ParameterValueProvider<Neo4jPersistentProperty>() {
 			@Override
 			public Object getParameterValue(PreferredConstructor.Parameter parameter) {
 
-				Neo4jPersistentProperty matchingProperty = nodeDescription.getRequiredPersistentProperty(parameter.getName());
-
-				if (matchingProperty.isRelationship()) {
-					RelationshipDescription relationshipDescription = nodeDescription.getRelationships().stream()
-							.filter(r -> {
-								String propertyFieldName = matchingProperty.getFieldName();
-								return r.getFieldName().equals(propertyFieldName);
-							}).findFirst().get();
-					return createInstanceOfRelationships(matchingProperty, values, relationshipDescription, relationshipsFromResult, nodesFromResult).orElse(null);
-				} else if (matchingProperty.isDynamicLabels()) {
-					return createDynamicLabelsProperty(matchingProperty.getTypeInformation(), surplusLabels);
-				} else if (matchingProperty.isEntityWithRelationshipProperties()) {
-					return lastMappedEntity;
+				EntityReadPlan.PropertyReader constructorArgument = readPlan.getConstructorArgument(parameter);
+				Neo4jPersistentProperty matchingProperty = constructorArgument.getProperty();
+
+				switch (constructorArgument.getSource()) {
+					case RELATIONSHIP:
+						return createInstanceOfRelationships(matchingProperty, values, constructorArgument.getRequiredRelationship(), recordIndex).orElse(null);
+					case DYNAMIC_LABELS:
+						return createDynamicLabelsProperty(constructorArgument.getTypeInformation(), surplusLabels);
+					case TARGET_NODE:
+						return lastMappedEntity;
+					default:
+						return conversionService.readValue(extractValueOf(matchingProperty, values), parameter.getType(), constructorArgument.getReadingConverter());
 				}
-				return conversionService.readValue(extractValueOf(matchingProperty, values), parameter.getType(), matchingProperty.getOptionalReadingConverter());
 			}
 		};
 
+		Neo4jPersistentEntity<ET> nodeDescription = readPlan.getEntity();
 		return entityInstantiators.getInstantiatorFor(nodeDescription).createInstance(nodeDescription, parameterValueProvider);
 	}
 
-	private PropertyHandler<Neo4jPersistentProperty> populateFrom(MapAccessor queryResult,
-			PersistentPropertyAccessor<?> propertyAccessor, Predicate<Neo4jPersistentProperty> isConstructorParameter,
-			Collection<String> surplusLabels, Object targetNode) {
-		return property -> {
-			if (isConstructorParameter.test(property)) {
-				return;
-			}
-
-			if (property.isDynamicLabels()) {
-				propertyAccessor.setProperty(property,
-						createDynamicLabelsProperty(property.getTypeInformation(), surplusLabels));
-			} else if (property.isAnnotationPresent(TargetNode.class)) {
-				if (queryResult instanceof Relationship) {
-					propertyAccessor.setProperty(property, targetNode);
-				}
-			} else {
-				propertyAccessor.setProperty(property,
-						conversionService.readValue(extractValueOf(property, queryResult), property.getTypeInformation(), property.getOptionalReadingConverter()));
-			}
-		};
-	}
-
-	private AssociationHandler<Neo4jPersistentProperty> populateFrom(MapAccessor queryResult,
-			PersistentPropertyAccessor<?> propertyAccessor, Predicate<Neo4jPersistentProperty> isConstructorParameter, Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
-		return association -> {
+	private void populateFrom(EntityReadPlan<?> readPlan, MapAccessor queryResult, PersistentPropertyAccessor<?> propertyAccessor,
+			Collection<String> surplusLabels, @Nullable Object targetNode) {
 
-			Neo4jPersistentProperty persistentProperty = association.getInverse();
-			if (isConstructorParameter.test(persistentProperty)) {
-				return;
+		for (EntityReadPlan.PropertyReader propertyReader : readPlan.getPropertyReaders()) {
+			Neo4jPersistentProperty property = propertyReader.getProperty();
+			switch (propertyReader.getSource()) {
+				case DYNAMIC_LABELS:
+					propertyAccessor.setProperty(property,
+							createDynamicLabelsProperty(propertyReader.getTypeInformation(), surplusLabels));
+					break;
+				case TARGET_NODE:
+					if (queryResult instanceof Relationship) {
+						propertyAccessor.setProperty(property, targetNode);
+					}
+					break;
+				default:
+					propertyAccessor.setProperty(property,
+							conversionService.readValue(extractValueOf(property, queryResult), propertyReader.getTypeInformation(), propertyReader.getReadingConverter()));
 			}
-
-			createInstanceOfRelationships(persistentProperty, queryResult, (RelationshipDescription) association, relationshipsFromResult, nodesFromResult)
-					.ifPresent(value -> propertyAccessor.setProperty(persistentProperty, value));
-		};
+		}
 	}
 
 	private Optional<Object> createInstanceOfRelationships(Neo4jPersistentProperty persistentProperty, MapAccessor values,
-			RelationshipDescription relationshipDescription, Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
+			RelationshipDescription relationshipDescription, RecordIndex recordIndex) {
 
 		String typeOfRelationship = relationshipDescription.getType();
 		String sourceLabel = relationshipDescription.getSource().getPrimaryLabel();
@@ -464,42 +452,32 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		if (Values.NULL.equals(list)) {
 			Long sourceNodeId = getInternalId(values);
 
-			Function<Relationship, Long> sourceIdSelector = relationshipDescription.isIncoming() ? Relationship::endNodeId : Relationship::startNodeId;
 			Function<Relationship, Long> targetIdSelector = relationshipDescription.isIncoming() ? Relationship::startNodeId : Relationship::endNodeId;
 
-			// Retrieve all matching relationships from the result's list(s)
-			Collection<Relationship> allMatchingTypeRelationshipsInResult =
-					extractMatchingRelationships(relationshipsFromResult, relationshipDescription, typeOfRelationship,
-							(possibleRelationship) -> sourceIdSelector.apply(possibleRelationship).equals(sourceNodeId));
-
-			// Retrieve all nodes from the result's list(s)
-			Collection<Node> allNodesWithMatchingLabelInResult = extractMatchingNodes(nodesFromResult, targetLabel);
+			// Look up all matching relationships of the source node and their target nodes in the record
+			Collection<Relationship> allMatchingTypeRelationshipsInResult = recordIndex.getRelationships(sourceNodeId,
+					relationshipDescription.isIncoming(), relationshipDescription.isDynamic() ? null : typeOfRelationship);
 
-			for (Node possibleValueNode : allNodesWithMatchingLabelInResult) {
-				long targetNodeId = possibleValueNode.id();
+			for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
+				Node possibleValueNode = recordIndex.getNode(targetIdSelector.apply(possibleRelationship), targetLabel);
+				if (possibleValueNode == null) {
+					continue;
+				}
 
 				Neo4jPersistentEntity<?> concreteTargetNodeDescription =
 						getMostConcreteTargetNodeDescription(genericTargetNodeDescription, possibleValueNode);
 
-				Set<Relationship> relationshipsProcessed = new HashSet<>();
-				for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
-					if (targetIdSelector.apply(possibleRelationship) == targetNodeId) {
-
-						Object mappedObject = map(possibleValueNode, concreteTargetNodeDescription, null, relationshipsFromResult, nodesFromResult);
-						if (relationshipDescription.hasRelationshipProperties()) {
-
-							Object relationshipProperties = map(possibleRelationship,
-									(Neo4jPersistentEntity) relationshipDescription.getRelationshipPropertiesEntity(),
-									mappedObject, relationshipsFromResult, nodesFromResult);
-							relationshipsAndProperties.add(relationshipProperties);
-							mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
-						} else {
-							mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
-						}
-						relationshipsProcessed.add(possibleRelationship);
-					}
+				Object mappedObject = map(possibleValueNode, concreteTargetNodeDescription, null, recordIndex);
+				if (relationshipDescription.hasRelationshipProperties()) {
+
+					Object relationshipProperties = map(possibleRelationship,
+							(Neo4jPersistentEntity) relationshipDescription.getRelationshipPropertiesEntity(),
+							mappedObject, recordIndex);
+					relationshipsAndProperties.add(relationshipProperties);
+					mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
+				} else {
+					mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
 				}
-				allMatchingTypeRelationshipsInResult.removeAll(relationshipsProcessed);
 			}
 		} else {
 			for (Value relatedEntity : list.asList(Function.identity())) {
@@ -507,7 +485,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				Neo4jPersistentEntity<?> concreteTargetNodeDescription =
 						getMostConcreteTargetNodeDescription(genericTargetNodeDescription, relatedEntity);
 
-				Object valueEntry = map(relatedEntity, concreteTargetNodeDescription, null, relationshipsFromResult, nodesFromResult);
+				Object valueEntry = map(relatedEntity, concreteTargetNodeDescription, null, recordIndex);
 
 				if (relationshipDescription.hasRelationshipProperties()) {
 					String relationshipSymbolicName = sourceLabel
@@ -517,7 +495,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 					Object relationshipProperties = map(relatedEntityRelationship,
 							(Neo4jPersistentEntity) relationshipDescription.getRelationshipPropertiesEntity(),
-							valueEntry, relationshipsFromResult, nodesFromResult);
+							valueEntry, recordIndex);
 					relationshipsAndProperties.add(relationshipProperties);
 					mappedObjectHandler.accept(relatedEntity.get(RelationshipDescription.NAME_OF_RELATIONSHIP_TYPE).asString(), relationshipProperties);
 				} else {
@@ -543,14 +521,6 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		}
 	}
 
-	private Collection<Node> extractMatchingNodes(Collection<Node> allNodesInResult, String targetLabel) {
-
-		Predicate<Node> onlyWithMatchingLabels = n -> n.hasLabel(targetLabel);
-		return allNodesInResult.stream()
-				.filter(onlyWithMatchingLabels)
-				.collect(Collectors.toSet());
-	}
-
 	private Collection<Node> extractNodes(MapAccessor allValues) {
 		Collection<Node> allNodesInResult = new ArrayList<>();
 		StreamSupport.stream(allValues.values().spliterator(), false)
@@ -568,14 +538,6 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return allNodesInResult;
 	}
 
-	private Collection<Relationship> extractMatchingRelationships(Collection<Relationship> relationshipsFromResult, RelationshipDescription relationshipDescription, String typeOfRelationship, Predicate<Relationship> relationshipPredicate) {
-
-		Predicate<Relationship> onlyWithMatchingType = r -> r.type().equals(typeOfRelationship) || relationshipDescription.isDynamic();
-		return relationshipsFromResult.stream()
-				.filter(onlyWithMatchingType.and(relationshipPredicate))
-				.collect(Collectors.toSet());
-	}
-
 	private Collection<Relationship> extractRelationships(MapAccessor allValues) {
 		Collection<Relationship> allRelationshipsInResult = new ArrayList<>();
 		StreamSupport.stream(allValues.values().spliterator(), false)
@@ -627,45 +589,115 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return Values.value(hlp);
 	}
 
-	static class KnownObjects {
+	/**
+	 * A record index together with the synthesized lists of relationships and related nodes it has been created from.
+	 */
+	private static final class SharedRecordIndex {
+
+		private final Value relationships;
+		private final Value relatedNodes;
+		private final RecordIndex recordIndex;
+
+		SharedRecordIndex(Value relationships, Value relatedNodes, RecordIndex recordIndex) {
+			this.relationships = relationships;
+			this.relatedNodes = relatedNodes;
+			this.recordIndex = recordIndex;
+		}
+
+		boolean isCreatedFrom(@Nullable Value otherRelationships, @Nullable Value otherRelatedNodes) {
+			return this.relationships == otherRelationships && this.relatedNodes == otherRelatedNodes;
+		}
+	}
+
+	/**
+	 * An identity map of the objects mapped so far, keyed by the internal id of the nodes and relationships they have
+	 * been mapped from. The converter is created for a single query execution (see
+	 * {@link Neo4jMappingContext#getRequiredQueryScopedMappingFunctionFor(Class)}) and its records are mapped one after
+	 * another, so the map is confined to the mapping thread and needs no locks. It uses open addressing with linear probing over
+	 * primitive keys, so that neither the keys nor the entries need to be boxed.
+	 */
+	static final class KnownObjects {
 
-		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-		private final Lock read = lock.readLock();
-		private final Lock write = lock.writeLock();
+		private static final int INITIAL_CAPACITY = 64;
 
-		private final Map<Long, Object> internalIdStore = new HashMap<>();
+		// Created on first use, converters used only for writing don't need them
+		@Nullable
+		private long[] keys;
+		@Nullable
+		private Object[] values;
+		private int size;
 
-		private void storeObject(@Nullable Long internalId, Object object) {
+		void storeObject(@Nullable Long internalId, Object object) {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				internalIdStore.put(internalId, object);
-			} finally {
-				write.unlock();
+
+			if (keys == null || values == null) {
+				keys = new long[INITIAL_CAPACITY];
+				values = new Object[INITIAL_CAPACITY];
+			}
+			if (put(keys, values, internalId, object)) {
+				if (++size > keys.length / 2) {
+					resize();
+				}
 			}
 		}
 
 		@Nullable
-		private Object getObject(@Nullable Long internalId) {
-			if (internalId == null) {
+		Object getObject(@Nullable Long internalId) {
+			if (internalId == null || keys == null || values == null) {
 				return null;
 			}
-			try {
 
-				read.lock();
+			long key = internalId;
+			int mask = keys.length - 1;
+			for (int i = indexOf(key, mask); values[i] != null; i = (i + 1) & mask) {
+				if (keys[i] == key) {
+					return values[i];
+				}
+			}
+			return null;
+		}
 
-				Object knownEntity = internalIdStore.get(internalId);
+		int size() {
+			return size;
+		}
 
-				if (knownEntity != null) {
-					return knownEntity;
+		/**
+		 * @return {@literal true} if a new entry has been added, {@literal false} if an existing one has been replaced
+		 */
+		private static boolean put(long[] keys, Object[] values, long key, Object value) {
+
+			int mask = keys.length - 1;
+			int i = indexOf(key, mask);
+			while (values[i] != null) {
+				if (keys[i] == key) {
+					values[i] = value;
+					return false;
 				}
+				i = (i + 1) & mask;
+			}
+			keys[i] = key;
+			values[i] = value;
+			return true;
+		}
 
-			} finally {
-				read.unlock();
+		private void resize() {
+
+			long[] newKeys = new long[keys.length * 2];
+			Object[] newValues = new Object[values.length * 2];
+			for (int i = 0; i < keys.length; ++i) {
+				if (values[i] != null) {
+					put(newKeys, newValues, keys[i], values[i]);
+				}
 			}
-			return null;
+			this.keys = newKeys;
+			this.values = newValues;
+		}
+
+		private static int indexOf(long key, int mask) {
+			long hash = key * 0x9E3779B97F4A7C15L;
+			return (int) (hash ^ (hash >>> 32)) & mask;
 		}
 	}
 }
@@ -22,15 +22,18 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.neo4j.cypherdsl.core.Expression;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.data.mapping.Association;
@@ -85,6 +88,16 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 
 	private final Lazy<Boolean> isRelationshipPropertiesEntity;
 
+	/**
+	 * The results of the detection of possible circles per property filter.
+	 */
+	private final Map<PropertyFilter, Boolean> possibleCircles = new ConcurrentHashMap<>();
+
+	/**
+	 * The return statements generated for this entity per property filter and maximum fetch depth.
+	 */
+	private final Map<List<Object>, Collection<Expression>> returnStatementsForMatch = new ConcurrentHashMap<>();
+
 	DefaultNeo4jPersistentEntity(TypeInformation<T> information) {
 		super(information);
 
@@ -541,9 +554,46 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 
 	@Override
 	public boolean containsPossibleCircles(Predicate<PropertyFilter.RelaxedPropertyPath> includeField) {
+
+		// Property filters can be used as cache keys, arbitrary predicates can't.
+		if (includeField instanceof PropertyFilter) {
+			return possibleCircles.computeIfAbsent((PropertyFilter) includeField, this::calculatePossibleCircles);
+		}
 		return calculatePossibleCircles(includeField);
 	}
 
+	/**
+	 * Retrieves the return statement for the given property filter and maximum fetch depth or creates and stores it if
+	 * there is none yet.
+	 *
+	 * @param propertyFilter  The property filter used to create the return statement
+	 * @param maxFetchDepth   The maximum fetch depth used to create the return statement
+	 * @param returnStatement Creates the return statement, called only when the statement has not been cached
+	 * @return An unmodifiable return statement
+	 */
+	Collection<Expression> getOrCreateReturnStatementForMatch(PropertyFilter propertyFilter, int maxFetchDepth,
+			Supplier<Collection<Expression>> returnStatement) {
+
+		List<Object> key = Arrays.asList(propertyFilter, maxFetchDepth);
+		Collection<Expression> expressions = returnStatementsForMatch.get(key);
+		if (expressions == null) {
+			expressions = Collections.unmodifiableCollection(returnStatement.get());
+			Collection<Expression> previousExpressions = returnStatementsForMatch.putIfAbsent(key, expressions);
+			if (previousExpressions != null) {
+				expressions = previousExpressions;
+			}
+		}
+		return expressions;
+	}
+
+	/**
+	 * Removes the cached return statements, needed when their input, for example the default maximum fetch depth of
+	 * relationships, changes.
+	 */
+	void clearReturnStatementsForMatch() {
+		returnStatementsForMatch.clear();
+	}
+
 	private boolean calculatePossibleCircles(Predicate<PropertyFilter.RelaxedPropertyPath> includeField) {
 		Collection<RelationshipDescription> relationships = new HashSet<>(getRelationshipsInHierarchy(includeField));
 
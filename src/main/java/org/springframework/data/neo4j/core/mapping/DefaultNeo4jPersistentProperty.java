@@ -165,7 +165,8 @@ final class DefaultNeo4jPersistentProperty extends AnnotationBasedPersistentProp
 
 		DefaultRelationshipDescription relationshipDescription = new DefaultRelationshipDescription(this,
 				obverseRelationshipDescription.orElse(null), type, dynamicAssociation, (NodeDescription<?>) getOwner(),
-				this.getName(), obverseOwner, direction, relationshipPropertiesClass);
+				this.getName(), obverseOwner, direction, relationshipPropertiesClass,
+				relationship != null ? relationship.maxFetchDepth() : -1, this.mappingContext::getMaxFetchDepth);
 
 		// Update the previous found, if any, relationship with the newly created one as its counterpart.
 		obverseRelationshipDescription
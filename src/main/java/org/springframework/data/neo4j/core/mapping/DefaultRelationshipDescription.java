@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.core.mapping;
 
 import java.util.Objects;
+import java.util.function.IntSupplier;
 
 import org.springframework.data.mapping.Association;
 import org.springframework.data.neo4j.core.schema.Relationship;
@@ -42,11 +43,16 @@ final class DefaultRelationshipDescription extends Association<Neo4jPersistentPr
 
 	private final NodeDescription<?> relationshipPropertiesClass;
 
+	private final int maxFetchDepth;
+
+	private final IntSupplier defaultMaxFetchDepth;
+
 	private RelationshipDescription relationshipObverse;
 
 	DefaultRelationshipDescription(Neo4jPersistentProperty inverse, @Nullable RelationshipDescription relationshipObverse,
 			String type, boolean dynamic, NodeDescription<?> source, String fieldName, NodeDescription<?> target,
-			Relationship.Direction direction, @Nullable NodeDescription<?> relationshipProperties) {
+			Relationship.Direction direction, @Nullable NodeDescription<?> relationshipProperties,
+			int maxFetchDepth, IntSupplier defaultMaxFetchDepth) {
 
 		// the immutable obverse association-wise is always null because we cannot determine them on both sides
 		// if we consider to support bidirectional relationships.
@@ -60,6 +66,8 @@ final class DefaultRelationshipDescription extends Association<Neo4jPersistentPr
 		this.target = target;
 		this.direction = direction;
 		this.relationshipPropertiesClass = relationshipProperties;
+		this.maxFetchDepth = maxFetchDepth;
+		this.defaultMaxFetchDepth = defaultMaxFetchDepth;
 	}
 
 	@Override
@@ -102,6 +110,11 @@ final class DefaultRelationshipDescription extends Association<Neo4jPersistentPr
 		return getRelationshipPropertiesEntity() != null;
 	}
 
+	@Override
+	public int getMaxFetchDepth() {
+		return maxFetchDepth < 0 ? defaultMaxFetchDepth.getAsInt() : maxFetchDepth;
+	}
+
 	@Override
 	public void setRelationshipObverse(RelationshipDescription relationshipObverse) {
 		this.relationshipObverse = relationshipObverse;
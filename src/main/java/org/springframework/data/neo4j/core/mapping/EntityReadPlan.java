@@ -0,0 +1,229 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * A plan for reading instances of one concrete entity from a record. The sources of the constructor arguments, the
+ * properties to populate, their reading converters and the descriptions of the relationships are resolved once when
+ * the plan is created. The counterpart of this class is the {@link EntityWritePlan}.
+ *
+ * @param <ET> The type of the entity
+ * @since 6.2
+ */
+final class EntityReadPlan<ET> {
+
+	/**
+	 * Where the value of a property or constructor argument comes from.
+	 */
+	enum Source {
+		/**
+		 * A property of the node or relationship.
+		 */
+		VALUE,
+		/**
+		 * The labels of the node that are not static labels of the entity.
+		 */
+		DYNAMIC_LABELS,
+		/**
+		 * The previously mapped entity, that is the target node of a relationship with properties.
+		 */
+		TARGET_NODE,
+		/**
+		 * Related nodes.
+		 */
+		RELATIONSHIP
+	}
+
+	private final Neo4jPersistentEntity<ET> entity;
+
+	private final boolean requiresPropertyPopulation;
+
+	private final Map<String, PropertyReader> constructorArguments;
+
+	private final PropertyReader[] propertyReaders;
+
+	private final PropertyReader[] associationReaders;
+
+	static <ET> EntityReadPlan<ET> of(Neo4jPersistentEntity<ET> entity) {
+
+		Map<String, RelationshipDescription> relationshipsByFieldName = new HashMap<>();
+		entity.getRelationships().forEach(r -> relationshipsByFieldName.putIfAbsent(r.getFieldName(), r));
+
+		PreferredConstructor<ET, Neo4jPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+		Map<String, PropertyReader> constructorArguments = new HashMap<>();
+		if (persistenceConstructor != null) {
+			for (PreferredConstructor.Parameter<Object, Neo4jPersistentProperty> parameter : persistenceConstructor.getParameters()) {
+				Neo4jPersistentProperty property = parameter.getName() == null ? null : entity.getPersistentProperty(parameter.getName());
+				if (property == null) {
+					continue;
+				}
+
+				Source source;
+				if (property.isRelationship()) {
+					source = Source.RELATIONSHIP;
+				} else if (property.isDynamicLabels()) {
+					source = Source.DYNAMIC_LABELS;
+				} else if (property.isEntityWithRelationshipProperties()) {
+					source = Source.TARGET_NODE;
+				} else {
+					source = Source.VALUE;
+				}
+				constructorArguments.put(parameter.getName(), new PropertyReader(property, source, relationshipsByFieldName.get(property.getFieldName())));
+			}
+		}
+
+		List<PropertyReader> propertyReaders = new ArrayList<>();
+		List<PropertyReader> associationReaders = new ArrayList<>();
+		if (entity.requiresPropertyPopulation()) {
+
+			entity.doWithProperties((PropertyHandler<Neo4jPersistentProperty>) property -> {
+				if (persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property)) {
+					return;
+				}
+
+				Source source;
+				if (property.isDynamicLabels()) {
+					source = Source.DYNAMIC_LABELS;
+				} else if (property.isAnnotationPresent(TargetNode.class)) {
+					source = Source.TARGET_NODE;
+				} else {
+					source = Source.VALUE;
+				}
+				propertyReaders.add(new PropertyReader(property, source, null));
+			});
+
+			entity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) association -> {
+				Neo4jPersistentProperty property = association.getInverse();
+				if (persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property)) {
+					return;
+				}
+
+				associationReaders.add(new PropertyReader(property, Source.RELATIONSHIP, (RelationshipDescription) association));
+			});
+		}
+
+		return new EntityReadPlan<>(entity, constructorArguments, propertyReaders.toArray(new PropertyReader[0]),
+				associationReaders.toArray(new PropertyReader[0]));
+	}
+
+	private EntityReadPlan(Neo4jPersistentEntity<ET> entity, Map<String, PropertyReader> constructorArguments,
+			PropertyReader[] propertyReaders, PropertyReader[] associationReaders) {
+
+		this.entity = entity;
+		this.requiresPropertyPopulation = entity.requiresPropertyPopulation();
+		this.constructorArguments = constructorArguments;
+		this.propertyReaders = propertyReaders;
+		this.associationReaders = associationReaders;
+	}
+
+	Neo4jPersistentEntity<ET> getEntity() {
+		return entity;
+	}
+
+	boolean requiresPropertyPopulation() {
+		return requiresPropertyPopulation;
+	}
+
+	/**
+	 * @param parameter A parameter of the persistence constructor
+	 * @return The reader for the property matching the parameter
+	 */
+	PropertyReader getConstructorArgument(PreferredConstructor.Parameter<?, Neo4jPersistentProperty> parameter) {
+
+		PropertyReader propertyReader = constructorArguments.get(parameter.getName());
+		if (propertyReader == null) {
+			// Fails with the same exception as the mapping did without the plan
+			entity.getRequiredPersistentProperty(parameter.getName());
+			throw new IllegalStateException("No property for constructor parameter " + parameter.getName());
+		}
+		return propertyReader;
+	}
+
+	/**
+	 * @return Readers for all simple properties that are not populated through the constructor
+	 */
+	PropertyReader[] getPropertyReaders() {
+		return propertyReaders;
+	}
+
+	/**
+	 * @return Readers for all associations that are not populated through the constructor
+	 */
+	PropertyReader[] getAssociationReaders() {
+		return associationReaders;
+	}
+
+	static final class PropertyReader {
+
+		private final Neo4jPersistentProperty property;
+
+		private final Source source;
+
+		private final TypeInformation<?> typeInformation;
+
+		@Nullable
+		private final Function<Value, Object> readingConverter;
+
+		@Nullable
+		private final RelationshipDescription relationship;
+
+		PropertyReader(Neo4jPersistentProperty property, Source source, @Nullable RelationshipDescription relationship) {
+			this.property = property;
+			this.source = source;
+			this.typeInformation = property.getTypeInformation();
+			this.readingConverter = property.getOptionalReadingConverter();
+			this.relationship = relationship;
+		}
+
+		Neo4jPersistentProperty getProperty() {
+			return property;
+		}
+
+		Source getSource() {
+			return source;
+		}
+
+		TypeInformation<?> getTypeInformation() {
+			return typeInformation;
+		}
+
+		@Nullable
+		Function<Value, Object> getReadingConverter() {
+			return readingConverter;
+		}
+
+		RelationshipDescription getRequiredRelationship() {
+			if (relationship == null) {
+				throw new IllegalStateException("No relationship description for " + property.getFieldName());
+			}
+			return relationship;
+		}
+	}
+}
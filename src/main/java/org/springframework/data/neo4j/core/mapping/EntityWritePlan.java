@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * A plan for writing instances of one entity into the parameters of a statement. All decisions that only depend on the
+ * entity, like which properties are to be written and which converters apply, are made once when the plan is created.
+ * Writing an instance is then a loop over the resolved property writers.
+ *
+ * @since 6.2
+ */
+final class EntityWritePlan {
+
+	private final Neo4jPersistentEntity<?> entity;
+
+	private final Neo4jConversionService conversionService;
+
+	private final PropertyWriter[] propertyWriters;
+
+	/**
+	 * Initial capacity of the properties map, large enough to hold all properties without rehashing
+	 */
+	private final int initialCapacity;
+
+	@Nullable
+	private final PropertyWriter idWriter;
+
+	@Nullable
+	private final Neo4jPersistentProperty versionProperty;
+
+	static EntityWritePlan of(Neo4jPersistentEntity<?> entity, Neo4jConversionService conversionService) {
+
+		List<PropertyWriter> propertyWriters = new ArrayList<>();
+		entity.doWithProperties((PropertyHandler<Neo4jPersistentProperty>) p -> {
+
+			// Skip the internal properties, we don't want them to end up stored as properties
+			if (p.isInternalIdProperty() || p.isDynamicLabels() || p.isEntity() || p.isVersionProperty() || p.isAnnotationPresent(ReadOnlyProperty.class)) {
+				return;
+			}
+			propertyWriters.add(new PropertyWriter(p));
+		});
+
+		// in case of relationship properties ignore internal id property
+		PropertyWriter idWriter = entity.hasIdProperty() ? new PropertyWriter(entity.getRequiredIdProperty()) : null;
+		Neo4jPersistentProperty versionProperty = entity.hasVersionProperty() ? entity.getRequiredVersionProperty() : null;
+
+		return new EntityWritePlan(entity, conversionService, propertyWriters.toArray(new PropertyWriter[0]), idWriter, versionProperty);
+	}
+
+	private EntityWritePlan(Neo4jPersistentEntity<?> entity, Neo4jConversionService conversionService,
+			PropertyWriter[] propertyWriters, @Nullable PropertyWriter idWriter, @Nullable Neo4jPersistentProperty versionProperty) {
+
+		this.entity = entity;
+		this.conversionService = conversionService;
+		this.propertyWriters = propertyWriters;
+		this.initialCapacity = (int) (propertyWriters.length / 0.75f) + 1;
+		this.idWriter = idWriter;
+		this.versionProperty = versionProperty;
+	}
+
+	/**
+	 * Writes the given source into the parameters, see {@link Neo4jEntityConverter#write(Object, Map)}.
+	 *
+	 * @param source     The instance to write, must be an instance of the entity this plan has been created for
+	 * @param parameters The target map
+	 */
+	void write(Object source, Map<String, Object> parameters) {
+
+		PersistentPropertyAccessor<Object> propertyAccessor = entity.getPropertyAccessor(source);
+
+		Map<String, Object> properties = new HashMap<>(initialCapacity);
+		for (PropertyWriter propertyWriter : propertyWriters) {
+			Value value = propertyWriter.write(propertyAccessor, conversionService);
+			if (propertyWriter.composite) {
+				value.keys().forEach(k -> properties.put(k, value.get(k)));
+			} else {
+				properties.put(propertyWriter.propertyName, value);
+			}
+		}
+
+		parameters.put(Constants.NAME_OF_PROPERTIES_PARAM, properties);
+
+		if (idWriter != null) {
+			parameters.put(Constants.NAME_OF_ID, idWriter.write(propertyAccessor, conversionService));
+		}
+		if (versionProperty != null) {
+			// we incremented this upfront the persist operation so the matching version would be one "before"
+			parameters.put(Constants.NAME_OF_VERSION_PARAM, propertyAccessor.getProperty(versionProperty));
+		}
+	}
+
+	private static final class PropertyWriter {
+
+		private final Neo4jPersistentProperty property;
+
+		private final TypeInformation<?> typeInformation;
+
+		@Nullable
+		private final Function<Object, Value> writingConverter;
+
+		private final boolean composite;
+
+		@Nullable
+		private final String propertyName;
+
+		PropertyWriter(Neo4jPersistentProperty property) {
+			this.property = property;
+			this.typeInformation = property.getTypeInformation();
+			this.writingConverter = property.getOptionalWritingConverter();
+			this.composite = property.isComposite();
+			this.propertyName = this.composite ? null : property.getPropertyName();
+		}
+
+		Value write(PersistentPropertyAccessor<Object> propertyAccessor, Neo4jConversionService conversionService) {
+			return conversionService.writeValue(propertyAccessor.getProperty(property), typeInformation, writingConverter);
+		}
+	}
+}
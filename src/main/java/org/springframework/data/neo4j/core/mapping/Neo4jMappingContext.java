@@ -24,9 +24,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
-import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.beans.BeanUtils;
@@ -85,6 +85,18 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	 */
 	private final NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
 
+	private final StatementCache statementCache = new StatementCache();
+
+	/**
+	 * Plans for writing entities, shared by all entity converters of this context.
+	 */
+	private final Map<Class<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<>();
+
+	/**
+	 * Plans for reading entities, shared by all entity converters of this context.
+	 */
+	private final Map<Neo4jPersistentEntity<?>, EntityReadPlan<?>> readPlans = new ConcurrentHashMap<>();
+
 	private final TypeSystem typeSystem;
 
 	private final Neo4jConversionService conversionService;
@@ -93,6 +105,8 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	private boolean strict = false;
 
+	private volatile int maxFetchDepth = -1;
+
 	public Neo4jMappingContext() {
 
 		this(new Neo4jConversions());
@@ -115,6 +129,28 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		this.strict = strict;
 	}
 
+	/**
+	 * Configures the maximum depth up to which relationships are fetched, counted from the root of a query. The
+	 * relationships of the root node are on depth 1. This applies to all relationships that don't define their own
+	 * maximum fetch depth via {@link org.springframework.data.neo4j.core.schema.Relationship#maxFetchDepth()}. Entities
+	 * loaded with relationships cut off by this limit cannot be saved.
+	 *
+	 * @param maxFetchDepth The new maximum fetch depth, a negative value for no limit
+	 * @since 6.2
+	 */
+	public void setMaxFetchDepth(int maxFetchDepth) {
+		this.maxFetchDepth = maxFetchDepth;
+		getPersistentEntities().forEach(entity -> ((DefaultNeo4jPersistentEntity<?>) entity).clearReturnStatementsForMatch());
+	}
+
+	/**
+	 * @return The maximum depth up to which relationships are fetched, a negative value if there is no limit
+	 * @since 6.2
+	 */
+	public int getMaxFetchDepth() {
+		return maxFetchDepth;
+	}
+
 	/**
 	 * This API is primarily used from inside the CDI extension to configure the type system. This is necessary as
 	 * we don't get notified of the context via {@link #setApplicationContext(ApplicationContext applicationContext)}.
@@ -132,13 +168,44 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	}
 
 	public Neo4jEntityConverter getEntityConverter() {
-		return new DefaultNeo4jEntityConverter(INSTANTIATORS, conversionService, nodeDescriptionStore, typeSystem);
+		return new DefaultNeo4jEntityConverter(INSTANTIATORS, conversionService, nodeDescriptionStore, writePlans, readPlans, typeSystem);
 	}
 
 	public Neo4jConversionService getConversionService() {
 		return conversionService;
 	}
 
+	@Override
+	public <T> Function<T, Map<String, Object>> getRequiredBinderFunctionFor(Class<T> sourceClass) {
+
+		Neo4jPersistentEntity<?> entity = (Neo4jPersistentEntity<?>) getNodeDescription(sourceClass);
+		if (entity == null) {
+			throw new UnknownEntityException(sourceClass);
+		}
+
+		// Resolve the plan for the requested class only once, instances of subclasses use their own plans
+		EntityWritePlan writePlan = writePlans.computeIfAbsent(sourceClass, type -> EntityWritePlan.of(entity, conversionService));
+		Neo4jEntityConverter entityConverter = getEntityConverter();
+		return t -> {
+			Map<String, Object> parameters = new HashMap<>(4);
+			if (t.getClass() == sourceClass) {
+				writePlan.write(t, parameters);
+			} else {
+				entityConverter.write(t, parameters);
+			}
+			return parameters;
+		};
+	}
+
+	/**
+	 * @return The cache of rendered statements for the entities of this context
+	 * @since 6.2
+	 */
+	@API(status = API.Status.INTERNAL, since = "6.2")
+	public StatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	public EntityInstantiator getInstantiatorFor(PersistentEntity<?, ?> entity) {
 		return INSTANTIATORS.getInstantiatorFor(entity);
 	}
@@ -361,6 +428,35 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 															 Object relatedValue,
 															 boolean isNewRelationship) {
 
+		return createStatement(neo4jPersistentEntity, relationshipContext, relatedValue, isNewRelationship, false);
+	}
+
+	/**
+	 * Creates a statement that creates or updates all relationships passed as list in
+	 * {@link Constants#NAME_OF_RELATIONSHIP_LIST_PARAM}. The properties of the returned holder are the properties of
+	 * one row. The statement is the same for all related values of the same relationship type, so the rows of all
+	 * values sharing the same rendered statement can be send together.
+	 *
+	 * @param neo4jPersistentEntity The source entity
+	 * @param relationshipContext   The context of the relationship that is processed
+	 * @param relatedValue          The related value
+	 * @param isNewRelationship     Flag if the relationship is new
+	 * @return A statement holder with the batch statement and the properties of one row
+	 */
+	public CreateRelationshipStatementHolder createBatchStatement(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+															 NestedRelationshipContext relationshipContext,
+															 Object relatedValue,
+															 boolean isNewRelationship) {
+
+		return createStatement(neo4jPersistentEntity, relationshipContext, relatedValue, isNewRelationship, true);
+	}
+
+	private CreateRelationshipStatementHolder createStatement(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+															 NestedRelationshipContext relationshipContext,
+															 Object relatedValue,
+															 boolean isNewRelationship,
+															 boolean batch) {
+
 		if (relationshipContext.hasRelationshipWithProperties()) {
 			MappingSupport.RelationshipPropertiesWithEntityHolder relatedValueEntityHolder =
 					(MappingSupport.RelationshipPropertiesWithEntityHolder) (
@@ -382,19 +478,27 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 			}
 			return createStatementForRelationShipWithProperties(
 					neo4jPersistentEntity, relationshipContext,
-					dynamicRelationshipType, relatedValueEntityHolder, isNewRelationship
+					dynamicRelationshipType, relatedValueEntityHolder, isNewRelationship, batch
 			);
 		} else {
-			return createStatementForRelationshipWithoutProperties(neo4jPersistentEntity, relationshipContext, relatedValue);
+			return createStatementForRelationshipWithoutProperties(neo4jPersistentEntity, relationshipContext, relatedValue, batch);
 		}
 	}
 
 	private CreateRelationshipStatementHolder createStatementForRelationShipWithProperties(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 			NestedRelationshipContext relationshipContext, @Nullable String dynamicRelationshipType,
-		    MappingSupport.RelationshipPropertiesWithEntityHolder relatedValue, boolean isNewRelationship) {
-
-		Statement relationshipCreationQuery = CypherGenerator.INSTANCE.prepareSaveOfRelationshipWithProperties(
-						neo4jPersistentEntity, relationshipContext.getRelationship(), isNewRelationship, dynamicRelationshipType);
+		    MappingSupport.RelationshipPropertiesWithEntityHolder relatedValue, boolean isNewRelationship, boolean batch) {
+
+		RelationshipDescription relationship = relationshipContext.getRelationship();
+		String relationshipCreationQuery = batch
+				? statementCache.getOrRender("prepareSaveOfRelationshipsWithProperties",
+						() -> CypherGenerator.INSTANCE.prepareSaveOfRelationshipsWithProperties(
+								neo4jPersistentEntity, relationship, isNewRelationship, dynamicRelationshipType),
+						neo4jPersistentEntity, relationship, isNewRelationship, dynamicRelationshipType)
+				: statementCache.getOrRender("prepareSaveOfRelationshipWithProperties",
+						() -> CypherGenerator.INSTANCE.prepareSaveOfRelationshipWithProperties(
+								neo4jPersistentEntity, relationship, isNewRelationship, dynamicRelationshipType),
+						neo4jPersistentEntity, relationship, isNewRelationship, dynamicRelationshipType);
 
 		Map<String, Object> propMap = new HashMap<>();
 		// write relationship properties
@@ -405,7 +509,7 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	private CreateRelationshipStatementHolder createStatementForRelationshipWithoutProperties(
 			Neo4jPersistentEntity<?> neo4jPersistentEntity,
-			NestedRelationshipContext relationshipContext, Object relatedValue) {
+			NestedRelationshipContext relationshipContext, Object relatedValue, boolean batch) {
 
 		String relationshipType;
 		if (!relationshipContext.getRelationship().isDynamic()) {
@@ -417,8 +521,14 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 			relationshipType = conversionService.writeValue(key, keyType, inverse.getOptionalWritingConverter()).asString();
 		}
 
-		Statement relationshipCreationQuery = CypherGenerator.INSTANCE.prepareSaveOfRelationship(
-				neo4jPersistentEntity, relationshipContext.getRelationship(), relationshipType);
+		RelationshipDescription relationship = relationshipContext.getRelationship();
+		String relationshipCreationQuery = batch
+				? statementCache.getOrRender("prepareSaveOfRelationships",
+						() -> CypherGenerator.INSTANCE.prepareSaveOfRelationships(neo4jPersistentEntity, relationship, relationshipType),
+						neo4jPersistentEntity, relationship, relationshipType)
+				: statementCache.getOrRender("prepareSaveOfRelationship",
+						() -> CypherGenerator.INSTANCE.prepareSaveOfRelationship(neo4jPersistentEntity, relationship, relationshipType),
+						neo4jPersistentEntity, relationship, relationshipType);
 		return new CreateRelationshipStatementHolder(relationshipCreationQuery);
 	}
 }
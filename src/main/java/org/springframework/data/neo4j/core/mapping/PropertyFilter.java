@@ -20,21 +20,27 @@ import org.springframework.data.mapping.PropertyPath;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
- * Something that makes sense of propertyPaths by having an understanding of projection classes.
+ * Something that makes sense of propertyPaths by having an understanding of projection classes. Property filters are
+ * equal when they accept the same properties, so that they can be used as keys for caching information derived from
+ * them. They can be used as predicates on {@link RelaxedPropertyPath relaxed property paths} directly.
  */
 @API(status = API.Status.INTERNAL)
-public abstract class PropertyFilter {
+public abstract class PropertyFilter implements Predicate<PropertyFilter.RelaxedPropertyPath> {
+
+	private static final PropertyFilter ACCEPT_ALL = new NonFilteringPropertyFilter();
 
 	public static PropertyFilter from(Collection<PropertyPath> properties, NodeDescription<?> nodeDescription) {
 		return new FilteringPropertyFilter(properties, nodeDescription);
 	}
 
 	public static PropertyFilter acceptAll() {
-		return new NonFilteringPropertyFilter();
+		return ACCEPT_ALL;
 	}
 
 	public abstract boolean contains(String dotPath, Class<?> typeToCheck);
@@ -43,6 +49,11 @@ public abstract class PropertyFilter {
 
 	public abstract boolean isNotFiltering();
 
+	@Override
+	public boolean test(RelaxedPropertyPath propertyPath) {
+		return contains(propertyPath);
+	}
+
 	private static class FilteringPropertyFilter extends PropertyFilter {
 		private final Set<Class<?>> rootClasses;
 		private final Set<String> projectingPropertyPaths;
@@ -87,6 +98,23 @@ public abstract class PropertyFilter {
 		public boolean isNotFiltering() {
 			return projectingPropertyPaths.isEmpty();
 		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof FilteringPropertyFilter)) {
+				return false;
+			}
+			FilteringPropertyFilter that = (FilteringPropertyFilter) o;
+			return rootClasses.equals(that.rootClasses) && projectingPropertyPaths.equals(that.projectingPropertyPaths);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(rootClasses, projectingPropertyPaths);
+		}
 	}
 
 	private static class NonFilteringPropertyFilter extends PropertyFilter {
@@ -105,6 +133,16 @@ public abstract class PropertyFilter {
 		public boolean isNotFiltering() {
 			return true;
 		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof NonFilteringPropertyFilter;
+		}
+
+		@Override
+		public int hashCode() {
+			return NonFilteringPropertyFilter.class.hashCode();
+		}
 	}
 
 	/**
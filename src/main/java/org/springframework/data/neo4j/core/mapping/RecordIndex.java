@@ -0,0 +1,106 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Relationship;
+import org.springframework.lang.Nullable;
+
+/**
+ * An index of all nodes and relationships contained in one record. The index is build once per record, so that
+ * mapping the relationships of all entities in a record can look up related nodes and relationships instead of
+ * searching through the whole record for every relationship property.
+ *
+ * @since 6.2
+ */
+final class RecordIndex {
+
+	private final Map<Long, Node> nodesById;
+
+	private final Map<Long, Map<String, List<Relationship>>> relationshipsByStartNodeId = new HashMap<>();
+
+	private final Map<Long, Map<String, List<Relationship>>> relationshipsByEndNodeId = new HashMap<>();
+
+	RecordIndex(Collection<Node> nodes, Collection<Relationship> relationships) {
+
+		this.nodesById = new HashMap<>(nodes.size());
+		for (Node node : nodes) {
+			this.nodesById.putIfAbsent(node.id(), node);
+		}
+
+		Set<Long> indexedRelationships = new HashSet<>(relationships.size());
+		for (Relationship relationship : relationships) {
+			if (!indexedRelationships.add(relationship.id())) {
+				continue;
+			}
+			add(relationshipsByStartNodeId, relationship.startNodeId(), relationship);
+			add(relationshipsByEndNodeId, relationship.endNodeId(), relationship);
+		}
+	}
+
+	private static void add(Map<Long, Map<String, List<Relationship>>> index, long nodeId, Relationship relationship) {
+		index.computeIfAbsent(nodeId, id -> new LinkedHashMap<>())
+				.computeIfAbsent(relationship.type(), type -> new ArrayList<>())
+				.add(relationship);
+	}
+
+	/**
+	 * @param id    The internal id of a node
+	 * @param label A label the node must have
+	 * @return The node with the given id if it has the given label, {@literal null} otherwise
+	 */
+	@Nullable
+	Node getNode(long id, String label) {
+
+		Node node = nodesById.get(id);
+		return node != null && node.hasLabel(label) ? node : null;
+	}
+
+	/**
+	 * Retrieves the relationships of a source node.
+	 *
+	 * @param sourceNodeId The internal id of the source node
+	 * @param incoming     {@literal true} when the source node is the end node of the relationships
+	 * @param type         The type of the relationships, {@literal null} for all types
+	 * @return The matching relationships, each relationship is contained only once
+	 */
+	Collection<Relationship> getRelationships(@Nullable Long sourceNodeId, boolean incoming, @Nullable String type) {
+
+		if (sourceNodeId == null) {
+			return Collections.emptyList();
+		}
+
+		Map<String, List<Relationship>> relationshipsByType = (incoming ? relationshipsByEndNodeId : relationshipsByStartNodeId)
+				.getOrDefault(sourceNodeId, Collections.emptyMap());
+		if (type != null) {
+			return relationshipsByType.getOrDefault(type, Collections.emptyList());
+		}
+
+		List<Relationship> relationships = new ArrayList<>();
+		relationshipsByType.values().forEach(relationships::addAll);
+		return relationships;
+	}
+}
@@ -98,6 +98,32 @@ public interface RelationshipDescription {
 	 */
 	boolean hasRelationshipProperties();
 
+	/**
+	 * The maximum depth up to which this relationship is fetched, counted from the root of a query, starting with 1 for
+	 * the relationships of the root node.
+	 *
+	 * @return The maximum fetch depth, a negative value if there is no limit
+	 * @since 6.2
+	 */
+	default int getMaxFetchDepth() {
+		return -1;
+	}
+
+	/**
+	 * Checks whether this relationship should be fetched on the given depth.
+	 *
+	 * @param depth         The depth of this relationship, counted from the root of a query, starting with 1
+	 * @param maxFetchDepth An additional limit, usually configured for a query. A negative value if there is no limit
+	 * @return {@literal true} if this relationship should be fetched on the given depth
+	 * @since 6.2
+	 */
+	default boolean isFetchedAtDepth(int depth, int maxFetchDepth) {
+
+		int maxFetchDepthOfRelationship = getMaxFetchDepth();
+		return (maxFetchDepthOfRelationship < 0 || depth <= maxFetchDepthOfRelationship)
+				&& (maxFetchDepth < 0 || depth <= maxFetchDepth);
+	}
+
 	default boolean hasInternalIdProperty() {
 
 		return hasRelationshipProperties() && Optional.ofNullable(getRelationshipPropertiesEntity().getIdDescription())
@@ -88,6 +88,26 @@ public interface Schema {
 	 * @throws UnknownEntityException When {@code targetClass} is not a managed class
 	 */
 	default <T> BiFunction<TypeSystem, MapAccessor, T> getRequiredMappingFunctionFor(Class<T> targetClass) {
+		NodeDescription<?> nodeDescription = getNodeDescription(targetClass);
+		if (nodeDescription == null) {
+			throw new UnknownEntityException(targetClass);
+		}
+		return (typeSystem, record) -> getEntityConverter().read(targetClass, record);
+	}
+
+	/**
+	 * Retrieves a mapping function like {@link #getRequiredMappingFunctionFor(Class)} for the records of one query
+	 * execution. The function keeps track of the objects it has mapped, so that a node is mapped to the same instance
+	 * in all records of that execution. It is neither thread safe nor reusable, a new one must be retrieved for every
+	 * execution.
+	 *
+	 * @param targetClass The target class to which to map to.
+	 * @param <T> Type of the target class
+	 * @return A mapping function scoped to one query execution
+	 * @throws UnknownEntityException When {@code targetClass} is not a managed class
+	 * @since 6.2
+	 */
+	default <T> BiFunction<TypeSystem, MapAccessor, T> getRequiredQueryScopedMappingFunctionFor(Class<T> targetClass) {
 		NodeDescription<?> nodeDescription = getNodeDescription(targetClass);
 		if (nodeDescription == null) {
 			throw new UnknownEntityException(targetClass);
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+
+/**
+ * A cache of rendered Cypher statements. The statements generated by the {@link CypherGenerator} for saving and deleting
+ * entities and relationships only depend on the node- and relationship descriptions involved and on a couple of flags.
+ * The cache stores the rendered statement under a key made up of a variant name and those inputs, so that the
+ * statement is build and rendered only once. All parts of the key must provide proper implementations of
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ * <p>
+ * The number of cached statements is limited, as dynamic labels and relationship types might create an unlimited
+ * number of variants. Statements are still rendered but not cached anymore when the limit is reached.
+ *
+ * @since 6.2
+ */
+@API(status = API.Status.INTERNAL, since = "6.2")
+public final class StatementCache {
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private final Map<List<Object>, String> renderedStatements = new ConcurrentHashMap<>();
+
+	private final int maximumSize;
+
+	StatementCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	StatementCache(int maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Retrieves the rendered statement for the given key or builds and renders the statement if there is none yet.
+	 *
+	 * @param variant   The name of the statement variant, usually the name of the generating method
+	 * @param statement A supplier for the statement, called only when the statement is not cached
+	 * @param keyParts  Additional parts of the key, those may be {@literal null}
+	 * @return The rendered statement
+	 */
+	public String getOrRender(String variant, Supplier<Statement> statement, Object... keyParts) {
+
+		List<Object> key = new ArrayList<>(keyParts.length + 1);
+		key.add(variant);
+		key.addAll(Arrays.asList(keyParts));
+
+		String cypher = renderedStatements.get(key);
+		if (cypher != null) {
+			return cypher;
+		}
+
+		cypher = renderer.render(statement.get());
+		if (renderedStatements.size() < maximumSize) {
+			renderedStatements.putIfAbsent(key, cypher);
+		}
+		return cypher;
+	}
+
+	int size() {
+		return renderedStatements.size();
+	}
+}
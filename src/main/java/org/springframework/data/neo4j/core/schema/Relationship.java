@@ -82,4 +82,17 @@ public @interface Relationship {
 	 * @return The direction of the relationship.
 	 */
 	Direction direction() default Direction.OUTGOING;
+
+	/**
+	 * The maximum depth up to which this relationship is fetched, counted from the root of a query: The relationships of
+	 * the root node are on depth 1, the relationships of its related nodes on depth 2 and so on. Relationships beyond
+	 * that depth are not fetched and the annotated attribute is left unmapped. Entities loaded that way cannot be saved,
+	 * as the relationships not fetched would be considered as removed.
+	 * <p>
+	 * A negative value, the default, refers to the maximum fetch depth configured on the mapping context.
+	 *
+	 * @return The maximum depth up to which this relationship is fetched.
+	 * @since 6.2
+	 */
+	int maxFetchDepth() default -1;
 }
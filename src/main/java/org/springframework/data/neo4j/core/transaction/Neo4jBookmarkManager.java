@@ -75,7 +75,11 @@ public final class Neo4jBookmarkManager {
 		this.bookmarksSupplier = bookmarksSupplier == null ? () -> Collections.emptySet() : bookmarksSupplier;
 	}
 
-	Collection<Bookmark> getBookmarks() {
+	/**
+	 * @return The bookmarks to start new sessions with
+	 */
+	@API(status = API.Status.INTERNAL, since = "6.2")
+	public Collection<Bookmark> getBookmarks() {
 
 		try {
 			read.lock();
@@ -87,7 +91,14 @@ public final class Neo4jBookmarkManager {
 		}
 	}
 
-	void updateBookmarks(Collection<Bookmark> usedBookmarks, Bookmark lastBookmark) {
+	/**
+	 * Replaces the bookmarks a session has been started with by the last bookmark of that session.
+	 *
+	 * @param usedBookmarks The bookmarks the session has been started with
+	 * @param lastBookmark  The last bookmark of the session
+	 */
+	@API(status = API.Status.INTERNAL, since = "6.2")
+	public void updateBookmarks(Collection<Bookmark> usedBookmarks, Bookmark lastBookmark) {
 		try {
 			write.lock();
 			bookmarks.removeAll(usedBookmarks);
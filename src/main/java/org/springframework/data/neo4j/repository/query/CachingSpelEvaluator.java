@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.SpelQueryContext.SpelExtractor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.Assert;
+
+/**
+ * Evaluates the SpEL expressions extracted from a Cypher template against the actual parameters of a query method. In
+ * contrast to {@link org.springframework.data.repository.query.SpelEvaluator}, the expressions are parsed only once
+ * when the evaluator for a query method is created and not on every evaluation. Templates without any expression don't
+ * require an evaluation context at all, so the evaluation is skipped for them.
+ *
+ * @since 6.2
+ */
+final class CachingSpelEvaluator {
+
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
+
+	private final Parameters<?, ?> parameters;
+
+	private final String queryString;
+
+	private final Map<String, Expression> expressions;
+
+	CachingSpelEvaluator(QueryMethodEvaluationContextProvider evaluationContextProvider, Parameters<?, ?> parameters,
+			SpelExtractor extractor) {
+
+		Assert.notNull(evaluationContextProvider, "EvaluationContextProvider must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+		Assert.notNull(extractor, "SpelExtractor must not be null!");
+
+		this.evaluationContextProvider = evaluationContextProvider;
+		this.parameters = parameters;
+		this.queryString = extractor.getQueryString();
+
+		Map<String, Expression> parsedExpressions = new LinkedHashMap<>();
+		extractor.getParameterMap()
+				.forEach((name, expression) -> parsedExpressions.put(name, PARSER.parseExpression(expression)));
+		this.expressions = Collections.unmodifiableMap(parsedExpressions);
+	}
+
+	/**
+	 * Evaluates all expressions of the template.
+	 *
+	 * @param values The actual parameters of the query method
+	 * @return The values of all expressions, keyed by the names of the Cypher parameters replacing them
+	 */
+	Map<String, Object> evaluate(Object[] values) {
+
+		Assert.notNull(values, "Values must not be null.");
+
+		if (expressions.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, values);
+		Map<String, Object> result = new HashMap<>(expressions.size());
+		expressions.forEach((name, expression) -> result.put(name, expression.getValue(evaluationContext)));
+		return result;
+	}
+
+	/**
+	 * @return {@literal true} if the template contains at least one SpEL expression
+	 */
+	boolean hasExpressions() {
+		return !expressions.isEmpty();
+	}
+
+	/**
+	 * @return The Cypher query in which all SpEL expressions have been replaced by parameters
+	 */
+	String getQueryString() {
+		return queryString;
+	}
+}
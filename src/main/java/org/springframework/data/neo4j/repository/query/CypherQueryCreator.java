@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.repository.query;
 import static org.neo4j.cypherdsl.core.Functions.point;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -272,6 +273,14 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		}
 	}
 
+	/**
+	 * @return The parameters bound while creating the query, in the order of the bindable method parameters they have
+	 * been created from
+	 */
+	List<Parameter> getBoundedParameters() {
+		return Collections.unmodifiableList(this.boundedParameters);
+	}
+
 	@NonNull
 	private QueryFragments createQueryFragments(@Nullable Condition condition, Sort sort) {
 		QueryFragments queryFragments = new QueryFragments();
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Limits the depth up to which relationships are fetched by a derived finder method. The depth is counted from the root
+ * of the query: The relationships of the root node are on depth 1, the relationships of its related nodes on depth 2
+ * and so on. Relationships beyond that depth are left unmapped. The limit applies in addition to the maximum fetch depth
+ * configured on the mapping context and on the relationships themselves.
+ * <p>
+ * Entities loaded with a limited depth cannot be saved, as the relationships not fetched would be considered as
+ * removed. Saving them fails with an {@link org.springframework.dao.InvalidDataAccessApiUsageException}.
+ *
+ * @since 6.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+@API(status = API.Status.STABLE, since = "6.2")
+public @interface MaxFetchDepth {
+
+	/**
+	 * @return The maximum depth up to which relationships are fetched.
+	 */
+	int value();
+}
@@ -51,6 +51,11 @@ class Neo4jQueryMethod extends QueryMethod {
 
 	private final boolean cypherBasedProjection;
 
+	/**
+	 * The maximum fetch depth of relationships configured for this method, negative if there is none.
+	 */
+	private final int maxFetchDepth;
+
 	/**
 	 * Creates a new {@link Neo4jQueryMethod} from the given parameters. Looks up the correct query to use for following
 	 * invocations of the method given.
@@ -79,6 +84,9 @@ class Neo4jQueryMethod extends QueryMethod {
 		this.repositoryName = declaringClass.getName();
 		this.cypherBasedProjection = cypherBasedProjection;
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+
+		MaxFetchDepth maxFetchDepthAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, MaxFetchDepth.class);
+		this.maxFetchDepth = maxFetchDepthAnnotation == null ? -1 : maxFetchDepthAnnotation.value();
 	}
 
 	String getRepositoryName() {
@@ -107,6 +115,14 @@ class Neo4jQueryMethod extends QueryMethod {
 		return Optional.ofNullable(this.queryAnnotation);
 	}
 
+	/**
+	 * @return The maximum depth up to which relationships are fetched as configured via {@link MaxFetchDepth}, negative
+	 * if there is no limit.
+	 */
+	int getMaxFetchDepth() {
+		return this.maxFetchDepth;
+	}
+
 	@Override
 	protected Parameters<Neo4jParameters, Neo4jParameter> createParameters(Method method) {
 		return new Neo4jParameters(method);
@@ -17,14 +17,17 @@ package org.springframework.data.neo4j.repository.query;
 
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -72,9 +75,15 @@ abstract class Neo4jQuerySupport {
 	 * The query type.
 	 */
 	protected final Neo4jQueryType queryType;
+	/**
+	 * The final queries of string based queries with literal replacements, keyed by template and replacements.
+	 */
+	private final Map<List<Object>, String> queriesWithReplacedLiterals = new ConcurrentHashMap<>();
 	private static final Set<Class<?>> VALID_RETURN_TYPES_FOR_DELETE = Collections.unmodifiableSet(new HashSet<>(
 			Arrays.asList(Long.class, long.class, Void.class, void.class)));
 
+	private static final int MAXIMUM_NUMBER_OF_QUERIES_WITH_REPLACED_LITERALS = 64;
+
 	static final LogAccessor REPOSITORY_QUERY_LOG = new LogAccessor(LogFactory.getLog(Neo4jQuerySupport.class));
 
 	/**
@@ -103,6 +112,14 @@ abstract class Neo4jQuerySupport {
 		this.queryType = queryType;
 	}
 
+	/**
+	 * Retrieves the mapping function for one execution of the query method. The function maps a node to the same
+	 * instance in all records of that execution, so a new one is retrieved for every execution.
+	 *
+	 * @param resultProcessor The result processor of the execution
+	 * @return A mapping function scoped to one execution or {@literal null} for simple types
+	 */
+	@Nullable
 	protected final BiFunction<TypeSystem, MapAccessor, ?> getMappingFunction(final ResultProcessor resultProcessor) {
 
 		final ReturnedType returnedTypeMetadata = resultProcessor.getReturnedType();
@@ -116,9 +133,10 @@ abstract class Neo4jQuerySupport {
 			// It will thrown an error if the query contains more than one column.
 			mappingFunction = null;
 		} else if (returnedTypeMetadata.isProjecting()) {
-			mappingFunction = EntityInstanceWithSource.decorateMappingFunction(this.mappingContext.getRequiredMappingFunctionFor(domainType));
+			mappingFunction = EntityInstanceWithSource
+					.decorateMappingFunction(this.mappingContext.getRequiredQueryScopedMappingFunctionFor(domainType));
 		} else {
-			mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(domainType);
+			mappingFunction = this.mappingContext.getRequiredQueryScopedMappingFunctionFor(domainType);
 		}
 		return mappingFunction;
 	}
@@ -225,7 +243,9 @@ abstract class Neo4jQuerySupport {
 
 	void replaceLiteralsIn(QueryContext queryContext) {
 
-		String cypherQuery = queryContext.template;
+		List<Object> key = new ArrayList<>();
+		key.add(queryContext.template);
+
 		Iterator<Map.Entry<String, Object>> iterator = queryContext.boundParameters.entrySet().iterator();
 		while (iterator.hasNext()) {
 			Map.Entry<String, Object> entry = iterator.next();
@@ -235,11 +255,28 @@ abstract class Neo4jQuerySupport {
 			}
 			iterator.remove();
 
-			String key = entry.getKey();
-			cypherQuery = cypherQuery.replace("$" + key, ((Neo4jSpelSupport.LiteralReplacement) value).getValue());
+			Neo4jSpelSupport.LiteralReplacement literalReplacement = (Neo4jSpelSupport.LiteralReplacement) value;
+			key.add(entry.getKey());
+			key.add(literalReplacement.getValue());
 			queryContext.hasLiteralReplacementForSort =
 					queryContext.hasLiteralReplacementForSort ||
-					((Neo4jSpelSupport.LiteralReplacement) value).getTarget() == Neo4jSpelSupport.LiteralReplacement.Target.SORT;
+					literalReplacement.getTarget() == Neo4jSpelSupport.LiteralReplacement.Target.SORT;
+		}
+
+		if (key.size() == 1) {
+			queryContext.query = queryContext.template;
+			return;
+		}
+
+		String cypherQuery = queriesWithReplacedLiterals.get(key);
+		if (cypherQuery == null) {
+			cypherQuery = queryContext.template;
+			for (int i = 1; i < key.size(); i += 2) {
+				cypherQuery = cypherQuery.replace("$" + key.get(i), (String) key.get(i + 1));
+			}
+			if (queriesWithReplacedLiterals.size() < MAXIMUM_NUMBER_OF_QUERIES_WITH_REPLACED_LITERALS) {
+				queriesWithReplacedLiterals.putIfAbsent(key, cypherQuery);
+			}
 		}
 		queryContext.query = cypherQuery;
 	}
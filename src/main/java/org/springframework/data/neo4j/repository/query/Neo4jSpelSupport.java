@@ -15,6 +15,7 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -113,15 +114,15 @@ public final class Neo4jSpelSupport {
 
 		/**
 		 * A small cache of instances of replacements. The cache key is the literal string value. Done to avoid
-		 * the creation of too many small objects.
+		 * the creation of too many small objects. The cache is accessed concurrently by all string based queries.
 		 */
-		private static final Map<String, LiteralReplacement> INSTANCES =
+		private static final Map<String, LiteralReplacement> INSTANCES = Collections.synchronizedMap(
 				new LinkedHashMap<String, LiteralReplacement>(DEFAULT_CACHE_SIZE) {
 					@Override
 					protected boolean removeEldestEntry(Map.Entry<String, LiteralReplacement> eldest) {
 						return size() > DEFAULT_CACHE_SIZE;
 					}
-				};
+				});
 
 		static LiteralReplacement withTargetAndValue(LiteralReplacement.Target target, @Nullable String value) {
 
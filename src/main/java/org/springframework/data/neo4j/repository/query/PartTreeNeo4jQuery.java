@@ -43,6 +43,8 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 
 	private final PartTree tree;
 
+	private final PartTreeQueryCache queryCache;
+
 	public static RepositoryQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 										 Neo4jQueryMethod queryMethod, ProjectionFactory factory) {
 		return new PartTreeNeo4jQuery(neo4jOperations, mappingContext, queryMethod,
@@ -54,6 +56,7 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		super(neo4jOperations, mappingContext, queryMethod, Neo4jQueryType.fromPartTree(tree), factory);
 
 		this.tree = tree;
+		this.queryCache = new PartTreeQueryCache(queryMethod.getMaxFetchDepth());
 		// Validate parts. Sort properties will be validated by Spring Data already.
 		PartValidator validator = new PartValidator(mappingContext, queryMethod);
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
@@ -64,11 +67,13 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 			Neo4jParameterAccessor parameterAccessor, @Nullable Neo4jQueryType queryType,
 			@Nullable BiFunction<TypeSystem, MapAccessor, ?> mappingFunction, UnaryOperator<Integer> limitModifier) {
 
-		CypherQueryCreator queryCreator = new CypherQueryCreator(mappingContext, getDomainType(queryMethod),
-				Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
-				includedProperties, this::convertParameter, limitModifier);
+		Neo4jQueryType finalQueryType = Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree));
+		QueryFragmentsAndParameters queryAndParameters = queryCache.getOrCreate(finalQueryType, parameterAccessor,
+				includedProperties, limitModifier,
+				() -> new CypherQueryCreator(mappingContext, getDomainType(queryMethod), finalQueryType, tree,
+						parameterAccessor, includedProperties, this::convertParameter, limitModifier),
+				this::convertParameter);
 
-		QueryFragmentsAndParameters queryAndParameters = queryCreator.createQuery();
 		return PreparedQuery.queryFor(returnedType).withQueryFragmentsAndParameters(queryAndParameters)
 				.usingMappingFunction(mappingFunction).build();
 	}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+/**
+ * A cache for the queries of one derived finder method. The Cypher statement created for a {@link PartTree} does not
+ * depend on the actual values of the parameters, but only on their shape: The type of each value (ranges, points,
+ * distances and areas create different conditions), the bounds of ranges, the dynamic sort, whether the query is paged
+ * and the projected properties. The cache stores the query fragments and the statement rendered from them under that
+ * shape, so that the query creator only runs once per shape. Only the parameters are converted on each invocation.
+ * Skip and limit of paged queries are not part of the shape, they are applied to a copy of the cached fragments on each
+ * invocation, so that paging through a result doesn't create a new entry per page.
+ * <p>
+ * The number of cached queries is limited, as dynamic sorting might create an unlimited number of shapes. The least
+ * recently used query is evicted when the limit is reached.
+ *
+ * @since 6.2
+ */
+final class PartTreeQueryCache {
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private final Map<List<Object>, CachedQuery> cachedQueries;
+
+	private final int maxFetchDepth;
+
+	PartTreeQueryCache(int maxFetchDepth) {
+		this(DEFAULT_MAXIMUM_SIZE, maxFetchDepth);
+	}
+
+	PartTreeQueryCache(int maximumSize, int maxFetchDepth) {
+		this.cachedQueries = Collections.synchronizedMap(new LinkedHashMap<List<Object>, CachedQuery>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedQuery> eldest) {
+				return size() > maximumSize;
+			}
+		});
+		this.maxFetchDepth = maxFetchDepth;
+	}
+
+	/**
+	 * Retrieves the query for the shape of the given parameters or creates it if there is none yet.
+	 *
+	 * @param queryType           The type of the query to create
+	 * @param parameterAccessor   The actual parameters
+	 * @param includedProperties  The properties to project
+	 * @param limitModifier       The modifier applied to the page size
+	 * @param queryCreator        A supplier for the query creator, called only when the query is not cached
+	 * @param parameterConversion The conversion applied to each parameter value
+	 * @return The query with the converted parameters of this invocation
+	 */
+	QueryFragmentsAndParameters getOrCreate(Neo4jQueryType queryType, Neo4jParameterAccessor parameterAccessor,
+			List<PropertyPath> includedProperties, UnaryOperator<Integer> limitModifier,
+			Supplier<CypherQueryCreator> queryCreator,
+			BiFunction<Object, Function<Object, Value>, Object> parameterConversion) {
+
+		List<Object> key = createKey(queryType, parameterAccessor, includedProperties);
+		CachedQuery cachedQuery = cachedQueries.get(key);
+		if (cachedQuery == null) {
+			cachedQuery = createCachedQuery(queryCreator.get(), parameterAccessor.getPageable().isPaged());
+			cachedQueries.putIfAbsent(key, cachedQuery);
+		}
+		return cachedQuery.bind(parameterAccessor, limitModifier, parameterConversion);
+	}
+
+	int size() {
+		return cachedQueries.size();
+	}
+
+	private static List<Object> createKey(Neo4jQueryType queryType, Neo4jParameterAccessor parameterAccessor,
+			List<PropertyPath> includedProperties) {
+
+		List<Object> key = new ArrayList<>();
+		key.add(queryType);
+		key.add(includedProperties);
+		key.add(parameterAccessor.getSort());
+
+		Pageable pageable = parameterAccessor.getPageable();
+		if (pageable.isPaged()) {
+			key.add(pageable.getSort());
+		} else {
+			key.add(null);
+		}
+
+		for (Object value : parameterAccessor) {
+			key.add(shapeOf(value));
+		}
+		return key;
+	}
+
+	@Nullable
+	private static Object shapeOf(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		} else if (value instanceof Range) {
+			Range<?> range = (Range<?>) value;
+			return Arrays.asList(Range.class,
+					range.getLowerBound().isBounded(), range.getLowerBound().isInclusive(),
+					range.getUpperBound().isBounded(), range.getUpperBound().isInclusive());
+		}
+		return value.getClass();
+	}
+
+	private CachedQuery createCachedQuery(CypherQueryCreator queryCreator, boolean paged) {
+
+		QueryFragmentsAndParameters queryAndParameters = queryCreator.createQuery();
+		QueryFragments queryFragments = queryAndParameters.getQueryFragments();
+		queryFragments.setMaxFetchDepth(maxFetchDepth);
+
+		// Keep only the names and the conversions of the bounded parameters, not the values of the first invocation
+		List<CypherQueryCreator.Parameter> boundedParameters = queryCreator.getBoundedParameters().stream()
+				.map(p -> new CypherQueryCreator.Parameter(p.nameOrIndex, null, p.conversionOverride))
+				.collect(Collectors.toList());
+
+		NodeDescription<?> nodeDescription = queryAndParameters.getNodeDescription();
+		String cypherQuery = queryAndParameters.getCypherQuery();
+		Map<String, Object> statementParameters = Collections.emptyMap();
+
+		// Queries for entities with possible circles are rendered differently by the templates
+		boolean renderStatement = cypherQuery == null && !((Neo4jPersistentEntity<?>) nodeDescription)
+				.containsPossibleCircles(queryFragments.getPropertyFilter());
+		// Paged statements are rendered per invocation with the actual skip and limit
+		if (renderStatement && !paged) {
+			Statement statement = queryFragments.toStatement();
+			cypherQuery = renderer.render(statement);
+			statementParameters = statement.getParameters();
+		}
+		return new CachedQuery(nodeDescription, queryFragments, cypherQuery, statementParameters, boundedParameters,
+				renderStatement && paged);
+	}
+
+	private static final class CachedQuery {
+
+		private final @Nullable NodeDescription<?> nodeDescription;
+
+		private final QueryFragments queryFragments;
+
+		private final @Nullable String cypherQuery;
+
+		private final Map<String, Object> statementParameters;
+
+		private final List<CypherQueryCreator.Parameter> boundedParameters;
+
+		private final boolean renderPerInvocation;
+
+		CachedQuery(@Nullable NodeDescription<?> nodeDescription, QueryFragments queryFragments,
+				@Nullable String cypherQuery, Map<String, Object> statementParameters,
+				List<CypherQueryCreator.Parameter> boundedParameters, boolean renderPerInvocation) {
+			this.nodeDescription = nodeDescription;
+			this.queryFragments = queryFragments;
+			this.cypherQuery = cypherQuery;
+			this.statementParameters = statementParameters;
+			this.boundedParameters = boundedParameters;
+			this.renderPerInvocation = renderPerInvocation;
+		}
+
+		QueryFragmentsAndParameters bind(Neo4jParameterAccessor parameterAccessor, UnaryOperator<Integer> limitModifier,
+				BiFunction<Object, Function<Object, Value>, Object> parameterConversion) {
+
+			// The bounded parameters have been created in the order of the bindable values
+			Map<String, Object> parameters = new HashMap<>(statementParameters);
+			Iterator<Object> values = parameterAccessor.iterator();
+			for (CypherQueryCreator.Parameter parameter : boundedParameters) {
+				Object value = values.next();
+				Neo4jQuerySupport.logParameterIfNull(parameter.nameOrIndex, value);
+				parameters.put(parameter.nameOrIndex, parameterConversion.apply(value, parameter.conversionOverride));
+			}
+
+			if (nodeDescription == null) {
+				return new QueryFragmentsAndParameters(cypherQuery, parameters);
+			}
+
+			QueryFragments actualQueryFragments = queryFragments;
+			String actualCypherQuery = cypherQuery;
+			Pageable pageable = parameterAccessor.getPageable();
+			if (pageable.isPaged()) {
+				actualQueryFragments = queryFragments.copy();
+				actualQueryFragments.setSkip(pageable.getOffset());
+				actualQueryFragments.setLimit(limitModifier.apply(pageable.getPageSize()));
+				if (renderPerInvocation) {
+					Statement statement = actualQueryFragments.toStatement();
+					actualCypherQuery = renderer.render(statement);
+					parameters.putAll(statement.getParameters());
+				}
+			}
+
+			if (actualCypherQuery == null) {
+				return new QueryFragmentsAndParameters(nodeDescription, actualQueryFragments, parameters);
+			}
+			return new QueryFragmentsAndParameters(nodeDescription, actualQueryFragments, actualCypherQuery, parameters);
+		}
+	}
+}
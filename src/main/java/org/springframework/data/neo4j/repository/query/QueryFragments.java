@@ -54,6 +54,7 @@ public final class QueryFragments {
 	private ReturnTuple returnTuple;
 	private boolean scalarValueReturn = false;
 	private boolean renderConstantsAsParameters = false;
+	private int maxFetchDepth = -1;
 
 	public void addMatchOn(PatternElement match) {
 		this.matchOn.add(match);
@@ -90,6 +91,16 @@ public final class QueryFragments {
 				: this.returnTuple.filteredProperties.contains(fieldName.toDotPath(), fieldName.getType());
 	}
 
+	/**
+	 * @return The filter for the properties to be returned. Property filters are equal when they accept the same
+	 * properties, so this is preferable over {@link #includeField(PropertyFilter.RelaxedPropertyPath)} where
+	 * information derived from the filter can be cached.
+	 * @since 6.2
+	 */
+	public PropertyFilter getPropertyFilter() {
+		return this.returnTuple == null ? PropertyFilter.acceptAll() : this.returnTuple.filteredProperties;
+	}
+
 	public void setOrderBy(Collection<SortItem> orderBy) {
 		this.orderBy = orderBy;
 	}
@@ -115,6 +126,38 @@ public final class QueryFragments {
 		this.renderConstantsAsParameters = renderConstantsAsParameters;
 	}
 
+	/**
+	 * @param maxFetchDepth The maximum depth up to which relationships are fetched, a negative value for no limit
+	 * @since 6.2
+	 */
+	public void setMaxFetchDepth(int maxFetchDepth) {
+		this.maxFetchDepth = maxFetchDepth;
+	}
+
+	public int getMaxFetchDepth() {
+		return maxFetchDepth;
+	}
+
+	/**
+	 * @return A copy of these fragments sharing all parts with them, used to apply a different skip and limit
+	 * @since 6.2
+	 */
+	QueryFragments copy() {
+
+		QueryFragments copy = new QueryFragments();
+		copy.matchOn = this.matchOn;
+		copy.condition = this.condition;
+		copy.returnExpressions = this.returnExpressions;
+		copy.orderBy = this.orderBy;
+		copy.limit = this.limit;
+		copy.skip = this.skip;
+		copy.returnTuple = this.returnTuple;
+		copy.scalarValueReturn = this.scalarValueReturn;
+		copy.renderConstantsAsParameters = this.renderConstantsAsParameters;
+		copy.maxFetchDepth = this.maxFetchDepth;
+		return copy;
+	}
+
 	public Statement toStatement() {
 
 		StatementBuilder.OngoingReadingWithoutWhere match = null;
@@ -146,7 +189,7 @@ public final class QueryFragments {
 		return returnExpressions.size() > 0
 				? returnExpressions
 				: CypherGenerator.INSTANCE.createReturnStatementForMatch((Neo4jPersistentEntity<?>) returnTuple.nodeDescription,
-				this::includeField);
+				getPropertyFilter(), maxFetchDepth);
 	}
 
 	private boolean isDistinctReturn() {
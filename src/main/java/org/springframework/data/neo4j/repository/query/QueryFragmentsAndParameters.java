@@ -57,6 +57,23 @@ public final class QueryFragmentsAndParameters {
 		this.cypherQuery = null;
 	}
 
+	/**
+	 * Creates a new instance that carries both the query fragments and the statement already rendered from them. The
+	 * rendered statement is used as is as long as the fragments don't need to be rendered in a different way.
+	 *
+	 * @param nodeDescription The description of the node to query
+	 * @param queryFragments  The fragments the statement has been rendered from
+	 * @param cypherQuery     The rendered statement
+	 * @param parameters      The parameters of the rendered statement
+	 */
+	QueryFragmentsAndParameters(NodeDescription<?> nodeDescription, QueryFragments queryFragments, String cypherQuery,
+			@Nullable Map<String, Object> parameters) {
+		this.nodeDescription = nodeDescription;
+		this.queryFragments = queryFragments;
+		this.cypherQuery = cypherQuery;
+		this.parameters = parameters;
+	}
+
 	public QueryFragmentsAndParameters(String cypherQuery) {
 		this(cypherQuery, null);
 	}
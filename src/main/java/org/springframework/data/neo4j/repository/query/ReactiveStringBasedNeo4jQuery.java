@@ -33,7 +33,6 @@ import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
-import org.springframework.data.repository.query.SpelEvaluator;
 import org.springframework.data.repository.query.SpelQueryContext;
 import org.springframework.data.repository.query.SpelQueryContext.SpelExtractor;
 import org.springframework.lang.Nullable;
@@ -48,7 +47,7 @@ import org.springframework.util.StringUtils;
  * <li>Replace the SpEL-expressions with Neo4j Statement template parameters</li>
  * <li>The parameters passed here _and_ the values that might have been computed during SpEL-parsing</li>
  * </ol>
- * The main ingredient is a SpelEvaluator, that parses a template and replaces SpEL expressions with real Neo4j
+ * The main ingredient is a CachingSpelEvaluator, that parses a template and replaces SpEL expressions with real Neo4j
  * parameters.
  *
  * @author Gerrit Meier
@@ -67,7 +66,7 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 	 * Used to evaluate the expression found while parsing the cypher template of this query against the actual parameters
 	 * with the help of the formal parameters during the building of the {@link PreparedQuery}.
 	 */
-	private final SpelEvaluator spelEvaluator;
+	private final CachingSpelEvaluator spelEvaluator;
 
 	/**
 	 * Create a {@link ReactiveStringBasedNeo4jQuery} for a query method that is annotated with {@link Query @Query}. The
@@ -121,7 +120,7 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 
 		cypherTemplate = Neo4jSpelSupport.renderQueryIfExpressionOrReturnQuery(cypherTemplate, mappingContext, queryMethod.getEntityInformation(), SPEL_EXPRESSION_PARSER);
 		SpelExtractor spelExtractor = SPEL_QUERY_CONTEXT.parse(cypherTemplate);
-		this.spelEvaluator = new SpelEvaluator(evaluationContextProvider, queryMethod.getParameters(), spelExtractor);
+		this.spelEvaluator = new CachingSpelEvaluator(evaluationContextProvider, queryMethod.getParameters(), spelExtractor);
 	}
 
 	@Override
@@ -136,7 +135,9 @@ final class ReactiveStringBasedNeo4jQuery extends AbstractReactiveNeo4jQuery {
 				boundParameters
 		);
 
-		replaceLiteralsIn(queryContext);
+		if (spelEvaluator.hasExpressions()) {
+			replaceLiteralsIn(queryContext);
+		}
 		logWarningsIfNecessary(queryContext, parameterAccessor);
 
 		return PreparedQuery.queryFor(returnedType)
@@ -37,7 +37,6 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
-import org.springframework.data.repository.query.SpelEvaluator;
 import org.springframework.data.repository.query.SpelQueryContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -51,7 +50,7 @@ import org.springframework.util.StringUtils;
  * <li>Replace the SpEL-expressions with Neo4j Statement template parameters</li>
  * <li>The parameters passed here _and_ the values that might have been computed during SpEL-parsing</li>
  * </ol>
- * The main ingredient is a SpelEvaluator, that parses a template and replaces SpEL expressions with real Neo4j
+ * The main ingredient is a CachingSpelEvaluator, that parses a template and replaces SpEL expressions with real Neo4j
  * parameters.
  *
  * @author Gerrit Meier
@@ -80,12 +79,12 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 	 * Used to evaluate the expression found while parsing the cypher template of this query against the actual parameters
 	 * with the help of the formal parameters during the building of the {@link PreparedQuery}.
 	 */
-	private final SpelEvaluator spelEvaluator;
+	private final CachingSpelEvaluator spelEvaluator;
 
 	/**
 	 * An optional evaluator for a count query if such a query is present.
 	 */
-	private final Optional<SpelEvaluator> spelEvaluatorForCountQuery;
+	private final Optional<CachingSpelEvaluator> spelEvaluatorForCountQuery;
 
 	/**
 	 * Create a {@link StringBasedNeo4jQuery} for a query method that is annotated with {@link Query @Query}. The
@@ -165,12 +164,12 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 
 		Parameters<?, ?> methodParameters = queryMethod.getParameters();
 		cypherTemplate = Neo4jSpelSupport.renderQueryIfExpressionOrReturnQuery(cypherTemplate, mappingContext, queryMethod.getEntityInformation(), SPEL_EXPRESSION_PARSER);
-		this.spelEvaluator = new SpelEvaluator(
+		this.spelEvaluator = new CachingSpelEvaluator(
 				evaluationContextProvider, methodParameters, SPEL_QUERY_CONTEXT.parse(cypherTemplate));
 		this.spelEvaluatorForCountQuery = queryMethod.getQueryAnnotation()
 				.map(Query::countQuery)
 				.map(q -> Neo4jSpelSupport.renderQueryIfExpressionOrReturnQuery(q, mappingContext, queryMethod.getEntityInformation(), SPEL_EXPRESSION_PARSER))
-				.map(countQuery -> new SpelEvaluator(evaluationContextProvider, methodParameters, SPEL_QUERY_CONTEXT.parse(countQuery)));
+				.map(countQuery -> new CachingSpelEvaluator(evaluationContextProvider, methodParameters, SPEL_QUERY_CONTEXT.parse(countQuery)));
 	}
 
 	@Override
@@ -187,7 +186,9 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 				boundParameters
 		);
 
-		replaceLiteralsIn(queryContext);
+		if (spelEvaluator.hasExpressions()) {
+			replaceLiteralsIn(queryContext);
+		}
 		logWarningsIfNecessary(queryContext, parameterAccessor);
 
 		return PreparedQuery.queryFor(returnedType)
@@ -200,11 +201,17 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 	Map<String, Object> bindParameters(Neo4jParameterAccessor parameterAccessor, boolean includePageableParameter,
 			UnaryOperator<Integer> limitModifier) {
 
+		return bindParameters(spelEvaluator, parameterAccessor, includePageableParameter, limitModifier);
+	}
+
+	private Map<String, Object> bindParameters(CachingSpelEvaluator evaluator, Neo4jParameterAccessor parameterAccessor,
+			boolean includePageableParameter, UnaryOperator<Integer> limitModifier) {
+
 		final Parameters<?, ?> formalParameters = parameterAccessor.getParameters();
 		Map<String, Object> resolvedParameters = new HashMap<>();
 
 		// Values from the parameter accessor can only get converted after evaluation
-		for (Entry<String, Object> evaluatedParam : spelEvaluator.evaluate(parameterAccessor.getValues()).entrySet()) {
+		for (Entry<String, Object> evaluatedParam : evaluator.evaluate(parameterAccessor.getValues()).entrySet()) {
 			Object value = evaluatedParam.getValue();
 			if (!(evaluatedParam.getValue() instanceof LiteralReplacement)) {
 				Neo4jQuerySupport.logParameterIfNull(evaluatedParam.getKey(), value);
@@ -237,16 +244,18 @@ final class StringBasedNeo4jQuery extends AbstractNeo4jQuery {
 
 	@Override
 	protected Optional<PreparedQuery<Long>> getCountQuery(Neo4jParameterAccessor parameterAccessor) {
-		return spelEvaluatorForCountQuery.map(SpelEvaluator::getQueryString)
-				.map(countQuery -> {
-					Map<String, Object> boundParameters = bindParameters(parameterAccessor, false, UnaryOperator.identity());
+		return spelEvaluatorForCountQuery
+				.map(countQueryEvaluator -> {
+					Map<String, Object> boundParameters = bindParameters(countQueryEvaluator, parameterAccessor, false, UnaryOperator.identity());
 					QueryContext queryContext = new QueryContext(
 							queryMethod.getRepositoryName() + "." + queryMethod.getName(),
-							countQuery,
+							countQueryEvaluator.getQueryString(),
 							boundParameters
 					);
 
-					replaceLiteralsIn(queryContext);
+					if (countQueryEvaluator.hasExpressions()) {
+						replaceLiteralsIn(queryContext);
+					}
 
 					return PreparedQuery.queryFor(Long.class)
 							.withCypherQuery(queryContext.query)
@@ -107,7 +107,7 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	@Override
 	public boolean existsById(ID id) {
-		return findById(id).isPresent();
+		return neo4jOperations.existsById(id, this.entityInformation.getJavaType());
 	}
 
 	@Override
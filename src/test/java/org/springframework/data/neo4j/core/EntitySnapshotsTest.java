@@ -0,0 +1,187 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+class EntitySnapshotsTest {
+
+	private Neo4jMappingContext mappingContext;
+
+	private EntitySnapshots entitySnapshots;
+
+	private RelationshipDescription related;
+
+	@BeforeEach
+	void setupMappingContext() {
+
+		mappingContext = new Neo4jMappingContext();
+		related = mappingContext.getPersistentEntity(Thing.class).getRelationships().stream()
+				.filter(r -> "related".equals(r.getFieldName()))
+				.findFirst().get();
+		entitySnapshots = new EntitySnapshots(mappingContext);
+	}
+
+	@Test
+	void unchangedPropertiesShouldBeRemoved() {
+
+		Thing thing = new Thing(1L, "a", "Description");
+		entitySnapshots.takeSnapshotOf(thing);
+
+		thing.name = "b";
+
+		assertThat(bindAndRemoveUnchangedProperties(thing)).containsOnlyKeys("name").containsEntry("name", "b");
+	}
+
+	@Test
+	void entitiesWithoutSnapshotShouldBeWrittenCompletely() {
+
+		Thing thing = new Thing(1L, "a", "Description");
+
+		assertThat(bindAndRemoveUnchangedProperties(thing)).containsOnlyKeys("name", "description");
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(thing, related)).isNull();
+	}
+
+	@Test
+	void equalEntitiesShouldNotShareSnapshots() {
+
+		Thing thing = new Thing(1L, "a", "Description");
+		Thing equalThing = new Thing(1L, "a", "Description");
+		assertThat(thing).isEqualTo(equalThing);
+
+		entitySnapshots.takeSnapshotOf(thing);
+
+		assertThat(bindAndRemoveUnchangedProperties(equalThing)).containsOnlyKeys("name", "description");
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(equalThing, related)).isNull();
+		assertThat(entitySnapshots.size()).isOne();
+	}
+
+	@Test
+	void snapshotsShouldSurviveChangesOfTheHashCode() {
+
+		Thing thing = new Thing(1L, "a", "Description");
+		int hashCode = thing.hashCode();
+		entitySnapshots.takeSnapshotOf(thing);
+
+		thing.name = "b";
+		assertThat(thing.hashCode()).isNotEqualTo(hashCode);
+
+		assertThat(bindAndRemoveUnchangedProperties(thing)).containsOnlyKeys("name");
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(thing, related)).isEmpty();
+	}
+
+	@Test
+	void idsOfRelatedNodesShouldBeTracked() {
+
+		Thing thing = new Thing(1L, "a", "Description");
+		Thing savedRelatedThing = new Thing(2L, "b", "Description");
+		Thing newRelatedThing = new Thing(null, "c", "Description");
+		thing.related.add(savedRelatedThing);
+		thing.related.add(newRelatedThing);
+		entitySnapshots.takeSnapshotOf(thing);
+
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(thing, related)).containsExactly(2L);
+		// Related nodes get their own snapshot
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(savedRelatedThing, related)).isEmpty();
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(newRelatedThing, related)).isEmpty();
+		assertThat(entitySnapshots.size()).isEqualTo(3);
+	}
+
+	@Test
+	void changedRelationshipsShouldBeDetectable() {
+
+		Thing thing = new Thing(1L, "a", "Description");
+		thing.related.add(new Thing(2L, "b", "Description"));
+		entitySnapshots.takeSnapshotOf(thing);
+
+		thing.related.clear();
+		thing.related.add(new Thing(3L, "c", "Description"));
+
+		// The snapshot still reflects the state at the time it was taken
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(thing, related)).containsExactly(2L);
+		// and only a new snapshot reflects the changed relationship
+		entitySnapshots.takeSnapshotOf(thing);
+		assertThat(entitySnapshots.getIdsOfRelatedNodes(thing, related)).containsExactly(3L);
+	}
+
+	@Test
+	void nonEntitiesShouldBeIgnored() {
+
+		entitySnapshots.takeSnapshotOf(null);
+		entitySnapshots.takeSnapshotOf("Not an entity");
+
+		assertThat(entitySnapshots.size()).isZero();
+	}
+
+	private Map<String, Object> bindAndRemoveUnchangedProperties(Thing thing) {
+
+		Map<String, Object> tree = mappingContext.getRequiredBinderFunctionFor(Thing.class).apply(thing);
+		return (Map<String, Object>) entitySnapshots.removeUnchangedProperties(thing, tree)
+				.get(Constants.NAME_OF_PROPERTIES_PARAM);
+	}
+
+	@Node
+	static class Thing {
+
+		@Id @GeneratedValue
+		Long id;
+
+		String name;
+
+		String description;
+
+		@Relationship("RELATED")
+		List<Thing> related = new ArrayList<>();
+
+		Thing(Long id, String name, String description) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Thing)) {
+				return false;
+			}
+			Thing thing = (Thing) o;
+			return Objects.equals(id, thing.id) && Objects.equals(name, thing.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(id, name);
+		}
+	}
+}
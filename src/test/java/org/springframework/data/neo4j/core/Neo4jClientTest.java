@@ -22,6 +22,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -35,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -49,14 +51,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.hamcrest.MockitoHamcrest;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Michael J. Simons
@@ -118,6 +131,7 @@ class Neo4jClientTest {
 		assertThat(usedBikes).hasSize(2);
 
 		verifyDatabaseSelection(null);
+		assertThat(configArgumentCaptor.getValue().defaultAccessMode()).isEqualTo(AccessMode.WRITE);
 
 		Map<String, Object> expectedParameters = new HashMap<>();
 		expectedParameters.putAll(parameters);
@@ -394,6 +408,223 @@ class Neo4jClientTest {
 		verify(session).close();
 	}
 
+	@Test
+	@DisplayName("Read only statements should be routed to readers with the last bookmark when enabled")
+	void readOnlyStatementsShouldBeRoutedToReadersWhenEnabled(@Mock Bookmark bookmark) {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1));
+		when(result.consume()).thenReturn(resultSummary);
+		when(session.lastBookmark()).thenReturn(bookmark);
+
+		Neo4jClient client = Neo4jClient.create(driver, DatabaseSelectionProvider.getDefaultSelectionProvider(), true);
+
+		client.query("CREATE (b:Bike {name: 'fixie'})").run();
+		client.query("MATCH (b:Bike) RETURN b").fetch().all();
+
+		verify(driver, times(2)).session(configArgumentCaptor.capture());
+		List<SessionConfig> sessionConfigs = configArgumentCaptor.getAllValues();
+		assertThat(sessionConfigs.get(0).defaultAccessMode()).isEqualTo(AccessMode.WRITE);
+		assertThat(sessionConfigs.get(0).bookmarks()).isEmpty();
+		assertThat(sessionConfigs.get(1).defaultAccessMode()).isEqualTo(AccessMode.READ);
+		assertThat(sessionConfigs.get(1).bookmarks()).containsExactly(bookmark);
+
+		verify(session, times(2)).run(anyString(), anyMap());
+		verify(result).stream();
+		verify(result, times(2)).consume();
+		verify(resultSummary, times(2)).notifications();
+		verify(record1).asMap();
+		verify(session, times(2)).close();
+		verify(session, times(2)).lastBookmark();
+	}
+
+	@Test
+	@DisplayName("Read only statements should be routed to readers with the bookmarks of managed transactions")
+	void readOnlyStatementsShouldBeRoutedToReadersWithBookmarksOfManagedTransactions(@Mock Transaction transaction,
+			@Mock Bookmark transactionBookmark, @Mock Bookmark sessionBookmark) {
+
+		prepareMocks();
+
+		when(session.beginTransaction(any(TransactionConfig.class))).thenReturn(transaction);
+		when(session.isOpen()).thenReturn(true);
+		when(transaction.isOpen()).thenReturn(true, false);
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1));
+		when(result.consume()).thenReturn(resultSummary);
+		when(session.lastBookmark()).thenReturn(transactionBookmark, sessionBookmark);
+
+		Neo4jBookmarkManager bookmarkManager = Neo4jBookmarkManager.create();
+		Neo4jClient client = Neo4jClient.create(driver, DatabaseSelectionProvider.getDefaultSelectionProvider(),
+				bookmarkManager);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new Neo4jTransactionManager(driver,
+				DatabaseSelectionProvider.getDefaultSelectionProvider(), bookmarkManager));
+
+		transactionTemplate.executeWithoutResult(
+				transactionStatus -> client.query("CREATE (b:Bike {name: 'fixie'})").run());
+		client.query("MATCH (b:Bike) RETURN b").fetch().all();
+
+		verify(driver, times(2)).session(configArgumentCaptor.capture());
+		List<SessionConfig> sessionConfigs = configArgumentCaptor.getAllValues();
+		assertThat(sessionConfigs.get(0).defaultAccessMode()).isEqualTo(AccessMode.WRITE);
+		assertThat(sessionConfigs.get(0).bookmarks()).isEmpty();
+		assertThat(sessionConfigs.get(1).defaultAccessMode()).isEqualTo(AccessMode.READ);
+		assertThat(sessionConfigs.get(1).bookmarks()).containsExactly(transactionBookmark);
+
+		verify(transaction).run(anyString(), anyMap());
+		verify(transaction).commit();
+		verify(transaction).close();
+		verify(session).run(anyString(), anyMap());
+		verify(result).stream();
+		verify(result, times(2)).consume();
+		verify(resultSummary, times(2)).notifications();
+		verify(record1).asMap();
+		verify(session, times(2)).close();
+		verify(session, times(2)).lastBookmark();
+		verifyNoMoreInteractions(transaction);
+	}
+
+	@Test
+	@DisplayName("Records should be fetchable asynchronously")
+	void asyncFetchingShouldUseAsyncSession(@Mock AsyncSession asyncSession, @Mock ResultCursor resultCursor) {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.asyncSession(any(SessionConfig.class))).thenReturn(asyncSession);
+		when(asyncSession.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+		when(resultCursor.listAsync(any())).thenAnswer(invocation -> {
+			Function<Record, Object> mappingFunction = invocation.getArgument(0);
+			return CompletableFuture.completedFuture(Collections.singletonList(mappingFunction.apply(record1)));
+		});
+		when(resultCursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(resultSummary));
+		when(asyncSession.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(record1.asMap()).thenReturn(Collections.singletonMap("name", "fixie"));
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String cypher = "MATCH (b:Bike) RETURN b.name AS name";
+		Collection<Map<String, Object>> bikes = client.query(cypher).fetch().async().all().toCompletableFuture().join();
+
+		assertThat(bikes).containsExactly(Collections.singletonMap("name", "fixie"));
+
+		verify(driver).asyncSession(configArgumentCaptor.capture());
+		assertThat(configArgumentCaptor.getValue().defaultAccessMode()).isEqualTo(AccessMode.WRITE);
+		verify(asyncSession).runAsync(eq(cypher), anyMap());
+		verify(resultCursor).listAsync(any());
+		verify(resultCursor).consumeAsync();
+		verify(resultSummary).notifications();
+		verify(record1).asMap();
+		verify(asyncSession).closeAsync();
+		verifyNoMoreInteractions(asyncSession, resultCursor);
+	}
+
+	@Test
+	@DisplayName("Batches should be run in chunks")
+	void batchesShouldBeRunInChunks(@Mock Transaction transaction, @Mock SummaryCounters counters) {
+
+		prepareMocks();
+
+		when(session.beginTransaction()).thenReturn(transaction);
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		when(result.consume()).thenReturn(resultSummary);
+		when(resultSummary.counters()).thenReturn(counters);
+		when(counters.nodesCreated()).thenReturn(2, 1);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		List<Map<String, Object>> rows = Arrays.asList(Collections.singletonMap("name", "fixie"),
+				Collections.singletonMap("name", "cargo"), Collections.singletonMap("name", "tandem"));
+		SummaryCounters aggregatedCounters = client.batch("CREATE (b:Bike {name: row.name})").withRows(rows)
+				.chunkSize(2).run();
+
+		assertThat(aggregatedCounters.nodesCreated()).isEqualTo(3);
+		assertThat(aggregatedCounters.containsUpdates()).isTrue();
+
+		verifyDatabaseSelection(null);
+
+		String expectedCypher = "UNWIND $rows AS row CREATE (b:Bike {name: row.name})";
+		verify(session).beginTransaction();
+		Map<String, Object> firstChunk = Collections.singletonMap("rows", rows.subList(0, 2));
+		verify(transaction).run(eq(expectedCypher), MockitoHamcrest.argThat(new MapAssertionMatcher(firstChunk)));
+		Map<String, Object> secondChunk = Collections.singletonMap("rows", rows.subList(2, 3));
+		verify(transaction).run(eq(expectedCypher), MockitoHamcrest.argThat(new MapAssertionMatcher(secondChunk)));
+		verify(result, times(2)).consume();
+		verify(resultSummary, times(2)).notifications();
+		verify(resultSummary, times(2)).counters();
+		verify(transaction).commit();
+		verify(transaction).close();
+		verify(session).close();
+		verifyNoMoreInteractions(transaction);
+	}
+
+	@Test
+	@DisplayName("Batches of other clients should run all chunks with one query runner in one transaction")
+	void delegatingBatchesShouldRunAllChunksInOneTransaction(@Mock Neo4jClient client, @Mock Transaction transaction,
+			@Mock SummaryCounters counters) {
+
+		when(client.delegateTo(any())).thenAnswer(invocation -> {
+			Function<QueryRunner, Optional<Object>> callback = invocation.getArgument(0);
+			return new Neo4jClient.OngoingDelegation<Object>() {
+				@Override
+				public Neo4jClient.RunnableDelegation<Object> in(String targetDatabase) {
+					return this;
+				}
+
+				@Override
+				public Optional<Object> run() {
+					return callback.apply(session);
+				}
+			};
+		});
+		when(session.beginTransaction()).thenReturn(transaction);
+		when(transaction.run(anyString(), anyMap())).thenReturn(result);
+		when(result.consume()).thenReturn(resultSummary);
+		when(resultSummary.counters()).thenReturn(counters);
+		when(counters.nodesCreated()).thenReturn(2, 1);
+
+		List<Map<String, Object>> rows = Arrays.asList(Collections.singletonMap("name", "fixie"),
+				Collections.singletonMap("name", "cargo"), Collections.singletonMap("name", "tandem"));
+		SummaryCounters aggregatedCounters = new DelegatingBatchSpec(client, "CREATE (b:Bike {name: row.name})")
+				.withRows(rows).chunkSize(2).run();
+
+		assertThat(aggregatedCounters.nodesCreated()).isEqualTo(3);
+
+		verify(client).delegateTo(any());
+		verify(transaction, times(2)).run(eq("UNWIND $rows AS row CREATE (b:Bike {name: row.name})"), anyMap());
+		verify(result, times(2)).consume();
+		verify(resultSummary, times(2)).notifications();
+		verify(resultSummary, times(2)).counters();
+		verify(transaction).commit();
+		verify(transaction).close();
+		verifyNoMoreInteractions(client, transaction);
+	}
+
+	@Test
+	@DisplayName("Batches in transactions of rows should not be run inside Spring managed transactions")
+	void batchesInTransactionsOfRowsShouldNotBeRunInsideManagedTransactions(@Mock Transaction transaction) {
+
+		prepareMocks();
+
+		when(session.beginTransaction(any(TransactionConfig.class))).thenReturn(transaction);
+		when(session.isOpen()).thenReturn(true);
+		when(transaction.isOpen()).thenReturn(true, false);
+
+		Neo4jClient client = Neo4jClient.create(driver);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new Neo4jTransactionManager(driver));
+
+		List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("name", "fixie"));
+		assertThatIllegalStateException().isThrownBy(() -> transactionTemplate.executeWithoutResult(
+				transactionStatus -> client.batch("CREATE (b:Bike {name: row.name})").withRows(rows).inTransactionsOf(10)
+						.run()))
+				.withMessage("A batch cannot be run in transactions of a number of rows inside a Spring managed transaction.");
+
+		verify(transaction).rollback();
+		verify(transaction).close();
+		verify(session).close();
+		verifyNoMoreInteractions(transaction);
+	}
+
 	static class BikeOwner {
 
 		private final String name;
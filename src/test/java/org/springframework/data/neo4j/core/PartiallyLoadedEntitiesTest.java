@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+class PartiallyLoadedEntitiesTest {
+
+	@Test
+	void partiallyLoadedGraphsShouldNotBeSaved() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.getPersistentEntity(Thing.class);
+		PartiallyLoadedEntities partiallyLoadedEntities = new PartiallyLoadedEntities(mappingContext);
+
+		Thing root = new Thing(1L);
+		Thing related = new Thing(2L);
+		Thing relatedOfRelated = new Thing(3L);
+		root.related.add(related);
+		related.related.add(relatedOfRelated);
+		relatedOfRelated.related.add(root);
+
+		partiallyLoadedEntities.markAsPartiallyLoaded(root);
+
+		for (Thing thing : new Thing[] { root, related, relatedOfRelated }) {
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> partiallyLoadedEntities.assertNotPartiallyLoaded(thing))
+					.withMessageContaining(Thing.class.getName());
+		}
+	}
+
+	@Test
+	void otherInstancesShouldBeSaved() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.getPersistentEntity(Thing.class);
+		PartiallyLoadedEntities partiallyLoadedEntities = new PartiallyLoadedEntities(mappingContext);
+
+		partiallyLoadedEntities.markAsPartiallyLoaded(new Thing(1L));
+		partiallyLoadedEntities.markAsPartiallyLoaded(null);
+		partiallyLoadedEntities.markAsPartiallyLoaded("Not an entity");
+
+		// An equal instance that has been loaded completely
+		partiallyLoadedEntities.assertNotPartiallyLoaded(new Thing(1L));
+		partiallyLoadedEntities.assertNotPartiallyLoaded("Not an entity");
+	}
+
+	@Node
+	static class Thing {
+
+		@Id @GeneratedValue
+		Long id;
+
+		@Relationship("RELATED")
+		List<Thing> related = new ArrayList<>();
+
+		Thing(Long id) {
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Thing)) {
+				return false;
+			}
+			return Objects.equals(id, ((Thing) o).id);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(id);
+		}
+	}
+}
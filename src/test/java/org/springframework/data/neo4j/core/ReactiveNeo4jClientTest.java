@@ -49,6 +49,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,6 +137,35 @@ class ReactiveNeo4jClientTest {
 		verify(session).close();
 	}
 
+	@Test
+	void autoCommitShouldRunStatementsDirectlyOnTheSession() {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+		when(session.close()).thenReturn(Mono.empty());
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.records()).thenReturn(Flux.just(record1));
+		when(result.consume()).thenReturn(Mono.just(resultSummary));
+		when(record1.asMap()).thenReturn(Collections.singletonMap("name", "michael"));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver,
+				ReactiveDatabaseSelectionProvider.getDefaultSelectionProvider(), true);
+
+		String cypher = "MATCH (u:User) WHERE u.name = $name RETURN u.name AS name";
+		Mono<Map<String, Object>> user = client.query(cypher).bind("michael").to("name").fetch().one();
+
+		StepVerifier.create(user).expectNext(Collections.singletonMap("name", "michael")).verifyComplete();
+
+		verifyDatabaseSelection(null);
+		verify(session).run(eq(cypher), anyMap());
+		verify(session, never()).beginTransaction();
+		verify(session, atLeastOnce()).close();
+		verify(result).records();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(record1).asMap();
+	}
+
 	@Test
 	void databaseSelectionShouldBePossibleOnlyOnce() {
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.driver.AccessMode;
+
+class ReadOnlyStatementsTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"MATCH (n:`Person`) WHERE n.name = $name RETURN n",
+			"MATCH (n:`Person`) RETURN count(n) > 0",
+			"MATCH (n) WITH n ORDER BY n.settings RETURN n SKIP $skip LIMIT $limit",
+			"UNWIND $ids AS id MATCH (n) WHERE id(n) = id RETURN n"
+	})
+	void readingStatementsShouldBeFetchedFromReaders(String cypher) {
+
+		assertThat(ReadOnlyStatements.accessModeForFetching(cypher)).isEqualTo(AccessMode.READ);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"MERGE (n:`Person` {name: $name}) RETURN id(n)",
+			"CREATE (n:`Person`) SET n = $properties RETURN id(n)",
+			"MATCH (n) WHERE id(n) = $id DETACH DELETE n RETURN count(n)",
+			"match (n) remove n:Label return n",
+			"CALL db.labels()",
+			"MATCH (n) CALL { WITH n CREATE (m) } RETURN n",
+			"UNWIND $rows AS row FOREACH (x IN row | CREATE (n)) RETURN 1",
+			"LOAD CSV FROM 'file:///x.csv' AS line RETURN line"
+	})
+	void possiblyUpdatingStatementsShouldBeFetchedFromWriters(String cypher) {
+
+		assertThat(ReadOnlyStatements.accessModeForFetching(cypher)).isEqualTo(AccessMode.WRITE);
+	}
+}
@@ -16,11 +16,39 @@
 package org.springframework.data.neo4j.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.repository.query.QueryFragments;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Michael J. Simons
@@ -63,6 +91,57 @@ class TemplateSupportTest {
 	static class B4 implements IA, IB {
 	}
 
+	@Node
+	static class Person {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship("KNOWS")
+		List<Person> friends;
+	}
+
+	@Node
+	static class Hobby {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship(value = "LIKES", direction = Relationship.Direction.INCOMING)
+		List<Person> likedBy;
+	}
+
+	@Node
+	static class Start {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship("NEXT")
+		Middle next;
+	}
+
+	@Node
+	static class Middle {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship("NEXT")
+		End next;
+	}
+
+	@Node
+	static class End {
+
+		@Id @GeneratedValue Long id;
+
+		@Relationship(value = "NEXT", maxFetchDepth = 1)
+		Leaf next;
+	}
+
+	@Node
+	static class Leaf {
+
+		@Id @GeneratedValue Long id;
+	}
+
 	@Test
 	void shouldFindCommonElementTypeOfHeterousCollection() {
 
@@ -134,4 +213,262 @@ class TemplateSupportTest {
 		type = TemplateSupport.findCommonElementType(Arrays.asList(new B(), new A(), new A()));
 		assertThat(type).isNull();
 	}
+
+	@Test
+	void nodesAndRelationshipsByIdShouldFetchTheSubgraphSeparately() {
+
+		TemplateSupport.NodesAndRelationshipsByIdStatementProvider provider = new TemplateSupport.NodesAndRelationshipsByIdStatementProvider(
+				Arrays.asList(1L, 2L), Arrays.asList(3L, 4L), Arrays.asList(5L, 6L), new QueryFragments());
+		Renderer renderer = Renderer.getDefaultRenderer();
+
+		String rootNodes = renderer.render(provider.toStatement());
+		assertThat(rootNodes)
+				.contains("$rootNodeIds", Constants.NAME_OF_SYNTHESIZED_ROOT_NODE)
+				.doesNotContain("$relationshipIds", "$relatedNodeIds", Constants.NAME_OF_SYNTHESIZED_RELATIONS);
+		assertThat(provider.getParameters()).containsOnlyKeys("rootNodeIds");
+
+		String subgraph = renderer.render(provider.toSubgraphStatement());
+		assertThat(subgraph)
+				.contains("$relationshipIds", "$relatedNodeIds", Constants.NAME_OF_SYNTHESIZED_RELATIONS,
+						Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)
+				.doesNotContain("$rootNodeIds", Constants.NAME_OF_SYNTHESIZED_ROOT_NODE);
+		assertThat(provider.getSubgraphParameters()).containsOnlyKeys("relationshipIds", "relatedNodeIds");
+	}
+
+	@Test
+	void explorationLevelShouldMatchAllRelationshipsWithOneStatement() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(Person.class);
+		Neo4jPersistentEntity<?> hobby = mappingContext.getPersistentEntity(Hobby.class);
+
+		Map<NodeDescription<?>, Collection<Long>> frontier = new LinkedHashMap<>();
+		frontier.put(person, Arrays.asList(1L, 2L));
+		frontier.put(hobby, Collections.singletonList(3L));
+
+		TemplateSupport.ExplorationLevel level = TemplateSupport.ExplorationLevel.of(CypherGenerator.INSTANCE, frontier, p -> true, 1, -1);
+		assertThat(level).isNotNull();
+		assertThat(Renderer.getDefaultRenderer().render(level.toStatement()))
+				.contains("UNION ALL", ":`KNOWS`", ":`LIKES`");
+		assertThat(level.getParameters()).hasSize(2).containsValues(Arrays.asList(1L, 2L), Collections.singletonList(3L));
+
+		Set<Long> relationshipIds = new HashSet<>();
+		Set<Long> relatedNodeIds = new HashSet<>();
+		List<Map<String, Object>> records = Arrays.asList(
+				record(0L, Arrays.asList(10L, 11L), Arrays.asList(2L, 4L)),
+				record(1L, Collections.singletonList(12L), Collections.singletonList(4L)));
+
+		Map<NodeDescription<?>, Collection<Long>> nextFrontier = level.nextFrontier(records, relationshipIds, relatedNodeIds);
+		assertThat(nextFrontier).containsOnlyKeys(person);
+		assertThat(nextFrontier.get(person)).containsExactlyInAnyOrder(2L, 4L);
+		assertThat(relationshipIds).containsExactlyInAnyOrder(10L, 11L, 12L);
+		assertThat(relatedNodeIds).containsExactlyInAnyOrder(2L, 4L);
+
+		assertThat(level.nextFrontier(records, relationshipIds, relatedNodeIds)).isEmpty();
+	}
+
+	@Test
+	void explorationLevelShouldBeNullWithoutRelationships() {
+
+		Neo4jPersistentEntity<?> person = new Neo4jMappingContext().getPersistentEntity(Person.class);
+		Map<NodeDescription<?>, Collection<Long>> frontier = Collections.singletonMap(person, Collections.singletonList(1L));
+
+		assertThat(TemplateSupport.ExplorationLevel.of(CypherGenerator.INSTANCE, frontier, p -> false, 1, -1)).isNull();
+	}
+
+	@Test
+	void explorationLevelShouldRespectMaxFetchDepth() {
+
+		Neo4jPersistentEntity<?> person = new Neo4jMappingContext().getPersistentEntity(Person.class);
+		Map<NodeDescription<?>, Collection<Long>> frontier = Collections.singletonMap(person, Collections.singletonList(1L));
+
+		assertThat(TemplateSupport.ExplorationLevel.of(CypherGenerator.INSTANCE, frontier, p -> true, 2, 2)).isNotNull();
+		assertThat(TemplateSupport.ExplorationLevel.of(CypherGenerator.INSTANCE, frontier, p -> true, 3, 2)).isNull();
+	}
+
+	@Test
+	void relationshipIdsShouldBeAppliedByRowIndex() {
+
+		Map<Integer, Long> appliedIds = new HashMap<>();
+		TemplateSupport.RelationshipBatch relationshipBatch = new TemplateSupport.RelationshipBatch();
+		for (int i = 0; i < 3; ++i) {
+			int row = i;
+			relationshipBatch.add("statement", relationshipRow(i), id -> appliedIds.put(row, id));
+		}
+
+		TemplateSupport.RelationshipBatch.Rows rows = relationshipBatch.getRowsByStatement().get("statement");
+		assertThat(rows.getValues()).extracting(v -> v.get(Constants.NAME_OF_ROW_INDEX)).containsExactly(0, 1, 2);
+
+		rows.applyIds(Arrays.asList(relationshipRecord(2, 12L), relationshipRecord(0, 10L), relationshipRecord(1, 11L)));
+		assertThat(appliedIds).containsEntry(0, 10L).containsEntry(1, 11L).containsEntry(2, 12L);
+	}
+
+	@Test
+	void missingRelationshipIdsShouldFail() {
+
+		TemplateSupport.RelationshipBatch relationshipBatch = new TemplateSupport.RelationshipBatch();
+		relationshipBatch.add("statement", relationshipRow(0), null);
+		relationshipBatch.add("statement", relationshipRow(1), null);
+
+		TemplateSupport.RelationshipBatch.Rows rows = relationshipBatch.getRowsByStatement().get("statement");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> rows.applyIds(Collections.singletonList(relationshipRecord(0, 10L))))
+				.withMessageContaining("row 1");
+	}
+
+	@Test
+	void statementsWithoutResultShouldNotExpectIds() {
+
+		TemplateSupport.RelationshipBatch relationshipBatch = new TemplateSupport.RelationshipBatch();
+		relationshipBatch.addWithoutResult("statement", relationshipRow(0));
+
+		relationshipBatch.getRowsByStatement().get("statement").applyIds(Collections.emptyList());
+	}
+
+	@Test
+	void unlimitedQueriesShouldNotCutOffRelationships() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Person.class), p -> true, -1)).isFalse();
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Hobby.class), p -> true, -1)).isFalse();
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Leaf.class), p -> true, 1)).isFalse();
+	}
+
+	@Test
+	void limitsDeeperThanTheDomainShouldNotCutOffRelationships() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		Neo4jPersistentEntity<?> end = mappingContext.getPersistentEntity(End.class);
+
+		assertThat(TemplateSupport.cutsOffRelationships(end, p -> true, 1)).isFalse();
+		assertThat(TemplateSupport.cutsOffRelationships(end, p -> true, -1)).isFalse();
+	}
+
+	@Test
+	void limitedQueriesShouldCutOffRelationships() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(Person.class);
+
+		assertThat(TemplateSupport.cutsOffRelationships(person, p -> true, 2)).isTrue();
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Start.class), p -> true, 2)).isTrue();
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Start.class), p -> true, 3)).isTrue();
+		// Relationships excluded anyway are not cut off
+		assertThat(TemplateSupport.cutsOffRelationships(person, p -> false, 2)).isFalse();
+	}
+
+	@Test
+	void limitedRelationshipsShouldCutOffRelationships() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		// The limited relationship of End is on depth 3 when starting at Start
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Start.class), p -> true, -1)).isTrue();
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Middle.class), p -> true, -1)).isTrue();
+	}
+
+	@Test
+	void globalLimitsShouldCutOffRelationships() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setMaxFetchDepth(5);
+
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Person.class), p -> true, -1)).isTrue();
+		assertThat(TemplateSupport.cutsOffRelationships(mappingContext.getPersistentEntity(Leaf.class), p -> true, -1)).isFalse();
+	}
+
+	@Test
+	void instancesShouldBeConsumedLazilyAndSavedInChunks() {
+
+		List<String> events = new ArrayList<>();
+		long numberOfSavedInstances = TemplateSupport.saveInChunks(pulledInstances(events, "a", "b", "c", "d", "e"), 2,
+				null, chunk -> events.add("save " + chunk));
+
+		assertThat(numberOfSavedInstances).isEqualTo(5L);
+		assertThat(events).containsExactly(
+				"pull a", "pull b", "save [a, b]",
+				"pull c", "pull d", "save [c, d]",
+				"pull e", "save [e]");
+	}
+
+	@Test
+	void smallerIterablesShouldBeSavedInOneChunk() {
+
+		List<String> events = new ArrayList<>();
+		long numberOfSavedInstances = TemplateSupport.saveInChunks(pulledInstances(events, "a", "b"), 10, null,
+				chunk -> events.add("save " + chunk));
+
+		assertThat(numberOfSavedInstances).isEqualTo(2L);
+		assertThat(events).containsExactly("pull a", "pull b", "save [a, b]");
+
+		events.clear();
+		assertThat(TemplateSupport.saveInChunks(pulledInstances(events), 10, null, chunk -> events.add("save " + chunk)))
+				.isZero();
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void eachChunkShouldBeCommittedBeforeTheNextOneIsPulled() {
+
+		List<String> events = new ArrayList<>();
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+			events.add("begin");
+			return mock(TransactionStatus.class);
+		});
+		doAnswer(invocation -> events.add("commit")).when(transactionManager).commit(any());
+
+		long numberOfSavedInstances = TemplateSupport.saveInChunks(pulledInstances(events, "a", "b", "c"), 2,
+				new TransactionTemplate(transactionManager), chunk -> events.add("save " + chunk));
+
+		assertThat(numberOfSavedInstances).isEqualTo(3L);
+		assertThat(events).containsExactly(
+				"pull a", "pull b", "begin", "save [a, b]", "commit",
+				"pull c", "begin", "save [c]", "commit");
+	}
+
+	private static Iterable<String> pulledInstances(List<String> events, String... instances) {
+
+		Iterator<String> source = Arrays.asList(instances).iterator();
+		return () -> new Iterator<String>() {
+
+			@Override
+			public boolean hasNext() {
+				return source.hasNext();
+			}
+
+			@Override
+			public String next() {
+				String next = source.next();
+				events.add("pull " + next);
+				return next;
+			}
+		};
+	}
+
+	private static Map<String, Object> relationshipRow(long toId) {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put(Constants.FROM_ID_PARAMETER_NAME, 1L);
+		row.put(Constants.TO_ID_PARAMETER_NAME, toId);
+		return row;
+	}
+
+	private static Map<String, Object> relationshipRecord(int rowIndex, long relationshipId) {
+
+		Map<String, Object> record = new HashMap<>();
+		record.put(Constants.NAME_OF_ROW_INDEX, rowIndex);
+		record.put(Constants.NAME_OF_INTERNAL_ID, relationshipId);
+		return record;
+	}
+
+	private static Map<String, Object> record(long branch, List<Long> relationshipIds, List<Long> relatedNodeIds) {
+
+		Map<String, Object> record = new HashMap<>();
+		record.put("branch", branch);
+		record.put(Constants.NAME_OF_SYNTHESIZED_RELATIONS, relationshipIds);
+		record.put(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES, relatedNodeIds);
+		return record;
+	}
 }
@@ -106,6 +106,29 @@ class TransactionHandlingTest {
 				verifyNoMoreInteractions(driver, session, transaction);
 			}
 
+			@Test
+			void shouldShareOneSessionInsideCallback() {
+
+				when(driver.session(any(SessionConfig.class))).thenReturn(session);
+
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(driver, null);
+				neo4jClient.inSession(client -> {
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner(null)) {
+						s.run("MATCH (n) RETURN n");
+					}
+					try (DefaultNeo4jClient.AutoCloseableQueryRunner s = neo4jClient.getQueryRunner(null)) {
+						s.run("MATCH (n) RETURN n");
+					}
+					return null;
+				});
+
+				verify(driver).session(any(SessionConfig.class));
+				verify(session, times(2)).run(any(String.class));
+				verify(session).close();
+
+				verifyNoMoreInteractions(driver, session, transaction);
+			}
+
 			@Test
 			void shouldNotInvokeCloseOnTransaction() {
 
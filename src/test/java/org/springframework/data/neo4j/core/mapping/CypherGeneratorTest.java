@@ -21,6 +21,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -34,11 +35,16 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Expression;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
 
 /**
  * @author Davide Fantuzzi
@@ -95,6 +101,129 @@ class CypherGeneratorTest {
 		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
 	}
 
+	@Test
+	void shouldCreateBatchRelationshipCreationQuery() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		when(relationshipDescription.isDynamic()).thenReturn(true);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfRelationships(persistentEntity,
+				relationshipDescription, "REL");
+
+		String expectedQuery = "UNWIND $__relationships__ AS relationship"
+							   + " MATCH (startNode:`Entity1`) WHERE startNode.id = relationship.fromId MATCH (endNode)"
+							   + " WHERE id(endNode) = relationship.toId MERGE (startNode)<-[relProps:`REL`]-(endNode)"
+							   + " RETURN relationship.__row__ AS __row__, id(relProps) AS __internalNeo4jId__";
+		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
+	}
+
+	@Test
+	void shouldCreateBatchSaveQueryCorrelatedByRowIndex() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(persistentEntity);
+
+		String expectedQuery = "UNWIND $__entities__ AS entity MERGE (n:`Entity1` {id: entity.__id__})"
+							   + " SET n += entity.__properties__ RETURN entity.__row__ AS __row__, n";
+		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
+	}
+
+	@Test
+	void shouldCreateBatchSaveQueryForInternallyGeneratedIds() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(EntityWithInternalId.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(persistentEntity);
+
+		assertThat(Renderer.getDefaultRenderer().render(statement))
+				.startsWith("UNWIND $__entities__ AS entity OPTIONAL MATCH (hlp:`EntityWithInternalId`) WHERE id(hlp) = entity.__id__")
+				.contains("WHERE hlp IS NULL CREATE (n:`EntityWithInternalId`) SET n = entity.__properties__")
+				.contains(" UNION ALL UNWIND $__entities__ AS entity MATCH (n:`EntityWithInternalId`) WHERE id(n) = entity.__id__")
+				.endsWith("SET n += entity.__properties__ RETURN entity.__row__ AS __row__, n");
+	}
+
+	@Test
+	void shouldCreateBatchSaveQueryCheckingVersions() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(VersionedEntity.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(persistentEntity);
+
+		assertThat(Renderer.getDefaultRenderer().render(statement))
+				.startsWith("UNWIND $__entities__ AS entity OPTIONAL MATCH (hlp:`VersionedEntity`) WHERE hlp.id = entity.__id__")
+				.contains("CREATE (n:`VersionedEntity` {version: 0})")
+				.contains(" UNION ALL UNWIND $__entities__ AS entity MATCH (n:`VersionedEntity`)"
+						  + " WHERE (n.id = entity.__id__ AND n.version = entity.__version__) SET n.version = (n.version + 1)")
+				.contains("WHERE n.version = (coalesce(entity.__version__, 0) + 1)")
+				.endsWith("RETURN entity.__row__ AS __row__, n");
+	}
+
+	@Test
+	void shouldCreateQueryReturningDynamicLabelsOfMultipleInstances() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+
+		Statement statement = CypherGenerator.INSTANCE.createStatementReturningDynamicLabelsOfMultipleInstances(persistentEntity);
+
+		String expectedQuery = "UNWIND $__entities__ AS entity MATCH (n) WHERE n.id = entity.__id__"
+							   + " UNWIND labels(n) AS label WITH entity, label WHERE NOT (label IN $__staticLabels__)"
+							   + " RETURN entity.__row__ AS __row__, collect(label) AS __nodeLabels__";
+		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
+	}
+
+	@Test
+	void shouldCheckVersionsWhenReturningDynamicLabelsOfMultipleInstances() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(VersionedEntity.class);
+
+		Statement statement = CypherGenerator.INSTANCE.createStatementReturningDynamicLabelsOfMultipleInstances(persistentEntity);
+
+		String expectedQuery = "UNWIND $__entities__ AS entity MATCH (n) WHERE (n.id = entity.__id__ AND n.version = coalesce(entity.__version__, 0))"
+							   + " UNWIND labels(n) AS label WITH entity, label WHERE NOT (label IN $__staticLabels__)"
+							   + " RETURN entity.__row__ AS __row__, collect(label) AS __nodeLabels__";
+		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
+	}
+
+	@Test
+	void shouldCreateRemoveQueryForRelationshipsToGivenNodes() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Neo4jPersistentEntity<?> relatedEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		doReturn(relatedEntity).when(relationshipDescription).getTarget();
+
+		Statement statement = CypherGenerator.INSTANCE.prepareDeleteOfRelationshipsTo(persistentEntity, relationshipDescription);
+
+		String expectedQuery = "MATCH (startNode:`Entity1`)<-[rel]-(endNode:`Entity2`) WHERE (startNode.id = $fromId AND endNode.id IN $__ids__) DELETE rel";
+		Assert.assertEquals(expectedQuery, Renderer.getDefaultRenderer().render(statement));
+	}
+
+	@Test
+	void shouldCreateRelationshipSynchronizationQuery() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Neo4jPersistentEntity<?> relatedEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		doReturn(relatedEntity).when(relationshipDescription).getTarget();
+		when(relationshipDescription.getType()).thenReturn("REL");
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSynchronizationOfRelationships(persistentEntity, relationshipDescription);
+
+		assertThat(Renderer.getDefaultRenderer().render(statement))
+				.startsWith("UNWIND $__relationships__ AS relationship MATCH (startNode:`Entity1`) WHERE startNode.id = relationship.fromId"
+							+ " MATCH (endNode) WHERE id(endNode) = relationship.toId MERGE (startNode)<-[relProps:`REL`]-(endNode)"
+							+ " WITH startNode, collect(id(relProps)) AS synchronizedIds")
+				.contains("<-[rel:`REL`]-(:`Entity2`)")
+				.endsWith("WHERE NOT (id(rel) IN synchronizedIds) DELETE rel");
+	}
+
+	@Test
+	void shouldCreateExistsQueryWithoutReturningTheNode() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareExistsOf(persistentEntity,
+				persistentEntity.getIdExpression().isEqualTo(Cypher.parameter("id")));
+
+		assertThat(Renderer.getDefaultRenderer().render(statement))
+				.startsWith("MATCH (n:`Entity1`) WHERE n.id = $id RETURN ")
+				.contains("count(n) > 0")
+				.doesNotContain("collect");
+	}
+
 	@Test
 	void shouldCreateRelationshipRemoveQueryWithLabelIfPresent() {
 		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
@@ -242,6 +371,55 @@ class CypherGeneratorTest {
 		assertThat(renderedStatement).doesNotContainPattern(typedRelationshipsPattern);
 	}
 
+	@Test
+	void projectionShouldRespectMaxFetchDepth() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		Neo4jPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(ChainA.class);
+
+		assertThat(renderReturnStatement(persistentEntity, -1)).contains("HAS_B", "HAS_C").doesNotContain("HAS_D");
+		assertThat(renderReturnStatement(persistentEntity, 1)).contains("HAS_B").doesNotContain("HAS_C", "HAS_D");
+
+		mappingContext.setMaxFetchDepth(1);
+		assertThat(renderReturnStatement(persistentEntity, -1)).contains("HAS_B").doesNotContain("HAS_C", "HAS_D");
+	}
+
+	@Test
+	void returnStatementsShouldBeCachedPerPropertyFilter() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		Neo4jPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(ChainA.class);
+
+		Collection<Expression> returnStatement = CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity);
+		assertThat(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity)).isSameAs(returnStatement);
+		assertThat(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity, PropertyFilter.acceptAll(), 1))
+				.isNotSameAs(returnStatement);
+		assertThat(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity, p -> true))
+				.isNotSameAs(returnStatement);
+
+		mappingContext.setMaxFetchDepth(1);
+		assertThat(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity)).isNotSameAs(returnStatement);
+	}
+
+	@Test
+	void propertyFiltersShouldBeEqualWhenAcceptingTheSameProperties() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(ChainA.class);
+		PropertyFilter filter1 = PropertyFilter.from(Collections.singletonList(PropertyPath.from("b", ChainA.class)), persistentEntity);
+		PropertyFilter filter2 = PropertyFilter.from(Collections.singletonList(PropertyPath.from("b", ChainA.class)), persistentEntity);
+
+		assertThat(filter1).isEqualTo(filter2).hasSameHashCodeAs(filter2).isNotEqualTo(PropertyFilter.acceptAll());
+		assertThat(persistentEntity.containsPossibleCircles(filter1)).isFalse();
+	}
+
+	private static String renderReturnStatement(Neo4jPersistentEntity<?> persistentEntity, int maxFetchDepth) {
+
+		Statement statement = Cypher.match(Cypher.anyNode(Constants.NAME_OF_ROOT_NODE))
+				.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(persistentEntity, p -> true, maxFetchDepth))
+				.build();
+		return Renderer.getDefaultRenderer().render(statement);
+	}
+
 	@Node
 	private static class Entity1 {
 
@@ -252,6 +430,22 @@ class CypherGeneratorTest {
 		private Map<String, Entity1> dynamicRelationships;
 	}
 
+	@Node
+	private static class EntityWithInternalId {
+
+		@Id @GeneratedValue private Long id;
+
+		private String name;
+	}
+
+	@Node
+	private static class VersionedEntity {
+
+		@Id private String id;
+
+		@Version private Long version;
+	}
+
 	@Node({ "Entity1", "MultipleLabel" })
 	private static class MultipleLabelEntity1 {
 
@@ -319,4 +513,33 @@ class CypherGeneratorTest {
 		private Map<String, CyclicEntityWithStringDynamicRelationship1> dynamicRelationship;
 	}
 
+	@Node
+	private static class ChainA {
+
+		@Id private Long id;
+
+		@Relationship("HAS_B") private ChainB b;
+	}
+
+	@Node
+	private static class ChainB {
+
+		@Id private Long id;
+
+		@Relationship("HAS_C") private ChainC c;
+	}
+
+	@Node
+	private static class ChainC {
+
+		@Id private Long id;
+
+		@Relationship(value = "HAS_D", maxFetchDepth = 2) private ChainD d;
+	}
+
+	@Node
+	private static class ChainD {
+
+		@Id private Long id;
+	}
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+class EntityReadPlanTest {
+
+	private final Neo4jMappingContext mappingContext;
+
+	EntityReadPlanTest() {
+
+		this.mappingContext = new Neo4jMappingContext();
+		this.mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(MutableThing.class, ImmutableThing.class)));
+		this.mappingContext.initialize();
+	}
+
+	@Test
+	void shouldResolvePropertiesAndAssociations() {
+
+		EntityReadPlan<?> readPlan = EntityReadPlan.of(mappingContext.getPersistentEntity(MutableThing.class));
+
+		assertThat(readPlan.requiresPropertyPopulation()).isTrue();
+		assertThat(Stream.of(readPlan.getPropertyReaders()).map(r -> r.getProperty().getFieldName()))
+				.containsExactlyInAnyOrder("id", "name");
+		assertThat(Stream.of(readPlan.getPropertyReaders()).map(EntityReadPlan.PropertyReader::getSource))
+				.containsOnly(EntityReadPlan.Source.VALUE);
+		assertThat(readPlan.getAssociationReaders()).hasSize(1).first().satisfies(reader -> {
+			assertThat(reader.getSource()).isEqualTo(EntityReadPlan.Source.RELATIONSHIP);
+			assertThat(reader.getRequiredRelationship().getType()).isEqualTo("RELATED_TO");
+		});
+	}
+
+	@Test
+	void shouldResolveConstructorArguments() {
+
+		Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(ImmutableThing.class);
+		EntityReadPlan<?> readPlan = EntityReadPlan.of(entity);
+
+		assertThat(readPlan.getPropertyReaders()).isEmpty();
+		assertThat(readPlan.getAssociationReaders()).isEmpty();
+
+		for (PreferredConstructor.Parameter<Object, Neo4jPersistentProperty> parameter : entity.getPersistenceConstructor().getParameters()) {
+			EntityReadPlan.PropertyReader constructorArgument = readPlan.getConstructorArgument(parameter);
+			assertThat(constructorArgument.getProperty().getFieldName()).isEqualTo(parameter.getName());
+			if ("things".equals(parameter.getName())) {
+				assertThat(constructorArgument.getSource()).isEqualTo(EntityReadPlan.Source.RELATIONSHIP);
+				assertThat(constructorArgument.getRequiredRelationship().getType()).isEqualTo("THINGS");
+			} else {
+				assertThat(constructorArgument.getSource()).isEqualTo(EntityReadPlan.Source.VALUE);
+			}
+		}
+	}
+
+	@Node
+	static class MutableThing {
+
+		@Id @GeneratedValue @SuppressWarnings("unused")
+		private Long id;
+
+		@SuppressWarnings("unused")
+		private String name;
+
+		@Transient @SuppressWarnings("unused")
+		private String ignored;
+
+		@Relationship("RELATED_TO") @SuppressWarnings("unused")
+		private List<MutableThing> related;
+	}
+
+	@Node
+	static class ImmutableThing {
+
+		@Id @GeneratedValue
+		private final Long id;
+
+		private final String name;
+
+		@Relationship("THINGS")
+		private final List<MutableThing> things;
+
+		ImmutableThing(Long id, String name, List<MutableThing> things) {
+			this.id = id;
+			this.name = name;
+			this.things = things;
+		}
+	}
+}
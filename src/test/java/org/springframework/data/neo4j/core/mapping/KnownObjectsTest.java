@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class KnownObjectsTest {
+
+	@Test
+	void shouldIgnoreMissingIds() {
+
+		DefaultNeo4jEntityConverter.KnownObjects knownObjects = new DefaultNeo4jEntityConverter.KnownObjects();
+		knownObjects.storeObject(null, "a");
+
+		assertThat(knownObjects.getObject(null)).isNull();
+		assertThat(knownObjects.getObject(1L)).isNull();
+		assertThat(knownObjects.size()).isZero();
+	}
+
+	@Test
+	void shouldReplaceObjects() {
+
+		DefaultNeo4jEntityConverter.KnownObjects knownObjects = new DefaultNeo4jEntityConverter.KnownObjects();
+		knownObjects.storeObject(0L, "a");
+		knownObjects.storeObject(0L, "b");
+
+		assertThat(knownObjects.getObject(0L)).isEqualTo("b");
+		assertThat(knownObjects.size()).isOne();
+	}
+
+	@Test
+	void shouldGrow() {
+
+		DefaultNeo4jEntityConverter.KnownObjects knownObjects = new DefaultNeo4jEntityConverter.KnownObjects();
+		for (long id = -500; id < 10_000; id += 3) {
+			knownObjects.storeObject(id, Long.toString(id));
+		}
+
+		for (long id = -500; id < 10_000; ++id) {
+			Object object = knownObjects.getObject(id);
+			if ((id + 500) % 3 == 0) {
+				assertThat(object).isEqualTo(Long.toString(id));
+			} else {
+				assertThat(object).isNull();
+			}
+		}
+		assertThat(knownObjects.size()).isEqualTo(3500);
+	}
+}
@@ -37,6 +37,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
 import org.neo4j.driver.internal.value.StringValue;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter;
@@ -219,6 +220,33 @@ class Neo4jMappingContextTest {
 		assertThat(dummyIdGenerator1).isSameAs(dummyIdGenerator2);
 	}
 
+	@Test
+	void binderFunctionShouldWriteMappedProperties() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class, TripNode.class)));
+		schema.initialize();
+
+		UserNode user = new UserNode();
+		user.id = 23L;
+		user.name = "Michael";
+		user.first_name = "Mike";
+		user.anAnnotatedTransientProperty = "ignored";
+		user.bikes = Collections.singletonList(new BikeNode());
+
+		Map<String, Object> parameters = schema.getRequiredBinderFunctionFor(UserNode.class).apply(user);
+		Map<String, Object> otherParameters = schema.getRequiredBinderFunctionFor(UserNode.class).apply(user);
+
+		assertThat(parameters).containsOnlyKeys(Constants.NAME_OF_PROPERTIES_PARAM, Constants.NAME_OF_ID);
+		assertThat(parameters.get(Constants.NAME_OF_ID)).isEqualTo(Values.value(23L));
+		assertThat((Map<String, Object>) parameters.get(Constants.NAME_OF_PROPERTIES_PARAM))
+				.containsOnly(
+						Assertions.entry("name", Values.value("Michael")),
+						Assertions.entry("firstName", Values.value("Mike"))
+				);
+		assertThat(otherParameters).isEqualTo(parameters);
+	}
+
 	@Test
 	void complexPropertyWithConverterShouldNotBeConsideredAsAssociation() {
 
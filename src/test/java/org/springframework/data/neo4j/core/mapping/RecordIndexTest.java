@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.types.Relationship;
+
+class RecordIndexTest {
+
+	private final InternalNode person = new InternalNode(1L, Collections.singletonList("Person"), Collections.emptyMap());
+	private final InternalNode movie = new InternalNode(2L, Collections.singletonList("Movie"), Collections.emptyMap());
+
+	private final Relationship actedIn = new InternalRelationship(10L, 1L, 2L, "ACTED_IN");
+	private final Relationship directed = new InternalRelationship(11L, 1L, 2L, "DIRECTED");
+
+	private final RecordIndex recordIndex = new RecordIndex(
+			Arrays.asList(person, movie, person),
+			Arrays.asList(actedIn, directed, actedIn)
+	);
+
+	@Test
+	void shouldFindNodesByIdAndLabel() {
+
+		assertThat(recordIndex.getNode(1L, "Person")).isEqualTo(person);
+		assertThat(recordIndex.getNode(1L, "Movie")).isNull();
+		assertThat(recordIndex.getNode(3L, "Person")).isNull();
+	}
+
+	@Test
+	void shouldFindRelationshipsByTypeAndSource() {
+
+		assertThat(recordIndex.getRelationships(1L, false, "ACTED_IN")).containsExactly(actedIn);
+		assertThat(recordIndex.getRelationships(2L, true, "DIRECTED")).containsExactly(directed);
+		assertThat(recordIndex.getRelationships(2L, false, "ACTED_IN")).isEmpty();
+		assertThat(recordIndex.getRelationships(1L, true, "ACTED_IN")).isEmpty();
+		assertThat(recordIndex.getRelationships(null, false, "ACTED_IN")).isEmpty();
+	}
+
+	@Test
+	void shouldFindRelationshipsOfAllTypes() {
+
+		assertThat(recordIndex.getRelationships(1L, false, null)).containsExactlyInAnyOrder(actedIn, directed);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2011-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Node;
+import org.neo4j.cypherdsl.core.Statement;
+
+class StatementCacheTest {
+
+	private final AtomicInteger numberOfBuiltStatements = new AtomicInteger();
+
+	private final Supplier<Statement> statement = () -> {
+		numberOfBuiltStatements.incrementAndGet();
+		Node node = Cypher.node("Test").named("n");
+		return Cypher.match(node).returning(node).build();
+	};
+
+	@Test
+	void shouldRenderStatementOnlyOnce() {
+
+		StatementCache statementCache = new StatementCache();
+
+		String first = statementCache.getOrRender("test", statement, "a", true, null);
+		String second = statementCache.getOrRender("test", statement, "a", true, null);
+
+		assertThat(first).isEqualTo("MATCH (n:`Test`) RETURN n");
+		assertThat(second).isSameAs(first);
+		assertThat(numberOfBuiltStatements).hasValue(1);
+	}
+
+	@Test
+	void shouldDistinguishVariantsAndKeys() {
+
+		StatementCache statementCache = new StatementCache();
+
+		statementCache.getOrRender("test", statement, "a", true);
+		statementCache.getOrRender("test", statement, "a", false);
+		statementCache.getOrRender("anotherTest", statement, "a", true);
+
+		assertThat(numberOfBuiltStatements).hasValue(3);
+		assertThat(statementCache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldNotCacheBeyondMaximumSize() {
+
+		StatementCache statementCache = new StatementCache(1);
+
+		statementCache.getOrRender("test", statement, "a");
+		String cypher = statementCache.getOrRender("test", statement, "b");
+		statementCache.getOrRender("test", statement, "b");
+
+		assertThat(cypher).isEqualTo("MATCH (n:`Test`) RETURN n");
+		assertThat(numberOfBuiltStatements).hasValue(3);
+		assertThat(statementCache.size()).isEqualTo(1);
+	}
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import lombok.Data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -285,6 +287,33 @@ class Neo4jTemplateIT {
 		}
 	}
 
+	@Test
+	void saveAllInChunksShouldCommitEachChunkBeforePullingTheNextOne() {
+
+		List<Long> savedThingsWhenPulled = new ArrayList<>();
+		Iterable<ThingWithGeneratedId> things = () -> IntStream.range(0, 5).mapToObj(i -> {
+			savedThingsWhenPulled.add(countThingsWithGeneratedId());
+			return new ThingWithGeneratedId("chunkedThing" + i);
+		}).iterator();
+
+		neo4jTemplate.setChunkSize(2);
+		try {
+			assertThat(neo4jTemplate.saveAllInChunks(things, true)).isEqualTo(5L);
+		} finally {
+			neo4jTemplate.setChunkSize(1_000);
+		}
+
+		assertThat(savedThingsWhenPulled).containsExactly(0L, 0L, 2L, 2L, 4L);
+		assertThat(countThingsWithGeneratedId()).isEqualTo(5L);
+	}
+
+	private long countThingsWithGeneratedId() {
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			return session.run("MATCH (t:ThingWithGeneratedId) RETURN count(t) AS count").single().get("count").asLong();
+		}
+	}
+
 	@Test
 	void deleteById() {
 		neo4jTemplate.deleteById(person1Id, PersonWithAllConstructor.class);
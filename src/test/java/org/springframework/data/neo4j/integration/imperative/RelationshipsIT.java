@@ -17,16 +17,21 @@ package org.springframework.data.neo4j.integration.imperative;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Values;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -258,6 +263,85 @@ class RelationshipsIT extends RelationshipsITBase {
 				});
 	}
 
+	@Test
+	void synchronizingRelationshipsShouldOnlyDeleteStaleRelationships(
+			@Autowired MultipleRelationshipsThingRepository repository, @Autowired BookmarkCapture bookmarkCapture) {
+
+		MultipleRelationshipsThing p = new MultipleRelationshipsThing("p");
+		p.setTypeB(Arrays.asList(new MultipleRelationshipsThing("c1"), new MultipleRelationshipsThing("c2")));
+		p.setTypeC(Collections.singletonList(new MultipleRelationshipsThing("c3")));
+		p = repository.save(p);
+
+		Map<String, Long> typeBBefore;
+		Map<String, Long> typeCBefore;
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			typeBBefore = relationshipIdsByTargetName(session, p.getId(), "TYPE_B");
+			typeCBefore = relationshipIdsByTargetName(session, p.getId(), "TYPE_C");
+			// A relationship of the same type to a node that is not part of the association
+			session.run("MATCH (p) WHERE id(p) = $id CREATE (p) - [:TYPE_B] -> (:NotAMultipleRelationshipsThing {name: 'u'})",
+					Collections.singletonMap("id", p.getId())).consume();
+			bookmarkCapture.seedWith(session.lastBookmark());
+		}
+		assertThat(typeBBefore).containsOnlyKeys("c1", "c2");
+
+		MultipleRelationshipsThing loadedThing = repository.findById(p.getId()).get();
+		List<MultipleRelationshipsThing> typeB = new ArrayList<>();
+		loadedThing.getTypeB().stream().filter(thing -> "c2".equals(thing.getName())).forEach(typeB::add);
+		typeB.add(new MultipleRelationshipsThing("c4"));
+		loadedThing.setTypeB(typeB);
+		repository.save(loadedThing);
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			Map<String, Long> typeBAfter = relationshipIdsByTargetName(session, p.getId(), "TYPE_B");
+			// The stale relationship has been deleted and the missing one has been created
+			assertThat(typeBAfter).containsOnlyKeys("c2", "c4", "u");
+			// The existing relationship has been kept and not been recreated
+			assertThat(typeBAfter.get("c2")).isEqualTo(typeBBefore.get("c2"));
+			// Relationships of other types are not touched
+			assertThat(relationshipIdsByTargetName(session, p.getId(), "TYPE_C")).isEqualTo(typeCBefore);
+			// Only the relationship has been deleted, not the node
+			assertThat(session.run("MATCH (n:MultipleRelationshipsThing {name: 'c1'}) RETURN count(n)").single().get(0).asLong())
+					.isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void relatedNodesOfOneAssociationShouldBeSavedTogether(@Autowired MultipleRelationshipsThingRepository repository,
+			@Autowired BookmarkCapture bookmarkCapture) {
+
+		MultipleRelationshipsThing c2 = new MultipleRelationshipsThing("c2");
+		c2.setTypeB(Collections.singletonList(new MultipleRelationshipsThing("gc")));
+		MultipleRelationshipsThing p = new MultipleRelationshipsThing("p");
+		p.setTypeB(Arrays.asList(new MultipleRelationshipsThing("c1"), c2, new MultipleRelationshipsThing("c3")));
+		p.setTypeC(Collections.singletonList(new MultipleRelationshipsThing("c4")));
+
+		p = repository.save(p);
+
+		List<MultipleRelationshipsThing> savedTypeB = p.getTypeB();
+		assertThat(savedTypeB).extracting(MultipleRelationshipsThing::getId).doesNotContainNull().doesNotHaveDuplicates();
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			// Each saved instance got the id of its own node
+			for (MultipleRelationshipsThing thing : savedTypeB) {
+				String name = session.run("MATCH (n) WHERE id(n) = $id RETURN n.name AS name",
+						Collections.singletonMap("id", thing.getId())).single().get("name").asString();
+				assertThat(name).isEqualTo(thing.getName());
+			}
+
+			assertThat(relationshipIdsByTargetName(session, p.getId(), "TYPE_B")).containsOnlyKeys("c1", "c2", "c3");
+			assertThat(relationshipIdsByTargetName(session, p.getId(), "TYPE_C")).containsOnlyKeys("c4");
+			assertThat(relationshipIdsByTargetName(session, savedTypeB.get(1).getId(), "TYPE_B")).containsOnlyKeys("gc");
+		}
+	}
+
+	private static Map<String, Long> relationshipIdsByTargetName(Session session, Long id, String type) {
+
+		return session.run("MATCH (n) - [r] -> (t) WHERE id(n) = $id AND type(r) = $type RETURN t.name AS name, id(r) AS id",
+				Values.parameters("id", id, "type", type))
+				.stream()
+				.collect(Collectors.toMap(r -> r.get("name").asString(), r -> r.get("id").asLong()));
+	}
+
 	interface MultipleRelationshipsThingRepository extends CrudRepository<MultipleRelationshipsThing, Long> {}
 
 	interface Multiple1O1RelationshipsRepository extends CrudRepository<Multiple1O1Relationships, Long> {
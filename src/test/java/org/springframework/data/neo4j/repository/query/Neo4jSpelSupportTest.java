@@ -17,6 +17,11 @@ package org.springframework.data.neo4j.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 
@@ -30,7 +35,10 @@ import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
 import org.springframework.data.neo4j.repository.query.Neo4jSpelSupport.LiteralReplacement;
 import org.springframework.data.repository.core.EntityMetadata;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
  * @author Michael J. Simons
@@ -87,6 +95,36 @@ class Neo4jSpelSupportTest {
 		assertThat(literalReplacement1).isSameAs(literalReplacement2);
 	}
 
+	@Test
+	void evaluatorShouldEvaluateParsedExpressions() {
+
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+		evaluationContext.setVariable("name", "Helge");
+		QueryMethodEvaluationContextProvider evaluationContextProvider = mock(QueryMethodEvaluationContextProvider.class);
+		when(evaluationContextProvider.getEvaluationContext(any(Parameters.class), any(Object[].class))).thenReturn(evaluationContext);
+		CachingSpelEvaluator evaluator = new CachingSpelEvaluator(evaluationContextProvider, mock(Parameters.class),
+				StringBasedNeo4jQuery.SPEL_QUERY_CONTEXT.parse("MATCH (n:Test) WHERE n.name = :#{#name + '!'} RETURN n"));
+
+		assertThat(evaluator.hasExpressions()).isTrue();
+		assertThat(evaluator.evaluate(new Object[] { "x" })).containsOnly(entry("__SpEL__0", "Helge!"));
+		evaluationContext.setVariable("name", "Schneider");
+		assertThat(evaluator.evaluate(new Object[] { "x" })).containsOnly(entry("__SpEL__0", "Schneider!"));
+		assertThat(evaluator.getQueryString()).isEqualTo("MATCH (n:Test) WHERE n.name = $__SpEL__0 RETURN n");
+	}
+
+	@Test
+	void evaluatorShouldSkipTemplatesWithoutExpressions() {
+
+		QueryMethodEvaluationContextProvider evaluationContextProvider = mock(QueryMethodEvaluationContextProvider.class);
+		CachingSpelEvaluator evaluator = new CachingSpelEvaluator(evaluationContextProvider, mock(Parameters.class),
+				StringBasedNeo4jQuery.SPEL_QUERY_CONTEXT.parse("MATCH (n:Test) WHERE n.name = $name RETURN n"));
+
+		assertThat(evaluator.hasExpressions()).isFalse();
+		assertThat(evaluator.evaluate(new Object[] { "x" })).isEmpty();
+		assertThat(evaluator.getQueryString()).isEqualTo("MATCH (n:Test) WHERE n.name = $name RETURN n");
+		verifyNoInteractions(evaluationContextProvider);
+	}
+
 	@ParameterizedTest // GH-2279
 	@CsvSource({
 			"MATCH (n:Something) WHERE n.name = ?#{#name}, MATCH (n:Something) WHERE n.name = ?__HASH__{#name}",
@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -54,6 +55,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.MappingException;
@@ -76,6 +78,7 @@ import org.springframework.data.repository.query.QueryMethodEvaluationContextPro
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.SpelQueryContext;
+import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -84,6 +87,7 @@ import org.springframework.util.ReflectionUtils;
  * <li>{@link Neo4jQueryLookupStrategy}</li>
  * <li>{@link Neo4jQueryMethod}</li>
  * <li>{@link StringBasedNeo4jQuery}</li>
+ * <li>{@link PartTreeQueryCache}</li>
  * </ul>
  *
  * @author Michael J. Simons
@@ -434,6 +438,30 @@ final class RepositoryQueryTest {
 					.isEqualTo("MATCH (n:`A valid dynamic Label`) SET n.`dyn prop` = 'static value' RETURN n ORDER BY name ASC SKIP $skip LIMIT $limit");
 		}
 
+		@Test
+		void templatesWithoutSpelShouldKeepTheirText() {
+
+			Neo4jQueryMethod method = neo4jQueryMethod("annotatedQueryWithValidTemplate", String.class, String.class);
+			StringBasedNeo4jQuery query = StringBasedNeo4jQuery.create(neo4jOperations, neo4jMappingContext,
+					QueryMethodEvaluationContextProvider.DEFAULT, method, projectionFactory);
+
+			Neo4jParameterAccessor parameterAccessor = new Neo4jParameterAccessor(
+					(Neo4jQueryMethod.Neo4jParameters) method.getParameters(),
+					new Object[] { "A String", "Another String" });
+			PreparedQuery pq = query.prepareQuery(
+					TestEntity.class,
+					Collections.emptyList(),
+					parameterAccessor,
+					Neo4jQueryType.DEFAULT,
+					(typeSystem, mapAccessor) -> new TestEntity(),
+					UnaryOperator.identity()
+			);
+			assertThat(pq.getQueryFragmentsAndParameters().getCypherQuery())
+					.isEqualTo("MATCH (n:Test) WHERE n.name = $0 OR n.name = $1");
+			assertThat(pq.getQueryFragmentsAndParameters().getParameters())
+					.containsEntry("0", Values.value("A String")).containsEntry("1", Values.value("Another String"));
+		}
+
 		@Test
 		void shouldBindParameters() {
 
@@ -524,6 +552,117 @@ final class RepositoryQueryTest {
 		}
 	}
 
+	@Nested
+	class PartTreeQueryCacheTest {
+
+		private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+		private final AtomicInteger createdQueries = new AtomicInteger();
+
+		@Test
+		void sameShapeShouldHitTheCache() {
+
+			PartTreeQueryCache cache = new PartTreeQueryCache(-1);
+			Neo4jQueryMethod method = neo4jQueryMethod("findAllByNameAndIdBetween", String.class, Range.class);
+
+			QueryFragmentsAndParameters first = getOrCreate(cache, method, "a", Range.closed(1L, 2L));
+			QueryFragmentsAndParameters second = getOrCreate(cache, method, "b", Range.closed(3L, 4L));
+
+			assertThat(createdQueries).hasValue(1);
+			assertThat(cache.size()).isEqualTo(1);
+			assertThat(second.getCypherQuery()).isNotNull().isEqualTo(first.getCypherQuery());
+			assertThat(second.getQueryFragments()).isSameAs(first.getQueryFragments());
+		}
+
+		@Test
+		void parametersShouldBeBoundOnEachInvocation() {
+
+			PartTreeQueryCache cache = new PartTreeQueryCache(-1);
+			Neo4jQueryMethod method = neo4jQueryMethod("findAllByNameAndIdBetween", String.class, Range.class);
+
+			Range<Long> firstRange = Range.closed(1L, 2L);
+			QueryFragmentsAndParameters first = getOrCreate(cache, method, "a", firstRange);
+			Range<Long> secondRange = Range.closed(3L, 4L);
+			QueryFragmentsAndParameters second = getOrCreate(cache, method, "b", secondRange);
+
+			assertThat(first.getParameters()).containsEntry("name", "a").containsEntry("ids", firstRange);
+			assertThat(second.getParameters()).containsEntry("name", "b").containsEntry("ids", secondRange);
+		}
+
+		@Test
+		void boundsOfRangesShouldBePartOfTheShape() {
+
+			PartTreeQueryCache cache = new PartTreeQueryCache(-1);
+			Neo4jQueryMethod method = neo4jQueryMethod("findAllByNameAndIdBetween", String.class, Range.class);
+
+			QueryFragmentsAndParameters closed = getOrCreate(cache, method, "a", Range.closed(1L, 2L));
+			QueryFragmentsAndParameters rightOpen = getOrCreate(cache, method, "a", Range.rightOpen(1L, 2L));
+			QueryFragmentsAndParameters unboundedUpper = getOrCreate(cache, method, "a",
+					Range.from(Range.Bound.inclusive(1L)).to(Range.Bound.unbounded()));
+
+			assertThat(createdQueries).hasValue(3);
+			assertThat(cache.size()).isEqualTo(3);
+			assertThat(closed.getCypherQuery()).contains("<= $ids.ub");
+			assertThat(rightOpen.getCypherQuery()).contains("< $ids.ub").doesNotContain("<= $ids.ub");
+			assertThat(unboundedUpper.getCypherQuery()).doesNotContain("$ids.ub");
+		}
+
+		@Test
+		void skipAndLimitShouldNotBePartOfTheShape() {
+
+			PartTreeQueryCache cache = new PartTreeQueryCache(-1);
+			Neo4jQueryMethod method = neo4jQueryMethod("findAllByNameEndingWith", String.class, Pageable.class);
+
+			QueryFragmentsAndParameters firstPage = getOrCreate(cache, method, "a", PageRequest.of(0, 10));
+			QueryFragmentsAndParameters secondPage = getOrCreate(cache, method, "a", PageRequest.of(1, 10));
+
+			assertThat(createdQueries).hasValue(1);
+			assertThat(cache.size()).isEqualTo(1);
+			assertThat(firstPage.getQueryFragments().getSkip()).isEqualTo(0L);
+			assertThat(secondPage.getQueryFragments().getSkip()).isEqualTo(10L);
+			assertThat(secondPage.getCypherQuery()).contains("SKIP 10 LIMIT 10");
+		}
+
+		@Test
+		void leastRecentlyUsedQueryShouldBeEvicted() {
+
+			PartTreeQueryCache cache = new PartTreeQueryCache(2, -1);
+			Neo4jQueryMethod method = neo4jQueryMethod("findAllByNameAndIdBetween", String.class, Range.class);
+
+			getOrCreate(cache, method, "a", Range.closed(1L, 2L));
+			getOrCreate(cache, method, "a", Range.rightOpen(1L, 2L));
+			getOrCreate(cache, method, "a", Range.closed(1L, 2L));
+			assertThat(createdQueries).hasValue(2);
+
+			// Evicts the right open range
+			getOrCreate(cache, method, "a", Range.leftOpen(1L, 2L));
+			assertThat(createdQueries).hasValue(3);
+			assertThat(cache.size()).isEqualTo(2);
+
+			getOrCreate(cache, method, "a", Range.closed(1L, 2L));
+			assertThat(createdQueries).hasValue(3);
+
+			getOrCreate(cache, method, "a", Range.rightOpen(1L, 2L));
+			assertThat(createdQueries).hasValue(4);
+			assertThat(cache.size()).isEqualTo(2);
+		}
+
+		private QueryFragmentsAndParameters getOrCreate(PartTreeQueryCache cache, Neo4jQueryMethod method,
+				Object... parameters) {
+
+			Neo4jParameterAccessor parameterAccessor = new Neo4jParameterAccessor(
+					(Neo4jQueryMethod.Neo4jParameters) method.getParameters(), parameters);
+			PartTree tree = new PartTree(method.getName(), TestEntity.class);
+			return cache.getOrCreate(Neo4jQueryType.DEFAULT, parameterAccessor, Collections.emptyList(),
+					UnaryOperator.identity(), () -> {
+						createdQueries.incrementAndGet();
+						return new CypherQueryCreator(mappingContext, TestEntity.class, Neo4jQueryType.DEFAULT, tree,
+								parameterAccessor, Collections.emptyList(), (value, conversion) -> value,
+								UnaryOperator.identity());
+					}, (value, conversion) -> value);
+		}
+	}
+
 	private static Method queryMethod(String name, Class<?>... parameters) {
 
 		return ReflectionUtils.findMethod(TestRepository.class, name, parameters);
@@ -598,6 +737,10 @@ final class RepositoryQueryTest {
 
 		Stream<TestEntity> findAllByIdGreaterThan(long id);
 
+		List<TestEntity> findAllByNameAndIdBetween(@Param("name") String name, @Param("ids") Range<Long> ids);
+
+		List<TestEntity> findAllByNameEndingWith(String name, Pageable pageable);
+
 		Mono<Page<TestEntity>> findAllByName(String name, Pageable pageable);
 
 		Mono<Slice<TestEntity>> findAllByNameStartingWith(String name, Pageable pageable);